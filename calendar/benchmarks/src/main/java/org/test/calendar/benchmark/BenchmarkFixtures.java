@@ -0,0 +1,70 @@
+package org.test.calendar.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.entity.EventEntity;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@UtilityClass
+public class BenchmarkFixtures {
+
+    public final ZoneId ZONE = ZoneId.of("Europe/Kyiv");
+    public final ZonedDateTime MONTH_DATE = ZonedDateTime.of(2025, 10, 15, 0, 0, 0, 0, ZONE);
+
+    public EventEntity eventEntity(int index) {
+        Instant startAt = MONTH_DATE.withDayOfMonth(1 + index % 28)
+                .withHour(8 + index % 10)
+                .toInstant();
+
+        return new EventEntity(
+                UUID.randomUUID(),
+                "Event " + index,
+                "Description of event " + index,
+                startAt,
+                startAt.plusSeconds(1800),
+                "Room " + index % 5
+        );
+    }
+
+    public EventDto eventDto(int index) {
+        ZonedDateTime startAt = MONTH_DATE.withDayOfMonth(1 + index % 28).withHour(8 + index % 10);
+
+        return new EventDto(
+                UUID.randomUUID(),
+                "Event " + index,
+                "Description of event " + index,
+                startAt,
+                startAt.plusMinutes(30),
+                "Room " + index % 5,
+                null,
+                null
+        );
+    }
+
+    public EventPreviewDto eventPreviewDto(int index) {
+        EventDto eventDto = eventDto(index);
+
+        return new EventPreviewDto(
+                eventDto.id(),
+                eventDto.title(),
+                eventDto.startAt(),
+                eventDto.finishAt(),
+                eventDto.location()
+        );
+    }
+
+    public List<EventEntity> eventEntities(int count) {
+        List<EventEntity> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(eventEntity(i));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,60 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.layout.ColumnLayout;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lays out one day of {@code events} events with {@link ColumnLayout}: {@code spread} starts them anywhere in the
+ * day for 15 minutes to 2 hours, {@code stacked} crowds them into two hours so clusters get hundreds of columns.
+ * {@code reused} keeps one instance like a warmed-up caller, {@code fresh} pays for growing the scratch arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnLayoutBenchmark {
+
+    private static final long MINUTE = 60_000;
+
+    @Param({"1000", "5000"})
+    public int events;
+
+    @Param({"spread", "stacked"})
+    public String shape;
+
+    private long[] starts;
+    private long[] ends;
+    private ColumnLayout layout;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int window = "stacked".equals(shape) ? 2 * 60 : 24 * 60;
+        starts = new long[events];
+        ends = new long[events];
+        for (int i = 0; i < events; i++) {
+            starts[i] = random.nextInt(window) * MINUTE;
+        }
+        Arrays.sort(starts);
+        for (int i = 0; i < events; i++) {
+            ends[i] = starts[i] + (15 + random.nextInt(106)) * MINUTE;
+        }
+        layout = new ColumnLayout();
+    }
+
+    @Benchmark
+    public int reused() {
+        return layout.layout(starts, ends, events);
+    }
+
+    @Benchmark
+    public int fresh() {
+        return new ColumnLayout().layout(starts, ends, events);
+    }
+}
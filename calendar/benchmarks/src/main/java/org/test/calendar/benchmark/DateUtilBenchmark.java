@@ -0,0 +1,36 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.util.DateUtil;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilBenchmark {
+
+    private ZonedDateTime zonedDateTime;
+    private Instant instant;
+
+    @Setup
+    public void setUp() {
+        zonedDateTime = BenchmarkFixtures.MONTH_DATE;
+        instant = zonedDateTime.toInstant();
+    }
+
+    @Benchmark
+    public Instant toInstant() {
+        return DateUtil.toInstant(zonedDateTime);
+    }
+
+    @Benchmark
+    public ZonedDateTime toZonedDateTime() {
+        return DateUtil.toZonedDateTime(instant);
+    }
+}
@@ -0,0 +1,38 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.entity.EventEntity;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private EventMapper eventMapper;
+    private EventEntity eventEntity;
+
+    @Setup
+    public void setUp() {
+        eventMapper = new EventMapperImpl();
+        eventEntity = BenchmarkFixtures.eventEntity(1);
+    }
+
+    @Benchmark
+    public EventDto toEventDto() {
+        return eventMapper.toEventDto(eventEntity);
+    }
+
+    @Benchmark
+    public EventPreviewDto toEventPreviewDto() {
+        return eventMapper.toEventPreviewDto(eventEntity);
+    }
+}
@@ -0,0 +1,64 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.test.calendar.CalendarApplication;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.service.EventService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int eventsPerMonth;
+
+    @Param({"false", "true"})
+    private boolean previewCache;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CalendarApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:calendar-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--calendar.cache.previews.enabled=" + previewCache,
+                        "--logging.level.root=WARN"
+                );
+
+        eventService = context.getBean(EventService.class);
+
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        eventRepository.saveAll(BenchmarkFixtures.eventEntities(eventsPerMonth).stream()
+                .map(event -> event.withId(null))
+                .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventPreviewDto> getEventPreviewsForMonth() {
+        return eventService.getEventPreviewsForMonth(BenchmarkFixtures.MONTH_DATE);
+    }
+}
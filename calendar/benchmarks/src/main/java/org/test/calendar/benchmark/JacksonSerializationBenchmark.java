@@ -0,0 +1,54 @@
+package org.test.calendar.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPreviewDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<EventDto> events;
+    private List<EventPreviewDto> previews;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to the MVC ObjectMapper
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        events = new ArrayList<>(size);
+        previews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(BenchmarkFixtures.eventDto(i));
+            previews.add(BenchmarkFixtures.eventPreviewDto(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializePreviews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(previews);
+    }
+}
@@ -0,0 +1,23 @@
+package org.test.calendar.benchmark;
+
+import org.test.calendar.metrics.JdbcStatementCounter;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Adds a fixed delay to every statement Hibernate prepares, so an in-memory H2 behaves like a database with
+ * a network round trip. The delay runs while the connection is checked out, which is what makes the pool
+ * and the JDBC gate the bottleneck. Set through the {@code benchmark.db-latency-ms} system property.
+ */
+public class LatencyStatementInspector extends JdbcStatementCounter {
+
+    private static final long LATENCY_NANOS = Long.getLong("benchmark.db-latency-ms", 0) * 1_000_000;
+
+    @Override
+    public String inspect(String sql) {
+        if (LATENCY_NANOS > 0) {
+            LockSupport.parkNanos(LATENCY_NANOS);
+        }
+        return super.inspect(sql);
+    }
+}
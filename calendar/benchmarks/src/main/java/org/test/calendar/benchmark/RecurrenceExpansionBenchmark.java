@@ -0,0 +1,88 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.test.calendar.recurrence.OccurrenceIterator;
+import org.test.calendar.recurrence.RecurrenceSeries;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expands one month of a series that started 25 years earlier: {@link OccurrenceIterator#skipTo} against
+ * stepping through every earlier occurrence with {@link OccurrenceIterator#next()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceExpansionBenchmark {
+
+    private static final ZonedDateTime FIRST_START_AT = ZonedDateTime.parse("2000-01-03T09:00:00+02:00[Europe/Kyiv]");
+
+    @Param({
+            "FREQ=DAILY",
+            "FREQ=DAILY;COUNT=10000",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=10000",
+            "FREQ=MONTHLY;BYDAY=1MO"
+    })
+    public String rule;
+
+    private RecurrenceSeries series;
+    private Instant from;
+    private Instant to;
+    private long fromDay;
+    private long toDay;
+
+    @Setup
+    public void setUp() {
+        series = RecurrenceSeries.of(rule, FIRST_START_AT, FIRST_START_AT.plusMinutes(30), null);
+        from = BenchmarkFixtures.MONTH_DATE.withDayOfMonth(1).toInstant();
+        to = BenchmarkFixtures.MONTH_DATE.withDayOfMonth(1).plusMonths(1).toInstant();
+        fromDay = LocalDate.ofInstant(from, ZoneOffset.UTC).toEpochDay();
+        toDay = LocalDate.ofInstant(to, ZoneOffset.UTC).toEpochDay();
+    }
+
+    @Benchmark
+    public void forEachOccurrence(Blackhole blackhole) {
+        series.forEachOccurrence(from, to, (startAt, finishAt) -> {
+            blackhole.consume(startAt);
+            return true;
+        });
+    }
+
+    @Benchmark
+    public long skipTo() {
+        OccurrenceIterator iterator = series.iterator();
+        iterator.skipTo(fromDay);
+        return countUntilEnd(iterator);
+    }
+
+    @Benchmark
+    public long iterateFromFirst() {
+        OccurrenceIterator iterator = series.iterator();
+        long day = iterator.next();
+        while (day != OccurrenceIterator.DONE && day < fromDay) {
+            day = iterator.next();
+        }
+        long count = 0;
+        for (; day != OccurrenceIterator.DONE && day < toDay; day = iterator.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    private long countUntilEnd(OccurrenceIterator iterator) {
+        long count = 0;
+        for (long day = iterator.next(); day != OccurrenceIterator.DONE && day < toDay; day = iterator.next()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,45 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.validation.annotation.SameDay;
+import org.test.calendar.validation.annotation.SameDayValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the method-handle {@link SameDayValidator} with the previous reflective implementation;
+ * run with {@code -prof gc} (on by default in {@link BenchmarkRunner}) to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SameDayValidatorBenchmark {
+
+    private SameDayValidator validator;
+    private ReflectiveSameDayValidator reflectiveValidator;
+    private EventDto eventDto;
+
+    @Setup
+    public void setUp() {
+        SameDay sameDay = EventDto.class.getAnnotation(SameDay.class);
+        validator = new SameDayValidator();
+        validator.initialize(sameDay);
+        reflectiveValidator = new ReflectiveSameDayValidator();
+        reflectiveValidator.initialize(sameDay);
+        eventDto = BenchmarkFixtures.eventDto(1);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(eventDto, null);
+    }
+
+    @Benchmark
+    public boolean isValidReflective() {
+        return reflectiveValidator.isValid(eventDto, null);
+    }
+}
@@ -0,0 +1,149 @@
+package org.test.calendar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.test.calendar.util.UuidV7;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a {@code BINARY(16)} clustered key for random (v4) vs time-ordered (v7) ids.
+ * Defaults run against H2; for realistic numbers point it at MySQL with a large preload, e.g.
+ * {@code -p jdbcUrl=jdbc:mysql://localhost:3306/calendar?rewriteBatchedStatements=true -p preloadedRows=10000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private Strategy strategy;
+
+    @Param("jdbc:h2:mem:uuid-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    private String jdbcUrl;
+
+    @Param("sa")
+    private String username;
+
+    @Param("")
+    private String password;
+
+    @Param("100000")
+    private int preloadedRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_benchmark_events");
+            statement.execute("""
+                    CREATE TABLE uuid_benchmark_events
+                    (
+                        id        BINARY(16) PRIMARY KEY,
+                        title     VARCHAR(255) NOT NULL,
+                        start_at  TIMESTAMP(3) NOT NULL,
+                        finish_at TIMESTAMP(3) NOT NULL
+                    )
+                    """);
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement(
+                "INSERT INTO uuid_benchmark_events (id, title, start_at, finish_at) VALUES (?, ?, ?, ?)");
+
+        for (int loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        printTableSize();
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp startAt = Timestamp.from(Instant.now());
+        Timestamp finishAt = Timestamp.from(startAt.toInstant().plusSeconds(1800));
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(strategy.next()));
+            insert.setString(2, "Benchmark event");
+            insert.setTimestamp(3, startAt);
+            insert.setTimestamp(4, finishAt);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private void printTableSize() throws SQLException {
+        if (!jdbcUrl.startsWith("jdbc:mysql:")) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE uuid_benchmark_events");
+            try (ResultSet resultSet = statement.executeQuery("""
+                    SELECT table_rows, data_length, index_length, data_free
+                    FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'uuid_benchmark_events'
+                    """)) {
+                if (resultSet.next()) {
+                    System.out.printf("%n[%s] rows=%d data=%d MiB index=%d MiB free=%d MiB%n",
+                            strategy,
+                            resultSet.getLong("table_rows"),
+                            resultSet.getLong("data_length") >> 20,
+                            resultSet.getLong("index_length") >> 20,
+                            resultSet.getLong("data_free") >> 20);
+                }
+            }
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public enum Strategy {
+        RANDOM {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        TIME_ORDERED {
+            @Override
+            UUID next() {
+                return UuidV7.randomUuid();
+            }
+        };
+
+        abstract UUID next();
+    }
+}
@@ -0,0 +1,182 @@
+package org.test.calendar.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.test.calendar.CalendarApplication;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Closed-loop HTTP load test of {@code GET /events/{id}} with platform vs virtual request threads. Boots the
+ * service once per mode on H2 with an artificial per-statement latency, keeps {@code concurrency} clients
+ * busy for the measurement window and prints throughput and latency percentiles. Not a JMH benchmark, run it
+ * from the benchmarks jar:
+ * <pre>
+ * java -cp target/benchmarks.jar org.test.calendar.benchmark.VirtualThreadLoadTest \
+ *   concurrency=2000 latencyMs=20 poolSize=400 seconds=20
+ * </pre>
+ */
+public class VirtualThreadLoadTest {
+
+    private static final int EVENTS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Arrays.stream(args)
+                .map(arg -> arg.split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1]));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "2000"));
+        int latencyMs = Integer.parseInt(options.getOrDefault("latencyMs", "20"));
+        int poolSize = Integer.parseInt(options.getOrDefault("poolSize", "400"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmupSeconds", "5"));
+
+        System.setProperty("benchmark.db-latency-ms", String.valueOf(latencyMs));
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads, concurrency, poolSize, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(seconds)));
+        }
+
+        System.out.printf("%nconcurrency=%d latencyMs=%d poolSize=%d seconds=%d%n", concurrency, latencyMs, poolSize, seconds);
+        System.out.printf("%-9s %12s %10s %10s %10s %8s %8s%n", "threads", "req/s", "p50 ms", "p99 ms", "max ms", "503", "errors");
+        results.forEach(Result::print);
+    }
+
+    private static Result run(boolean virtualThreads, int concurrency, int poolSize, Duration warmup, Duration measurement)
+            throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CalendarApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--calendar.jdbc-gate.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:calendar-load-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + LatencyStatementInspector.class.getName(),
+                "--calendar.cache.previews.enabled=false",
+                "--logging.level.root=WARN")) {
+
+            List<UUID> ids = context.getBean(EventRepository.class)
+                    .saveAll(IntStream.range(0, EVENTS)
+                            .mapToObj(index -> BenchmarkFixtures.eventEntity(index).withId(null))
+                            .toList())
+                    .stream()
+                    .map(EventEntity::getId)
+                    .toList();
+            String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/events/";
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build()) {
+                drive(client, baseUri, ids, concurrency, warmup);
+                return Result.of(virtualThreads ? "virtual" : "platform", measurement,
+                        drive(client, baseUri, ids, concurrency, measurement));
+            }
+        }
+    }
+
+    private static List<Samples> drive(HttpClient client, String baseUri, List<UUID> ids, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Samples>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    Samples samples = new Samples();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create(baseUri + ids.get(ThreadLocalRandom.current().nextInt(ids.size()))))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            samples.record(System.nanoTime() - start, status);
+                        } catch (Exception e) {
+                            samples.errors++;
+                        }
+                    }
+                    return samples;
+                }));
+            }
+            List<Samples> all = new ArrayList<>(concurrency);
+            for (Future<Samples> future : futures) {
+                all.add(future.get());
+            }
+            return all;
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long unavailable;
+        private long errors;
+
+        void record(long nanos, int status) {
+            if (status == 503) {
+                unavailable++;
+                return;
+            }
+            if (status != 200) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, double max, long unavailable, long errors) {
+
+        static Result of(String mode, Duration measurement, List<Samples> samples) {
+            long[] latencies = samples.stream()
+                    .flatMapToLong(sample -> Arrays.stream(sample.latencies, 0, sample.count))
+                    .sorted()
+                    .toArray();
+            if (latencies.length == 0) {
+                throw new IllegalStateException("No successful requests in " + mode + " mode");
+            }
+            return new Result(
+                    mode,
+                    latencies.length / (double) measurement.toSeconds(),
+                    millis(latencies, 0.50),
+                    millis(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1e6,
+                    samples.stream().mapToLong(sample -> sample.unavailable).sum(),
+                    samples.stream().mapToLong(sample -> sample.errors).sum());
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+        }
+
+        void print() {
+            System.out.printf("%-9s %12.0f %10.1f %10.1f %10.1f %8d %8d%n", mode, throughput, p50, p99, max, unavailable, errors);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.test.calendar.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+import org.test.calendar.config.EventFeedProperties;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rendered iCalendar VEVENTs of one UTC day, bounded by their total length. A fragment is only served while the
+ * stamp it was rendered for still matches the day's current stamp, so writes need no invalidation hook and
+ * writes made outside this instance are picked up as well. A fragment with an outdated stamp counts as a miss.
+ */
+@Component
+public class EventFeedCache implements MeterBinder {
+
+    private static final Tags TAGS = Tags.of("cache", "eventFeedDays");
+
+    private final Cache<LocalDate, DayFragment> fragments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EventFeedCache(EventFeedProperties properties) {
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(properties.cacheMaxSize().toBytes())
+                .<LocalDate, DayFragment>weigher((day, fragment) -> fragment.ics().length())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the fragment of {@code day} if it was rendered for {@code stamp}, otherwise null.
+     */
+    public String get(@NonNull LocalDate day, @NonNull DayStamp stamp) {
+        DayFragment fragment = fragments.asMap().get(day);
+        if (fragment == null || !fragment.stamp().equals(stamp)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return fragment.ics();
+    }
+
+    public void put(@NonNull LocalDate day, @NonNull DayStamp stamp, @NonNull String ics) {
+        fragments.put(day, new DayFragment(stamp, ics));
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags(TAGS).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags(TAGS).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", fragments, cache -> cache.stats().evictionCount())
+                .tags(TAGS)
+                .register(registry);
+        Gauge.builder("cache.size", fragments, Cache::estimatedSize)
+                .tags(TAGS)
+                .register(registry);
+    }
+
+    /**
+     * Order-independent digest of the events starting on a day: their count and the sum of a 64-bit mix of each
+     * event's id and version. Inserts, deletes and updates, which bump the version, all change it.
+     */
+    public record DayStamp(long count, long digest) {
+
+        public static final DayStamp EMPTY = new DayStamp(0, 0);
+
+        public DayStamp with(long idMostSignificantBits, long idLeastSignificantBits, long version) {
+            long hash = idMostSignificantBits * 0x9E3779B97F4A7C15L ^ idLeastSignificantBits ^ version * 0xC2B2AE3D27D4EB4FL;
+            // Murmur3 finalizer, so that nearby ids and versions do not cancel out in the sum
+            hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+            hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return new DayStamp(count + 1, digest + hash);
+        }
+    }
+
+    private record DayFragment(DayStamp stamp, String ics) {
+    }
+}
@@ -0,0 +1,295 @@
+package org.test.calendar.cache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.model.dto.EventPreviewDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * In-process cache of event previews bucketed by the UTC day of their start time.
+ * <p>
+ * A month requested in any zone maps to a run of UTC days, so months in different zones share buckets;
+ * the partial first and last days are trimmed to the exact range on read. Buckets are evicted in LRU order
+ * once the total number of cached previews exceeds {@code maxWeight}, and a day is reloaded once it is older than
+ * {@code ttl}. Writes invalidate the days they touch after commit and bump an epoch, so a load that raced with a
+ * write is never stored.
+ * <p>
+ * Concurrent requests for the same missing range share one database query through {@link SingleFlight}, also
+ * when caching is disabled. A committed write detaches the running queries, so a request that starts after the
+ * write never joins a query that may have missed it.
+ */
+@Slf4j
+@Component
+public class EventPreviewCache {
+
+    private static final Comparator<EventPreviewDto> BY_START_AT = Comparator.comparing(EventPreviewDto::startAt);
+
+    private final EventPreviewCacheProperties properties;
+    private final LinkedHashMap<LocalDate, Bucket> buckets = new LinkedHashMap<>(64, 0.75f, true);
+    private final SingleFlight<LoadRange, List<EventPreviewDto>> loads = new SingleFlight<>();
+
+    private long weight;
+    private long epoch;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public EventPreviewCache(EventPreviewCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Returns previews starting within {@code [from, to]}, loading missing days through {@code loader},
+     * which receives an inclusive instant range.
+     */
+    public List<EventPreviewDto> getPreviews(
+            @NonNull Instant from,
+            @NonNull Instant to,
+            @NonNull BiFunction<Instant, Instant, List<EventPreviewDto>> loader
+    ) {
+        if (!properties.enabled()) {
+            return loads.load(new LoadRange(from, to), () -> loader.apply(from, to));
+        }
+
+        LocalDate firstDay = LocalDate.ofInstant(from, ZoneOffset.UTC);
+        LocalDate lastDay = LocalDate.ofInstant(to, ZoneOffset.UTC);
+
+        Map<LocalDate, List<EventPreviewDto>> found = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        long loadEpoch;
+
+        long now = System.nanoTime();
+        synchronized (this) {
+            loadEpoch = epoch;
+            for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                Bucket bucket = buckets.get(day);
+                // An expired day counts as missing and is replaced by the load below
+                if (bucket != null && now - bucket.loadedAtNanos() < properties.ttl().toNanos()) {
+                    found.put(day, bucket.previews());
+                } else {
+                    if (firstMissing == null) {
+                        firstMissing = day;
+                    }
+                    lastMissing = day;
+                }
+            }
+        }
+
+        long days = lastDay.toEpochDay() - firstDay.toEpochDay() + 1;
+        hits.addAndGet(found.size());
+        misses.addAndGet(days - found.size());
+
+        if (firstMissing != null) {
+            Map<LocalDate, List<EventPreviewDto>> loaded = load(firstMissing, lastMissing, found.keySet(), loader);
+            store(loaded, loadEpoch, now);
+            found.putAll(loaded);
+        }
+
+        List<EventPreviewDto> result = new ArrayList<>();
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            List<EventPreviewDto> bucket = found.get(day);
+            boolean boundary = day.equals(firstDay) || day.equals(lastDay);
+            for (EventPreviewDto preview : bucket) {
+                if (!boundary || isWithin(preview, from, to)) {
+                    result.add(preview);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops the days of the given event start times once the current transaction commits,
+     * or immediately when no transaction is active.
+     */
+    public void invalidate(@NonNull Collection<Instant> startAts) {
+        if (!properties.enabled()) {
+            afterCommit(loads::detachAll);
+            return;
+        }
+        if (startAts.isEmpty()) {
+            return;
+        }
+
+        Set<LocalDate> days = new HashSet<>();
+        for (Instant startAt : startAts) {
+            if (startAt != null) {
+                days.add(LocalDate.ofInstant(startAt, ZoneOffset.UTC));
+            }
+        }
+        afterCommit(() -> evictDays(days));
+    }
+
+    /**
+     * Drops every day overlapping {@code [from, to]} once the current transaction commits.
+     */
+    public void invalidateRange(@NonNull Instant from, @NonNull Instant to) {
+        if (!properties.enabled()) {
+            afterCommit(loads::detachAll);
+            return;
+        }
+
+        Set<LocalDate> days = new HashSet<>();
+        LocalDate lastDay = LocalDate.ofInstant(to, ZoneOffset.UTC);
+        for (LocalDate day = LocalDate.ofInstant(from, ZoneOffset.UTC); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        afterCommit(() -> evictDays(days));
+    }
+
+    public void invalidateAll() {
+        if (!properties.enabled()) {
+            afterCommit(loads::detachAll);
+            return;
+        }
+
+        afterCommit(() -> {
+            synchronized (this) {
+                epoch++;
+                loads.detachAll();
+                buckets.clear();
+                weight = 0;
+            }
+            invalidations.incrementAndGet();
+        });
+    }
+
+    public synchronized EventPreviewCacheStats stats() {
+        return new EventPreviewCacheStats(
+                hits.get(),
+                misses.get(),
+                evictions.get(),
+                invalidations.get(),
+                loads.coalesced(),
+                loads.detached(),
+                buckets.size(),
+                weight
+        );
+    }
+
+    private Map<LocalDate, List<EventPreviewDto>> load(
+            LocalDate firstMissing,
+            LocalDate lastMissing,
+            Set<LocalDate> cached,
+            BiFunction<Instant, Instant, List<EventPreviewDto>> loader
+    ) {
+        Instant loadFrom = firstMissing.atStartOfDay(ZoneOffset.UTC).toInstant();
+        // The loader range is inclusive; start_at has millisecond precision
+        Instant loadTo = lastMissing.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusMillis(1);
+        List<EventPreviewDto> previews = loads.load(new LoadRange(loadFrom, loadTo), () -> loader.apply(loadFrom, loadTo));
+
+        Map<LocalDate, List<EventPreviewDto>> loaded = new HashMap<>();
+        for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+            if (!cached.contains(day)) {
+                loaded.put(day, new ArrayList<>());
+            }
+        }
+        for (EventPreviewDto preview : previews) {
+            List<EventPreviewDto> bucket = loaded.get(LocalDate.ofInstant(preview.startAt().toInstant(), ZoneOffset.UTC));
+            if (bucket != null) {
+                bucket.add(preview);
+            }
+        }
+        loaded.replaceAll((day, bucket) -> {
+            bucket.sort(BY_START_AT);
+            return List.copyOf(bucket);
+        });
+        return loaded;
+    }
+
+    private synchronized void store(Map<LocalDate, List<EventPreviewDto>> loaded, long loadEpoch, long loadedAtNanos) {
+        if (epoch != loadEpoch) {
+            log.debug("Skipping store of {} preview days, cache was invalidated during load", loaded.size());
+            return;
+        }
+
+        loaded.forEach((day, previews) -> {
+            Bucket previous = buckets.put(day, new Bucket(previews, loadedAtNanos));
+            if (previous != null) {
+                weight -= weightOf(previous.previews());
+            }
+            weight += weightOf(previews);
+        });
+
+        Iterator<Map.Entry<LocalDate, Bucket>> eldest = buckets.entrySet().iterator();
+        while (weight > properties.maxWeight() && eldest.hasNext()) {
+            weight -= weightOf(eldest.next().getValue().previews());
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void evictDays(Set<LocalDate> days) {
+        synchronized (this) {
+            // Detaching under the lock that guards the epoch means a caller that reads the new epoch
+            // can no longer join a load that started before it
+            epoch++;
+            loads.detachAll();
+            for (LocalDate day : days) {
+                Bucket removed = buckets.remove(day);
+                if (removed != null) {
+                    weight -= weightOf(removed.previews());
+                }
+            }
+        }
+        invalidations.incrementAndGet();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static boolean isWithin(EventPreviewDto preview, Instant from, Instant to) {
+        Instant startAt = preview.startAt().toInstant();
+        return !startAt.isBefore(from) && !startAt.isAfter(to);
+    }
+
+    private static long weightOf(List<EventPreviewDto> bucket) {
+        // Empty days still take an entry, so they weigh at least one
+        return bucket.size() + 1L;
+    }
+
+    /**
+     * Previews of one day, with the time their load started: a write committed during the load may be missing.
+     */
+    private record Bucket(List<EventPreviewDto> previews, long loadedAtNanos) {
+    }
+
+    private record LoadRange(Instant from, Instant to) {
+    }
+}
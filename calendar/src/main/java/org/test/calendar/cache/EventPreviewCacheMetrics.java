@@ -0,0 +1,50 @@
+package org.test.calendar.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@link EventPreviewCache} statistics under Micrometer's {@code cache.*} names. Hits and misses count days,
+ * coalesced loads count requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventPreviewCacheMetrics implements MeterBinder {
+
+    private static final Tags TAGS = Tags.of("cache", "eventPreviews");
+
+    private final EventPreviewCache previewCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", previewCache, cache -> cache.stats().hits())
+                .tags(TAGS).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", previewCache, cache -> cache.stats().misses())
+                .tags(TAGS).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", previewCache, cache -> cache.stats().evictions())
+                .tags(TAGS)
+                .register(registry);
+        FunctionCounter.builder("cache.invalidations", previewCache, cache -> cache.stats().invalidations())
+                .tags(TAGS)
+                .register(registry);
+        FunctionCounter.builder("cache.loads.coalesced", previewCache, cache -> cache.stats().coalescedLoads())
+                .tags(TAGS)
+                .register(registry);
+        FunctionCounter.builder("cache.loads.detached", previewCache, cache -> cache.stats().detachedLoads())
+                .tags(TAGS)
+                .register(registry);
+        Gauge.builder("cache.size", previewCache, cache -> cache.stats().days())
+                .tags(TAGS)
+                .register(registry);
+        Gauge.builder("cache.weight", previewCache, cache -> cache.stats().weight())
+                .tags(TAGS)
+                .register(registry);
+    }
+}
@@ -0,0 +1,13 @@
+package org.test.calendar.cache;
+
+public record EventPreviewCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long invalidations,
+        long coalescedLoads,
+        long detachedLoads,
+        int days,
+        long weight
+) {
+}
@@ -0,0 +1,74 @@
+package org.test.calendar.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time. Callers that arrive while a load for their key is running wait for it
+ * and share its result, or its exception, instead of starting their own.
+ * <p>
+ * {@link #detachAll()} forgets the running loads: callers already waiting still get the result of the load they
+ * joined, since they overlapped the change that made it stale, but every later caller starts a fresh load.
+ */
+class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder detached = new LongAdder();
+
+    V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            // A no-op when a write has already detached this load
+            inFlight.remove(key, flight);
+        }
+    }
+
+    void detachAll() {
+        inFlight.forEach((key, flight) -> {
+            if (inFlight.remove(key, flight)) {
+                detached.increment();
+            }
+        });
+    }
+
+    long coalesced() {
+        return coalesced.sum();
+    }
+
+    long detached() {
+        return detached.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
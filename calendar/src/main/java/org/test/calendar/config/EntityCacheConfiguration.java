@@ -0,0 +1,64 @@
+package org.test.calendar.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.test.calendar.model.entity.EventEntity;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache backed by an in-process Caffeine JCache. Regions are created here with the
+ * configured size and TTL instead of through a Caffeine config file, and Hibernate is told to fail on any
+ * region that is not created here. Hit, miss and put counts are published per region by Hibernate's own
+ * metrics ({@code hibernate.second.level.cache.*}).
+ */
+@Configuration
+public class EntityCacheConfiguration {
+
+    @Bean
+    HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties properties,
+                                                        ObjectProvider<CacheManager> entityCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+            if (!properties.enabled()) {
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager.getObject());
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * A manager owned by this application context and closed with it. The provider's default manager is
+     * shared by every context in the JVM, so two contexts (e.g. cached test contexts) would read each
+     * other's entries and keep the TTL and size of whichever created the region first.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "calendar.cache.entities", name = "enabled", matchIfMissing = true)
+    CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // Not a file or classpath URI, so the manager gets the provider's default Caffeine settings
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("calendar:entity-cache:" + UUID.randomUUID()), EntityCacheConfiguration.class.getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.maxSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.ttl().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(EventEntity.CACHE_REGION, configuration);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,26 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.cache.entities")
+public record EntityCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("10000")
+        long maxSize,
+
+        @NotNull
+        @DefaultValue("10m")
+        Duration ttl
+) {
+}
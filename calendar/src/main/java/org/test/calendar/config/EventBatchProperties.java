@@ -0,0 +1,20 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.batch")
+public record EventBatchProperties(
+
+        @Min(1)
+        @DefaultValue("500")
+        int chunkSize,
+
+        @Min(1)
+        @DefaultValue("10000")
+        int maxOperations
+) {
+}
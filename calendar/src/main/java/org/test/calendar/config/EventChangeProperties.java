@@ -0,0 +1,46 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.changes")
+public record EventChangeProperties(
+
+        @NotNull
+        @DefaultValue("5s")
+        Duration settleTime,
+
+        // Longest a write may take from recording its change to committing; 0s turns the check off
+        @NotNull
+        @DefaultValue("3s")
+        Duration commitTimeout,
+
+        @NotNull
+        @DefaultValue("30d")
+        Duration retention,
+
+        @Min(1)
+        @DefaultValue("100")
+        int defaultPageSize,
+
+        @Min(1)
+        @DefaultValue("1000")
+        int maxPageSize
+) {
+
+    /**
+     * A change is served once it is older than the settle time, so every write must have committed by then.
+     * The difference covers the commit itself and the clock skew between instances.
+     */
+    @AssertTrue(message = "settle-time must be longer than commit-timeout")
+    public boolean isSettleTimeAboveCommitTimeout() {
+        return commitTimeout == null || settleTime == null || commitTimeout.isZero() || settleTime.compareTo(commitTimeout) > 0;
+    }
+}
@@ -0,0 +1,18 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.day-counts")
+public record EventDayCountProperties(
+
+        @NotNull
+        @DefaultValue("400d")
+        Duration maxRange
+) {
+}
@@ -0,0 +1,31 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.feed")
+public record EventFeedProperties(
+
+        @NotNull
+        @DefaultValue("30d")
+        Duration past,
+
+        @NotNull
+        @DefaultValue("365d")
+        Duration future,
+
+        @NotNull
+        @DefaultValue("400d")
+        Duration maxRange,
+
+        @NotNull
+        @DefaultValue("32MB")
+        DataSize cacheMaxSize
+) {
+}
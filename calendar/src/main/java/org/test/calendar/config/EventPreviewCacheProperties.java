@@ -0,0 +1,27 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.cache.previews")
+public record EventPreviewCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("100000")
+        int maxWeight,
+
+        // Bounds how long a day survives a write the invalidation never saw, e.g. one made directly in MySQL
+        @NotNull
+        @DefaultValue("10m")
+        Duration ttl
+) {
+}
@@ -0,0 +1,45 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.events")
+public record EventProperties(
+
+        // A same-day event spans at most 25 hours, on the day clocks go back
+        @NotNull
+        @DefaultValue("25h")
+        Duration maxDuration,
+
+        @NotNull
+        @DefaultValue("NONE")
+        ConflictMode conflictMode
+) {
+
+    /**
+     * Whether an event from {@code startAt} to {@code finishAt} lasts longer than {@link #maxDuration}. Range scans
+     * reach back only {@code maxDuration} for events starting before the range, so no write may store a longer one.
+     */
+    public boolean exceedsMaxDuration(Instant startAt, Instant finishAt) {
+        return Duration.between(startAt, finishAt).compareTo(maxDuration) > 0;
+    }
+
+    public String maxDurationMessage() {
+        return "Event must not last longer than " + maxDuration;
+    }
+
+    public enum ConflictMode {
+        /** Overlaps are not checked. */
+        NONE,
+        /** Overlapping writes are accepted, logged and counted. */
+        REPORT,
+        /** Overlapping writes are rejected with 409 Conflict. */
+        REJECT
+    }
+}
@@ -0,0 +1,41 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.stream")
+public record EventStreamProperties(
+
+        // Each stream holds a connection, so this stays below server.tomcat.max-connections (8192 by default)
+        // with room left for ordinary requests
+        @Min(0)
+        @DefaultValue("6000")
+        int maxSubscribers,
+
+        @Min(2)
+        @DefaultValue("64")
+        int queueCapacity,
+
+        @Min(1)
+        @DefaultValue("10000")
+        int dispatchCapacity,
+
+        @NotNull
+        @DefaultValue("30s")
+        Duration heartbeat,
+
+        @NotNull
+        @DefaultValue("30m")
+        Duration timeout,
+
+        @NotNull
+        @DefaultValue("62d")
+        Duration maxRange
+) {
+}
@@ -0,0 +1,18 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.free-busy")
+public record FreeBusyProperties(
+
+        @NotNull
+        @DefaultValue("62d")
+        Duration maxRange
+) {
+}
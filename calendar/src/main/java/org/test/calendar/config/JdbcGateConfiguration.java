@@ -0,0 +1,71 @@
+package org.test.calendar.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.test.calendar.jdbc.GatedDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Puts a {@link GatedDataSource} in front of the Hikari pool when {@code calendar.jdbc-gate.enabled} is set.
+ * The wrapper is applied after initialization, so Flyway, JPA and the Hikari metrics all see the gated
+ * data source and still reach the pool through {@code unwrap}.
+ */
+@Slf4j
+@Configuration
+public class JdbcGateConfiguration {
+
+    private static final String METRIC_PREFIX = "calendar.jdbc.gate";
+
+    @Bean
+    static BeanPostProcessor jdbcGatePostProcessor(ObjectProvider<JdbcGateProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari) || !properties.getObject().enabled()) {
+                    return bean;
+                }
+                JdbcGateProperties gate = properties.getObject();
+                int permits = gate.permits() != null ? gate.permits() : hikari.getMaximumPoolSize();
+                log.info("Gating data source '{}' at {} permits, acquire timeout {}", beanName, permits, gate.acquireTimeout());
+                return new GatedDataSource(hikari, permits, gate.acquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder jdbcGateMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            GatedDataSource gate = gatedDataSource(dataSource.getIfUnique());
+            if (gate == null) {
+                return;
+            }
+            Gauge.builder(METRIC_PREFIX + ".permits", gate, GatedDataSource::getPermits)
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".available", gate, GatedDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".waiting", gate, GatedDataSource::getWaiting)
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".timeouts", gate, GatedDataSource::getTimeouts)
+                    .register(registry);
+        };
+    }
+
+    private static GatedDataSource gatedDataSource(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(GatedDataSource.class)
+                    ? dataSource.unwrap(GatedDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
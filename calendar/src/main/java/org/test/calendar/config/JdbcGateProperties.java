@@ -0,0 +1,27 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.jdbc-gate")
+public record JdbcGateProperties(
+
+        // Off unless configured: the gate only pays off when virtual threads lift the request thread cap
+        @DefaultValue("false")
+        boolean enabled,
+
+        // Defaults to the Hikari maximum pool size when unset
+        @Min(1)
+        Integer permits,
+
+        @NotNull
+        @DefaultValue("5s")
+        Duration acquireTimeout
+) {
+}
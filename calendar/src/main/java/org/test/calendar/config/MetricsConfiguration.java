@@ -0,0 +1,19 @@
+package org.test.calendar.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.test.calendar.metrics.StatementsPerRequestInterceptor;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    private final StatementsPerRequestInterceptor statementsPerRequestInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementsPerRequestInterceptor).addPathPatterns("/events/**");
+    }
+}
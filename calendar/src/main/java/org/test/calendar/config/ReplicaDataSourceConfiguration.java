@@ -0,0 +1,145 @@
+package org.test.calendar.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.test.calendar.jdbc.ReadYourWritesInterceptor;
+import org.test.calendar.jdbc.ReplicaRouter;
+import org.test.calendar.jdbc.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends read-only transactions to a replica pool when {@code calendar.datasource.replica.enabled} is set. The
+ * primary and the replica are separate Hikari pools ({@code calendar} and {@code calendar-replica} by default), so
+ * both are gated and both report their own {@code hikaricp_*} metrics. The data source everyone else sees is a
+ * {@link LazyConnectionDataSourceProxy} over the primary, which fetches the connection of a read-only transaction
+ * through a {@link ReplicaRoutingDataSource} instead. Boot's own data source steps back, since one is defined here.
+ * <p>
+ * Reads that fill a shared cache run on the primary through {@link ReplicaRouter#onPrimary}: the month preview
+ * loads, their ETag and {@code GET /events/{id}}, which refills the second-level cache. A write evicts its entries
+ * after commit, and a replica that is behind would load the rows from before the write into them again, where they
+ * would stay for the cache's TTL. The export and the feed may read the replica and keep their rows out of the
+ * second-level cache instead. The change log is read from the primary as well.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "calendar.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration implements WebMvcConfigurer {
+
+    private static final String METRIC_PREFIX = "calendar.datasource";
+
+    private final ReplicaDataSourceProperties properties;
+    private final ObjectProvider<ReplicaRouter> replicaRouter;
+
+    public ReplicaDataSourceConfiguration(ReplicaDataSourceProperties properties,
+                                          ObjectProvider<ReplicaRouter> replicaRouter) {
+        this.properties = properties;
+        this.replicaRouter = replicaRouter;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("calendar.datasource.replica.hikari")
+    HikariDataSource replicaDataSource() {
+        Assert.hasText(properties.url(), "calendar.datasource.replica.url must be set when the replica is enabled");
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.url())
+                .username(properties.username())
+                .password(properties.password())
+                .build();
+        replica.setPoolName("calendar-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    ReplicaRouter replicaRouter(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica
+    ) {
+        log.info("Routing read-only transactions to replica {} while it is at most {} behind",
+                properties.url(), properties.maxLag());
+        return new ReplicaRouter(primary, replica, properties.maxLag());
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaRouter replicaRouter
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(replica, primary, replicaRouter));
+        return dataSource;
+    }
+
+    @Bean
+    MeterBinder replicaRoutingMetrics(ReplicaRouter replicaRouter) {
+        return registry -> {
+            for (ReplicaRouter.Reason reason : ReplicaRouter.Reason.values()) {
+                FunctionCounter.builder(METRIC_PREFIX + ".read.routes", replicaRouter, router -> router.getRoutes(reason))
+                        .description("Connections of read-only transactions by the pool they came from")
+                        .tag("target", reason.target())
+                        .tag("reason", reason.tag())
+                        .register(registry);
+            }
+            Gauge.builder(METRIC_PREFIX + ".replica.available", replicaRouter, router -> router.isAvailable() ? 1 : 0)
+                    .register(registry);
+            TimeGauge.builder(METRIC_PREFIX + ".replica.lag", replicaRouter, TimeUnit.MILLISECONDS, router -> {
+                        Duration lag = router.getLag();
+                        return lag != null ? lag.toMillis() : Double.NaN;
+                    })
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Also a {@code TransactionExecutionListener}, which Boot registers with the transaction manager, so that only
+     * committed writes stamp the read-your-writes cookie.
+     */
+    @Bean
+    ReadYourWritesInterceptor readYourWritesInterceptor() {
+        return new ReadYourWritesInterceptor(properties.readYourWrites(), Clock.systemUTC());
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.datasource.replica.check-interval:2s}")
+    void checkReplica() {
+        replicaRouter.getObject().checkReplica();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.readYourWrites().isZero()) {
+            registry.addInterceptor(readYourWritesInterceptor())
+                    .addPathPatterns("/events/**");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.test.calendar.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "calendar.datasource.replica")
+public record ReplicaDataSourceProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        String url,
+
+        String username,
+
+        String password,
+
+        @NotNull
+        @DefaultValue("5s")
+        Duration maxLag,
+
+        @NotNull
+        @DefaultValue("2s")
+        Duration checkInterval,
+
+        @NotNull
+        @DefaultValue("0s")
+        Duration readYourWrites
+) {
+}
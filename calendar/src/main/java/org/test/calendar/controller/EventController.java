@@ -1,5 +1,6 @@
 package org.test.calendar.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -7,16 +8,54 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.test.calendar.model.dto.DeletedEventsResponse;
+import org.test.calendar.model.dto.EventBatchOperation;
+import org.test.calendar.model.dto.EventBatchResponse;
+import org.test.calendar.model.dto.EventChangeDto;
+import org.test.calendar.model.dto.EventChangesResponse;
+import org.test.calendar.model.dto.EventDayCountsResponse;
 import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventImportProgress;
+import org.test.calendar.model.dto.EventLayoutResponse;
+import org.test.calendar.model.dto.EventPatchDto;
 import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.dto.FreeBusyResponse;
 import org.test.calendar.model.dto.PaginatedResponse;
+import org.test.calendar.model.dto.PaginationRequest;
+import org.test.calendar.service.EventBatchService;
+import org.test.calendar.service.EventChangeService;
+import org.test.calendar.service.EventConflictService;
+import org.test.calendar.service.EventDayCountService;
+import org.test.calendar.service.EventExportService;
+import org.test.calendar.service.EventFeedService;
+import org.test.calendar.service.EventImportService;
+import org.test.calendar.service.EventLayoutService;
 import org.test.calendar.service.EventService;
+import org.test.calendar.service.FreeBusyService;
+import org.test.calendar.stream.EventStreamHub;
+import org.test.calendar.util.NdjsonWriter;
 import org.test.calendar.validation.EventValidation;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +68,17 @@ import java.util.UUID;
 public class EventController {
 
     private final EventService eventService;
+    private final EventBatchService eventBatchService;
+    private final FreeBusyService freeBusyService;
+    private final EventConflictService eventConflictService;
+    private final EventExportService eventExportService;
+    private final EventImportService eventImportService;
+    private final EventFeedService eventFeedService;
+    private final EventChangeService eventChangeService;
+    private final EventStreamHub eventStreamHub;
+    private final EventDayCountService eventDayCountService;
+    private final EventLayoutService eventLayoutService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "Create a new event",
@@ -42,6 +92,10 @@ public class EventController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = EventDto.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Event overlaps another event at the same location and calendar.events.conflict-mode is REJECT"
         )
     })
     @PostMapping
@@ -63,11 +117,16 @@ public class EventController {
     )
     @ApiResponses(value = {
         @ApiResponse(
-            responseCode = "200",
+            responseCode = "204",
             description = "Event deleted successfully"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Event not found"
         )
     })
     @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteEvent(
         @Parameter(
             description = "Unique identifier of the event to delete",
@@ -80,6 +139,65 @@ public class EventController {
         eventService.deleteEvent(id);
     }
 
+    @Operation(
+        summary = "Delete events by id",
+        description = "Deletes all events with the given identifiers in a single statement. Unknown identifiers are ignored."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Events deleted successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DeletedEventsResponse.class)
+            )
+        )
+    })
+    @DeleteMapping(params = "ids")
+    public DeletedEventsResponse deleteEvents(
+        @Parameter(
+            description = "Unique identifiers of the events to delete",
+            required = true
+        )
+        @RequestParam List<UUID> ids
+    ) {
+        log.debug("Deleting {} events by id", ids.size());
+        return new DeletedEventsResponse(eventService.deleteEvents(ids));
+    }
+
+    @Operation(
+        summary = "Delete events in a time range",
+        description = "Deletes all events whose start time is within [from, to) in a single statement."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Events deleted successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DeletedEventsResponse.class)
+            )
+        )
+    })
+    @DeleteMapping(params = {"from", "to"})
+    public DeletedEventsResponse deleteEventsInRange(
+        @Parameter(
+            description = "Inclusive start of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-20T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime from,
+        @Parameter(
+            description = "Exclusive end of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-27T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime to
+    ) {
+        log.debug("Deleting events from {} to {}", from, to);
+        return new DeletedEventsResponse(eventService.deleteEventsInRange(from, to));
+    }
+
     @Operation(
         summary = "Get event by ID",
         description = "Retrieves a specific calendar event by its unique identifier."
@@ -92,6 +210,10 @@ public class EventController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = EventDto.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Event has not changed since the ETag sent in If-None-Match"
         )
     })
     @GetMapping("/{id}")
@@ -101,10 +223,15 @@ public class EventController {
             required = true,
             example = "123e4567-e89b-12d3-a456-426614174000"
         )
-        @PathVariable("id") UUID id
+        @PathVariable("id") UUID id,
+        WebRequest request
     ) {
         log.debug("Getting event with id {}", id);
-        return eventService.getEventById(id);
+        EventService.TaggedEvent tagged = eventService.getTaggedEventById(id);
+        if (request.checkNotModified(tagged.etag())) {
+            return null;
+        }
+        return tagged.event();
     }
 
     @Operation(
@@ -119,6 +246,10 @@ public class EventController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = EventDto.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Event overlaps another event at the same location and calendar.events.conflict-mode is REJECT"
         )
     })
     @PutMapping("/{id}")
@@ -140,6 +271,47 @@ public class EventController {
         return eventService.updateEvent(id, eventDto);
     }
 
+    @Operation(
+        summary = "Partially update an existing event",
+        description = "Updates only the provided fields of an existing calendar event with a single targeted UPDATE. When only one of start and finish is provided, it is checked against the stored other one: both must be on the same day and start must be before finish."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event updated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Event not found"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Event overlaps another event at the same location and calendar.events.conflict-mode is REJECT"
+        )
+    })
+    @PatchMapping("/{id}")
+    public EventDto patchEvent(
+        @Parameter(
+            description = "Unique identifier of the event to update",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        @PathVariable("id") UUID id,
+        @Parameter(
+            description = "Fields to change; omitted fields are left unchanged",
+            required = true
+        )
+        @Validated(EventValidation.EventPatching.class)
+        @RequestBody EventPatchDto patch
+    ) {
+        log.debug("Patching event with id {}", id);
+        return eventService.patchEvent(id, patch);
+    }
+
     @Operation(
         summary = "Get event previews for a specific month",
         description = "Retrieves a list of event previews (id, title, start time) for events in the specified month. The date parameter can be any date within the desired month; the timezone from this date will be used for calculations."
@@ -152,6 +324,10 @@ public class EventController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = EventPreviewDto.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "No event of the month has changed since the ETag sent in If-None-Match"
         )
     })
     @GetMapping("/previews/month")
@@ -161,9 +337,498 @@ public class EventController {
             required = true,
             example = "2025-10-15T00:00:00+03:00[Europe/Kyiv]"
         )
-        @RequestParam ZonedDateTime date
+        @RequestParam ZonedDateTime date,
+        WebRequest request
     ) {
         log.debug("Getting event previews for date: {}", date);
+        if (request.checkNotModified(eventService.getEventPreviewsForMonthETag(date))) {
+            return null;
+        }
         return eventService.getEventPreviewsForMonth(date);
     }
+
+    @Operation(
+        summary = "Get a page of event previews in a time range",
+        description = "Retrieves event previews whose start time is within [from, to), ordered by start time. Pages are addressed with the opaque nextCursor of the previous page, so every page costs the same regardless of its position. Totals are only computed when includeTotal is true."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of event previews retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PaginatedResponse.class)
+            )
+        )
+    })
+    @GetMapping
+    public PaginatedResponse<EventPreviewDto> getEventPreviews(
+        @Parameter(
+            description = "Inclusive start of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-01T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime from,
+        @Parameter(
+            description = "Exclusive end of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-11-01T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime to,
+        @ParameterObject
+        @Valid PaginationRequest pagination
+    ) {
+        log.debug("Getting event previews from {} to {} with {}", from, to, pagination);
+        return eventService.getEventPreviews(from, to, pagination);
+    }
+
+    @Operation(
+        summary = "Get busy time in a range",
+        description = "Merges all events overlapping [from, to) into non-overlapping busy intervals, clipped to the range and expressed in the zone of from. When slotMinutes is given, returns a bitmap of busy slots of that length instead. The range may span at most 62 days by default."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Busy time computed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FreeBusyResponse.class)
+            )
+        )
+    })
+    @GetMapping("/free-busy")
+    public FreeBusyResponse getFreeBusy(
+        @Parameter(
+            description = "Inclusive start of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-23T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime from,
+        @Parameter(
+            description = "Exclusive end of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-24T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime to,
+        @Parameter(
+            description = "Slot length in minutes (1-1440); when present the response is a slot bitmap instead of intervals",
+            example = "15"
+        )
+        @RequestParam(required = false) Integer slotMinutes
+    ) {
+        log.debug("Getting free/busy from {} to {} with slot minutes {}", from, to, slotMinutes);
+        return freeBusyService.getFreeBusy(from, to, slotMinutes);
+    }
+
+    @Operation(
+        summary = "Count events per day in a range",
+        description = "Returns the number of events and recurring occurrences starting on each day of [from, to) in the given zone, and optionally their total minutes, for year views and heatmaps. Counts are grouped in the database, so the response holds one entry per day with events whatever the number of events. The range may span at most 400 days by default."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Counts computed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventDayCountsResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "from is not before to, or the range is longer than calendar.day-counts.max-range"
+        )
+    })
+    @GetMapping("/day-counts")
+    public EventDayCountsResponse getDayCounts(
+        @Parameter(
+            description = "First day of the range in ISO-8601 format",
+            required = true,
+            example = "2025-01-01"
+        )
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(
+            description = "Day after the last day of the range in ISO-8601 format",
+            required = true,
+            example = "2026-01-01"
+        )
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(
+            description = "Zone the days are taken in",
+            example = "Europe/Kyiv"
+        )
+        @RequestParam(defaultValue = "UTC") ZoneId zone,
+        @Parameter(
+            description = "Whether to include the total minutes of the events of each day",
+            example = "true"
+        )
+        @RequestParam(defaultValue = "false") boolean minutes
+    ) {
+        log.debug("Getting event day counts from {} to {} in {}", from, to, zone);
+        return eventDayCountService.getDayCounts(from, to, zone, minutes);
+    }
+
+    @Operation(
+        summary = "Get the day view of a date",
+        description = "Returns the events overlapping the given day in the given zone, each with its column, the column count of its group of overlapping events and the number of columns it spans, so the client can draw them side by side as returned. Events crossing midnight are laid out with the part inside the day."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Day laid out successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventLayoutResponse.class)
+            )
+        )
+    })
+    @GetMapping("/day-view")
+    public EventLayoutResponse getDayView(
+        @Parameter(
+            description = "Day to lay out in ISO-8601 format",
+            required = true,
+            example = "2025-10-23"
+        )
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @Parameter(
+            description = "Zone the day is taken in",
+            example = "Europe/Kyiv"
+        )
+        @RequestParam(defaultValue = "UTC") ZoneId zone
+    ) {
+        log.debug("Getting day view of {} in {}", date, zone);
+        return eventLayoutService.getLayout(date, 1, zone);
+    }
+
+    @Operation(
+        summary = "Get the week view starting at a date",
+        description = "Returns the seven days from the given date in the given zone, each laid out like the day view. The client picks the first day of its week."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Week laid out successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventLayoutResponse.class)
+            )
+        )
+    })
+    @GetMapping("/week-view")
+    public EventLayoutResponse getWeekView(
+        @Parameter(
+            description = "First day of the week in ISO-8601 format",
+            required = true,
+            example = "2025-10-20"
+        )
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(
+            description = "Zone the days are taken in",
+            example = "Europe/Kyiv"
+        )
+        @RequestParam(defaultValue = "UTC") ZoneId zone
+    ) {
+        log.debug("Getting week view from {} in {}", from, zone);
+        return eventLayoutService.getLayout(from, EventLayoutService.WEEK_DAYS, zone);
+    }
+
+    @Operation(
+        summary = "Find events overlapping a time range at a location",
+        description = "Returns up to 50 events at the given location whose time range overlaps [startAt, finishAt), ordered by start time. Use it to report double bookings before saving; writes are only checked when calendar.events.conflict-mode is REPORT or REJECT."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Overlapping events retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventPreviewDto.class)
+            )
+        )
+    })
+    @GetMapping("/conflicts")
+    public List<EventPreviewDto> getConflicts(
+        @Parameter(
+            description = "Location to check",
+            required = true,
+            example = "Conference Room A"
+        )
+        @RequestParam String location,
+        @Parameter(
+            description = "Start of the time range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-23T09:30:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime startAt,
+        @Parameter(
+            description = "End of the time range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-23T10:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime finishAt,
+        @Parameter(
+            description = "Event to leave out, e.g. the one being edited",
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        @RequestParam(required = false) UUID excludeId
+    ) {
+        log.debug("Getting conflicts at {} from {} to {} excluding {}", location, startAt, finishAt, excludeId);
+        return eventConflictService.findConflicts(location, startAt, finishAt, excludeId);
+    }
+
+    @Operation(
+        summary = "Create, update and delete events in bulk",
+        description = "Applies a list of operations in chunked transactions using JDBC batching. Every operation is validated with the same rules as the single-item endpoints and gets its own result; a failing operation does not prevent the others from being applied."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed, see per-operation results",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventBatchResponse.class)
+            )
+        )
+    })
+    @PostMapping("/batch")
+    public EventBatchResponse applyBatch(
+        @Parameter(
+            description = "Operations to apply, in order",
+            required = true
+        )
+        @RequestBody List<EventBatchOperation> operations
+    ) {
+        log.debug("Applying batch of {} operations", operations.size());
+        return eventBatchService.applyOperations(operations);
+    }
+
+    @Operation(
+        summary = "Get events changed since a change token",
+        description = "Returns the events created, updated or deleted after the since token, each once with its current state, ordered by their latest change, and the token to pass next. Clients keep a local copy and sync in O(changes) instead of refetching ranges: request a token without since first, then load the initial copy, then poll with the returned token while hasMore is true. Changes are served once they are older than calendar.changes.settle-time."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EventChangesResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "The token is malformed or size is out of range"
+        ),
+        @ApiResponse(
+            responseCode = "410",
+            description = "Changes after the token have been purged; reload the events and start again without since"
+        )
+    })
+    @GetMapping("/changes")
+    public EventChangesResponse getChanges(
+        @Parameter(
+            description = "Token returned as nextToken by the previous request; omit to get the current token",
+            example = "AAAAAAAAAGQAAAGZ8PzFAA"
+        )
+        @RequestParam(required = false) String since,
+        @Parameter(
+            description = "Maximum number of changes to return (1-1000), 100 by default",
+            example = "100"
+        )
+        @RequestParam(required = false) Integer size
+    ) {
+        log.debug("Getting event changes since {} with size {}", since, size);
+        return eventChangeService.getChanges(since, size);
+    }
+
+    @Operation(
+        summary = "Stream changes to events in a range as Server-Sent Events",
+        description = "Keeps the connection open and pushes a change event, an EventChangeDto, after every committed create, update or delete of an event starting within [from, to); changes to recurring events are pushed to every stream. A resync event means changes were dropped because the client read too slowly or were written in bulk; the client then reloads the range or syncs through /events/changes. Idle streams receive a keepalive comment every calendar.stream.heartbeat and are closed after calendar.stream.timeout, after which the client reconnects."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream opened",
+            content = @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = EventChangeDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "from is not before to, or the range is longer than calendar.stream.max-range"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "calendar.stream.max-subscribers streams are open; retry after the Retry-After delay"
+        )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+        @Parameter(
+            description = "Inclusive start of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-10-01T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime from,
+        @Parameter(
+            description = "Exclusive end of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-11-01T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime to
+    ) {
+        log.debug("Streaming event changes from {} to {}", from, to);
+        return eventStreamHub.subscribe(from, to);
+    }
+
+    @Operation(
+        summary = "Export events as newline-delimited JSON",
+        description = "Streams every event starting within [from, to) as one EventDto JSON object per line, ordered by start time. The range is not limited: rows are read from a database cursor and written as they arrive, so memory use does not depend on the range and the first line is sent before the query completes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Events streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = EventDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "from is not before to"
+        )
+    })
+    @GetMapping("/export")
+    public void exportEvents(
+        @Parameter(
+            description = "Inclusive start of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2025-01-01T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime from,
+        @Parameter(
+            description = "Exclusive end of the range in ISO-8601 format with timezone",
+            required = true,
+            example = "2026-01-01T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam ZonedDateTime to,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("Exporting events from {} to {}", from, to);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (NdjsonWriter<EventDto> writer = new NdjsonWriter<>(objectMapper, EventDto.class, response.getOutputStream())) {
+            eventExportService.exportEvents(from, to, writer);
+        } catch (RuntimeException e) {
+            // A rejected range fails before the first line; dropping the NDJSON content type lets the error render as JSON
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    @Operation(
+        summary = "Subscribe to events as an iCalendar feed",
+        description = "Returns the events starting within the UTC days overlapping [from, to) as a text/calendar feed for calendar clients. Without from and to the feed covers calendar.feed.past before and calendar.feed.future after the current UTC day. Unchanged feeds are answered with 304 from a single aggregate query; otherwise only the days whose events changed are rendered again, the others are served from a per-day cache."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Feed rendered successfully",
+            content = @Content(mediaType = "text/calendar")
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "No event of the window has changed since the ETag sent in If-None-Match or the time sent in If-Modified-Since"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Only one of from and to is given, from is not before to, or the window exceeds calendar.feed.max-range"
+        )
+    })
+    @GetMapping("/feed")
+    public void getFeed(
+        @Parameter(
+            description = "Start of the window in ISO-8601 format with timezone, widened to the start of its UTC day",
+            example = "2025-10-01T00:00:00+03:00[Europe/Kyiv]"
+        )
+        @RequestParam(required = false) ZonedDateTime from,
+        @Parameter(
+            description = "End of the window in ISO-8601 format with timezone, widened to the end of its UTC day",
+            example = "2026-01-01T00:00:00+02:00[Europe/Kyiv]"
+        )
+        @RequestParam(required = false) ZonedDateTime to,
+        WebRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("Getting iCalendar feed from {} to {}", from, to);
+        EventFeedService.FeedWindow window = eventFeedService.getWindow(from, to);
+        EventFeedService.FeedStamp stamp = eventFeedService.getFeedStamp(window);
+        long lastModified = stamp.lastModified() != null ? stamp.lastModified().toEpochMilli() : -1;
+        if (request.checkNotModified(stamp.etag(), lastModified)) {
+            return;
+        }
+
+        response.setContentType("text/calendar");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        eventFeedService.writeFeed(window, response.getWriter());
+    }
+
+    @Operation(
+        summary = "Import events from an iCalendar file",
+        description = "Reads a text/calendar body as it arrives and stores its VEVENTs in chunked transactions using JDBC batching, so memory use does not depend on the file size. Each event is checked with the same rules as event creation before it is stored. The response is newline-delimited JSON: an ERROR record for every rejected event with its input line, a PROGRESS record after every stored chunk and a final SUMMARY record. Recurring and all-day events are rejected."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "File processed, see ERROR records for rejected events",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = EventImportProgress.class)
+            )
+        )
+    })
+    @PostMapping(path = "/import", consumes = "text/calendar")
+    public void importEvents(
+        @Parameter(
+            description = "Zone of floating times, which have neither a TZID nor a UTC designator",
+            example = "Europe/Kyiv"
+        )
+        @RequestParam(defaultValue = "UTC") ZoneId zone,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("Importing iCalendar events with floating zone {}", zone);
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (NdjsonWriter<EventImportProgress> writer = new NdjsonWriter<>(objectMapper, EventImportProgress.class, response.getOutputStream())) {
+            EventImportProgress summary = eventImportService.importEvents(
+                    new InputStreamReader(request.getInputStream(), charset), zone, record -> {
+                        writer.accept(record);
+                        if (record.type() == EventImportProgress.Type.PROGRESS) {
+                            flush(writer);
+                        }
+                    });
+            writer.accept(summary);
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    private static void flush(NdjsonWriter<?> writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package org.test.calendar.exception;
+
+public class ChangeTokenExpiredException extends BusinessLogicException {
+
+    public ChangeTokenExpiredException() {
+        super("Change token has expired, reload the events and start again without since");
+    }
+}
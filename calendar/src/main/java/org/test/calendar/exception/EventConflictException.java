@@ -0,0 +1,17 @@
+package org.test.calendar.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class EventConflictException extends BusinessLogicException {
+
+    private final List<UUID> conflictingIds;
+
+    public EventConflictException(List<UUID> conflictingIds) {
+        super("Event overlaps " + conflictingIds.size() + " event(s) at the same location: " + conflictingIds);
+        this.conflictingIds = conflictingIds;
+    }
+}
@@ -0,0 +1,10 @@
+package org.test.calendar.exception;
+
+import java.util.UUID;
+
+public class EventNotFoundException extends BusinessLogicException {
+
+    public EventNotFoundException(UUID id) {
+        super("Event not found with id: " + id);
+    }
+}
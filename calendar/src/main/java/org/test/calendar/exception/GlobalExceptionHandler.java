@@ -1,11 +1,19 @@
 package org.test.calendar.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,6 +22,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import org.test.calendar.jdbc.JdbcGateTimeoutException;
 import org.test.calendar.model.dto.ValidationErrorResponse;
 
 import java.time.LocalDateTime;
@@ -23,13 +32,19 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    static final String VALIDATION_FAILURES_METRIC = "calendar.validation.failures";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex, 
             HttpServletRequest request) {
         
+        countValidationFailure("body");
         log.debug("Validation failed for request: {}", request.getRequestURI(), ex);
         
         List<ValidationErrorResponse.FieldError> fieldErrors = new ArrayList<>();
@@ -67,6 +82,7 @@ public class GlobalExceptionHandler {
             ConstraintViolationException ex,
             HttpServletRequest request) {
         
+        countValidationFailure("parameter");
         log.debug("Constraint violation for request: {}", request.getRequestURI(), ex);
         
         List<ValidationErrorResponse.FieldError> fieldErrors = ex.getConstraintViolations()
@@ -95,6 +111,7 @@ public class GlobalExceptionHandler {
             HttpMessageNotReadableException ex,
             HttpServletRequest request) {
         
+        countValidationFailure("unreadable");
         log.debug("Invalid JSON format for request: {}", request.getRequestURI(), ex);
         
         ValidationErrorResponse errorResponse = new ValidationErrorResponse(
@@ -114,6 +131,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex,
             HttpServletRequest request) {
         
+        countValidationFailure("argument");
         log.debug("Illegal argument for request: {}", request.getRequestURI(), ex);
         
         ValidationErrorResponse errorResponse = new ValidationErrorResponse(
@@ -128,6 +146,153 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    @ExceptionHandler(EventNotFoundException.class)
+    public ResponseEntity<ValidationErrorResponse> handleEventNotFound(
+            EventNotFoundException ex,
+            HttpServletRequest request) {
+        
+        log.debug("Event not found for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    @ExceptionHandler(EventConflictException.class)
+    public ResponseEntity<ValidationErrorResponse> handleEventConflict(
+            EventConflictException ex,
+            HttpServletRequest request) {
+        
+        log.debug("Event conflict for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getConflictingIds()
+                        .stream()
+                        .map(id -> new ValidationErrorResponse.FieldError("conflictingIds", id, "Overlaps at the same location"))
+                        .toList()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ValidationErrorResponse> handleChangeTokenExpired(
+            ChangeTokenExpiredException ex,
+            HttpServletRequest request) {
+        
+        log.debug("Expired change token for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.GONE.value(),
+                "Gone",
+                ex.getMessage(),
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+    
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    public ResponseEntity<ValidationErrorResponse> handleStreamCapacityExceeded(
+            StreamCapacityExceededException ex,
+            HttpServletRequest request) {
+        
+        log.warn("Event stream is full for request: {}", request.getRequestURI());
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(errorResponse);
+    }
+    
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ValidationErrorResponse> handlePessimisticLockingFailure(
+            PessimisticLockingFailureException ex,
+            HttpServletRequest request) {
+        
+        log.debug("Concurrent write lost a lock for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "A concurrent write to the same location was in progress, please retry",
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    @ExceptionHandler(TransactionTimedOutException.class)
+    public ResponseEntity<ValidationErrorResponse> handleTransactionTimedOut(
+            TransactionTimedOutException ex,
+            HttpServletRequest request) {
+        
+        log.warn("Write timed out for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The write took too long and was rolled back, please retry",
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ValidationErrorResponse> handleConnectionUnavailable(
+            NestedRuntimeException ex,
+            HttpServletRequest request) {
+        
+        // Only a full JDBC gate is worth retrying shortly; any other connection failure is an error
+        if (!ex.contains(JdbcGateTimeoutException.class)) {
+            return handleGenericException(ex, request);
+        }
+        
+        log.warn("No database connection for request: {}", request.getRequestURI(), ex);
+        
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The database is busy, please retry",
+                request.getRequestURI(),
+                List.of()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ValidationErrorResponse> handleGenericException(
             Exception ex,
@@ -147,6 +312,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
     
+    private void countValidationFailure(String reason) {
+        meterRegistry.counter(VALIDATION_FAILURES_METRIC, "reason", reason).increment();
+    }
+
     private ValidationErrorResponse.FieldError mapFieldError(FieldError fieldError) {
         return new ValidationErrorResponse.FieldError(
                 fieldError.getField(),
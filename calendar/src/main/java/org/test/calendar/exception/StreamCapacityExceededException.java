@@ -0,0 +1,8 @@
+package org.test.calendar.exception;
+
+public class StreamCapacityExceededException extends BusinessLogicException {
+
+    public StreamCapacityExceededException(int maxSubscribers) {
+        super("The event stream already has " + maxSubscribers + " subscribers, please retry later");
+    }
+}
@@ -0,0 +1,121 @@
+package org.test.calendar.ical;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One unfolded iCalendar content line ({@code NAME;PARAM=value:VALUE}, RFC 5545 section 3.1).
+ * Names and parameter names are upper-cased; parameter values keep their case without surrounding quotes.
+ */
+public record ContentLine(long line, String name, Map<String, String> parameters, String value) {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    static ContentLine parse(String raw, long line) {
+        int length = raw.length();
+        int position = 0;
+        while (position < length && raw.charAt(position) != ';' && raw.charAt(position) != ':') {
+            position++;
+        }
+        if (position == 0 || position == length) {
+            throw new ICalendarException(line, "Malformed content line, expected NAME:VALUE");
+        }
+        String name = raw.substring(0, position).toUpperCase(Locale.ROOT);
+
+        Map<String, String> parameters = Map.of();
+        while (raw.charAt(position) == ';') {
+            int nameStart = ++position;
+            while (position < length && raw.charAt(position) != '=') {
+                position++;
+            }
+            if (position == length) {
+                throw new ICalendarException(line, "Malformed parameter of " + name);
+            }
+            String parameterName = raw.substring(nameStart, position).toUpperCase(Locale.ROOT);
+
+            int valueStart = ++position;
+            boolean quoted = false;
+            // Quoted values may contain ';' and ':'
+            while (position < length && (quoted || (raw.charAt(position) != ';' && raw.charAt(position) != ':'))) {
+                if (raw.charAt(position) == '"') {
+                    quoted = !quoted;
+                }
+                position++;
+            }
+            if (position == length) {
+                throw new ICalendarException(line, "Malformed parameter of " + name);
+            }
+            if (parameters.isEmpty()) {
+                parameters = new HashMap<>(4);
+            }
+            parameters.put(parameterName, raw.substring(valueStart, position).replace("\"", ""));
+        }
+
+        return new ContentLine(line, name, parameters, raw.substring(position + 1));
+    }
+
+    public String parameter(String parameterName) {
+        return parameters.get(parameterName);
+    }
+
+    /**
+     * The value as TEXT, with {@code \n}, {@code \,}, {@code \;} and {@code \\} unescaped.
+     */
+    public String text() {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * The value as DATE-TIME: UTC when it ends with {@code Z}, in its {@code TZID} when one is given,
+     * otherwise a floating time placed in {@code floatingZone}. DATE values (all-day events) are rejected.
+     */
+    public ZonedDateTime dateTime(ZoneId floatingZone) {
+        if ("DATE".equalsIgnoreCase(parameter("VALUE")) || value.indexOf('T') < 0) {
+            throw new ICalendarException(line, "All-day " + name + " is not supported, a date-time is required");
+        }
+
+        boolean utc = value.endsWith("Z");
+        LocalDateTime localDateTime;
+        try {
+            localDateTime = LocalDateTime.parse(utc ? value.substring(0, value.length() - 1) : value, DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new ICalendarException(line, "Invalid " + name + " date-time: " + value);
+        }
+        if (utc) {
+            return localDateTime.atZone(ZoneOffset.UTC);
+        }
+
+        String tzid = parameter("TZID");
+        if (tzid == null) {
+            return localDateTime.atZone(floatingZone);
+        }
+        try {
+            // Some producers prefix globally unique TZIDs with '/'
+            return localDateTime.atZone(ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid));
+        } catch (DateTimeException e) {
+            throw new ICalendarException(line, "Unknown time zone of " + name + ": " + tzid);
+        }
+    }
+}
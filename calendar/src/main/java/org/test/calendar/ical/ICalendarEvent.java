@@ -0,0 +1,91 @@
+package org.test.calendar.ical;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Properties of one VEVENT, excluding those of nested components such as VALARM.
+ *
+ * @param line       line of its {@code BEGIN:VEVENT}
+ * @param properties first occurrence of each property by name
+ * @param error      first problem found while reading it, or null
+ */
+public record ICalendarEvent(long line, Map<String, ContentLine> properties, ICalendarException error) {
+
+    private static final Pattern DURATION = Pattern.compile(
+            "([+-]?)P(?:(\\d{1,9})W|(?:(\\d{1,9})D)?(?:T(?:(\\d{1,9})H)?(?:(\\d{1,9})M)?(?:(\\d{1,9})S)?)?)");
+
+    public String uid() {
+        ContentLine uid = properties.get("UID");
+        return uid == null ? null : uid.value();
+    }
+
+    /**
+     * Unescaped TEXT value of a property, or null when it is absent.
+     */
+    public String text(String name) {
+        ContentLine property = properties.get(name);
+        return property == null ? null : property.text();
+    }
+
+    public boolean isRecurring() {
+        return properties.containsKey("RRULE") || properties.containsKey("RDATE")
+                || properties.containsKey("RECURRENCE-ID");
+    }
+
+    public ZonedDateTime startAt(ZoneId floatingZone) {
+        ContentLine dtStart = properties.get("DTSTART");
+        if (dtStart == null) {
+            throw new ICalendarException(line, "DTSTART is required");
+        }
+        return dtStart.dateTime(floatingZone);
+    }
+
+    /**
+     * DTEND, or DTSTART plus DURATION. Without either the event ends when it starts (RFC 5545 section 3.6.1).
+     */
+    public ZonedDateTime finishAt(ZoneId floatingZone) {
+        ContentLine dtEnd = properties.get("DTEND");
+        if (dtEnd != null) {
+            return dtEnd.dateTime(floatingZone);
+        }
+
+        ZonedDateTime startAt = startAt(floatingZone);
+        ContentLine duration = properties.get("DURATION");
+        if (duration == null) {
+            return startAt;
+        }
+        return plusDuration(startAt, duration);
+    }
+
+    /**
+     * Adds a DURATION value: weeks and days are nominal, so a day across a DST change is 23 or 25 hours,
+     * while hours, minutes and seconds are exact (RFC 5545 section 3.3.6).
+     */
+    private static ZonedDateTime plusDuration(ZonedDateTime startAt, ContentLine duration) {
+        Matcher matcher = DURATION.matcher(duration.value());
+        if (!matcher.matches() || duration.value().endsWith("P") || duration.value().endsWith("T")) {
+            throw new ICalendarException(duration.line(), "Invalid DURATION: " + duration.value());
+        }
+
+        int sign = matcher.group(1).equals("-") ? -1 : 1;
+        long days = matcher.group(2) != null ? Long.parseLong(matcher.group(2)) * 7 : parseOrZero(matcher.group(3));
+        Duration time = Duration.ofHours(parseOrZero(matcher.group(4)))
+                .plusMinutes(parseOrZero(matcher.group(5)))
+                .plusSeconds(parseOrZero(matcher.group(6)));
+        try {
+            return startAt.plusDays(sign * days).plus(time.multipliedBy(sign));
+        } catch (DateTimeException e) {
+            throw new ICalendarException(duration.line(), "DURATION out of range: " + duration.value());
+        }
+    }
+
+    private static long parseOrZero(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
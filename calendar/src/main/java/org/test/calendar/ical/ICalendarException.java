@@ -0,0 +1,17 @@
+package org.test.calendar.ical;
+
+import lombok.Getter;
+
+/**
+ * A malformed or unsupported part of an iCalendar stream, tied to the line it was found on.
+ */
+@Getter
+public class ICalendarException extends RuntimeException {
+
+    private final long line;
+
+    public ICalendarException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+}
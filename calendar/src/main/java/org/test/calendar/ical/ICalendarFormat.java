@@ -0,0 +1,110 @@
+package org.test.calendar.ical;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+
+/**
+ * Appends iCalendar content lines to a buffer: TEXT values are escaped, date-times are written in UTC and lines
+ * are folded after 75 octets of UTF-8 (RFC 5545 section 3.1) and terminated by CRLF.
+ */
+public final class ICalendarFormat {
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private ICalendarFormat() {
+    }
+
+    /**
+     * Appends a property whose value is written as is, e.g. {@code BEGIN:VEVENT} or {@code SEQUENCE:3}.
+     */
+    public static void appendProperty(StringBuilder out, String name, String value) {
+        appendFolded(out, name + ":" + value);
+    }
+
+    public static void appendText(StringBuilder out, String name, String value) {
+        StringBuilder line = new StringBuilder(name.length() + 1 + value.length()).append(name).append(':');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> line.append('\\').append(c);
+                case '\n' -> line.append("\\n");
+                case '\r' -> {
+                    // CRLF and lone CR both become one escaped line break
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        line.append("\\n");
+                    }
+                }
+                default -> line.append(c);
+            }
+        }
+        appendFolded(out, line);
+    }
+
+    public static void appendDateTime(StringBuilder out, String name, Instant value) {
+        appendFolded(out, name + ":" + UTC_DATE_TIME.format(value));
+    }
+
+    /**
+     * Appends date-times in the local time of {@code zone}, e.g. {@code DTSTART;TZID=Europe/Kyiv:20251023T093000},
+     * so that a recurrence rule is evaluated in that zone. Clients resolve the IANA identifier themselves; no
+     * {@code VTIMEZONE} is written. A fixed offset of whole hours is named by its {@code Etc/GMT} zone, other
+     * offsets are written in UTC.
+     */
+    public static void appendDateTimes(StringBuilder out, String name, ZoneId zone, Collection<Instant> values) {
+        String tzid = tzid(zone);
+        StringBuilder line = new StringBuilder(name);
+        if (tzid != null) {
+            line.append(";TZID=").append(tzid);
+        }
+        line.append(':');
+        boolean first = true;
+        for (Instant value : values) {
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            line.append(tzid != null ? LOCAL_DATE_TIME.format(value.atZone(zone)) : UTC_DATE_TIME.format(value));
+        }
+        appendFolded(out, line);
+    }
+
+    private static String tzid(ZoneId zone) {
+        if (!(zone.normalized() instanceof ZoneOffset offset)) {
+            return zone.getId();
+        }
+        int seconds = offset.getTotalSeconds();
+        if (seconds == 0 || seconds % 3600 != 0 || seconds < -12 * 3600 || seconds > 14 * 3600) {
+            return null;
+        }
+        // Etc/GMT zones count hours west of Greenwich, so their sign is the inverse of the offset's
+        return "Etc/GMT" + (seconds > 0 ? "-" : "+") + Math.abs(seconds / 3600);
+    }
+
+    private static void appendFolded(StringBuilder out, CharSequence line) {
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            boolean pair = Character.isHighSurrogate(c) && i + 1 < line.length();
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : pair ? 4 : 3;
+            if (octets + width > MAX_LINE_OCTETS) {
+                // The leading space of the continuation line counts towards its 75 octets
+                out.append("\r\n ");
+                octets = 1;
+            }
+            out.append(c);
+            if (pair) {
+                out.append(line.charAt(++i));
+            }
+            octets += width;
+        }
+        out.append("\r\n");
+    }
+}
@@ -0,0 +1,201 @@
+package org.test.calendar.ical;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pull parser returning the VEVENTs of an iCalendar stream one at a time. Only the current event and one
+ * content line are held in memory, and content lines are capped at {@link #MAX_LINE_LENGTH} characters, so
+ * memory use does not depend on the size of the input.
+ * <p>
+ * Folded lines are joined and line breaks may be CRLF, LF or CR. A problem inside an event, e.g. a malformed or
+ * overlong line or a missing {@code END:VEVENT}, is attached to that event instead of thrown, so one bad event
+ * does not stop the rest of the stream from being read. Lines outside VEVENTs, including VTIMEZONE
+ * definitions, are skipped; time zones are resolved from their IANA {@code TZID}.
+ */
+public class ICalendarReader implements Closeable {
+
+    public static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    static final int MAX_PROPERTIES = 256;
+
+    private final Reader source;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder physicalLine = new StringBuilder();
+
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private long lineNumber;
+    private RawLine lookahead;
+
+    public ICalendarReader(Reader source) {
+        this.source = source;
+    }
+
+    /**
+     * Number of physical lines read so far.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the next VEVENT, or null at the end of the input.
+     */
+    public ICalendarEvent next() throws IOException {
+        RawLine raw;
+        while ((raw = readContentLine()) != null) {
+            if (!raw.overlong() && isMarker(raw.text(), "BEGIN:", "VEVENT")) {
+                return readEvent(raw.line());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private ICalendarEvent readEvent(long beginLine) throws IOException {
+        Map<String, ContentLine> properties = new HashMap<>();
+        ICalendarException error = null;
+        int depth = 0;
+
+        RawLine raw;
+        while ((raw = readContentLine()) != null) {
+            if (raw.overlong()) {
+                error = firstOf(error, new ICalendarException(raw.line(),
+                        "Content line is longer than " + MAX_LINE_LENGTH + " characters"));
+                continue;
+            }
+
+            String text = raw.text();
+            if (isMarker(text, "BEGIN:", null)) {
+                depth++;
+            } else if (isMarker(text, "END:", null)) {
+                if (depth > 0) {
+                    depth--;
+                    continue;
+                }
+                if (!isMarker(text, "END:", "VEVENT")) {
+                    error = firstOf(error, new ICalendarException(raw.line(), "Unexpected " + text + " inside VEVENT"));
+                }
+                return new ICalendarEvent(beginLine, properties, error);
+            } else if (depth == 0) {
+                try {
+                    ContentLine property = ContentLine.parse(text, raw.line());
+                    if (properties.size() < MAX_PROPERTIES) {
+                        properties.putIfAbsent(property.name(), property);
+                    } else if (!properties.containsKey(property.name())) {
+                        error = firstOf(error, new ICalendarException(raw.line(),
+                                "VEVENT has more than " + MAX_PROPERTIES + " distinct properties"));
+                    }
+                } catch (ICalendarException e) {
+                    error = firstOf(error, e);
+                }
+            }
+        }
+
+        return new ICalendarEvent(beginLine, properties,
+                firstOf(error, new ICalendarException(beginLine, "VEVENT is not closed by END:VEVENT")));
+    }
+
+    private RawLine readContentLine() throws IOException {
+        RawLine first = lookahead != null ? lookahead : readPhysicalLine();
+        lookahead = null;
+        if (first == null) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        boolean overlong = first.overlong();
+        RawLine next;
+        while ((next = readPhysicalLine()) != null && next.isContinuation()) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(first.text());
+            }
+            if (overlong || next.overlong() || unfolded.length() + next.text().length() - 1 > MAX_LINE_LENGTH) {
+                overlong = true;
+            } else {
+                unfolded.append(next.text(), 1, next.text().length());
+            }
+        }
+        lookahead = next;
+
+        if (unfolded == null) {
+            return first;
+        }
+        return new RawLine(overlong ? "" : unfolded.toString(), first.line(), overlong);
+    }
+
+    private RawLine readPhysicalLine() throws IOException {
+        physicalLine.setLength(0);
+        boolean overlong = false;
+        boolean read = false;
+
+        while (true) {
+            if (position == limit) {
+                limit = source.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!read) {
+                        return null;
+                    }
+                    break;
+                }
+            }
+
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                skipLineFeed = true;
+                break;
+            }
+            // The rest of an overlong line is consumed but not kept
+            if (physicalLine.length() < MAX_LINE_LENGTH) {
+                physicalLine.append(c);
+            } else {
+                overlong = true;
+            }
+        }
+
+        lineNumber++;
+        // An overlong line keeps its first character, which tells whether it continues the previous line
+        return new RawLine(overlong ? physicalLine.substring(0, 1) : physicalLine.toString(), lineNumber, overlong);
+    }
+
+    private static boolean isMarker(String text, String prefix, String component) {
+        if (!text.regionMatches(true, 0, prefix, 0, prefix.length())) {
+            return false;
+        }
+        return component == null
+                || (text.length() == prefix.length() + component.length()
+                        && text.regionMatches(true, prefix.length(), component, 0, component.length()));
+    }
+
+    private static ICalendarException firstOf(ICalendarException current, ICalendarException next) {
+        return current != null ? current : next;
+    }
+
+    private record RawLine(String text, long line, boolean overlong) {
+
+        boolean isContinuation() {
+            return !text.isEmpty() && (text.charAt(0) == ' ' || text.charAt(0) == '\t');
+        }
+    }
+}
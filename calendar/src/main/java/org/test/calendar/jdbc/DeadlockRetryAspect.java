@@ -0,0 +1,74 @@
+package org.test.calendar.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link RetryOnDeadlock} methods whose transaction lost a deadlock. Two conflict checks locking overlapping
+ * index ranges in opposite order deadlock on InnoDB, and the victim's whole transaction is rolled back, so it is the
+ * transaction that is run again: the aspect is ordered before the transaction interceptor. Only deadlocks are
+ * retried; a lock wait timeout already waited long enough and is passed on.
+ * <p>
+ * Attempts are spaced by a short random pause so the two writers do not collide again in step. A call joining an
+ * outer transaction is not retried here, since the rollback belongs to the caller.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class DeadlockRetryAspect {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    // SQLSTATE of a transaction rolled back as a deadlock victim (MySQL error 1213, H2 error 40001)
+    private static final String DEADLOCK_SQL_STATE = "40001";
+    private static final long MAX_PAUSE_MILLIS = 20;
+
+    @Around("@annotation(org.test.calendar.jdbc.RetryOnDeadlock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS || !isDeadlock(e)) {
+                    throw e;
+                }
+                log.debug("{} lost a deadlock, attempt {} of {}", joinPoint.getSignature().toShortString(),
+                        attempt, MAX_ATTEMPTS, e);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(1, MAX_PAUSE_MILLIS * attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    static boolean isDeadlock(Throwable e) {
+        if (e instanceof DeadlockLoserDataAccessException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && DEADLOCK_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
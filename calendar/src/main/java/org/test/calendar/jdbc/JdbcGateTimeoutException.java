@@ -0,0 +1,14 @@
+package org.test.calendar.jdbc;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown by {@link GatedDataSource} when no permit became available within the acquire timeout. Only this failure
+ * is answered with {@code 503}; other connection failures are not a matter of waiting.
+ */
+public class JdbcGateTimeoutException extends SQLTransientConnectionException {
+
+    public JdbcGateTimeoutException(String reason) {
+        super(reason);
+    }
+}
@@ -0,0 +1,97 @@
+package org.test.calendar.jdbc;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for {@code window} after its own write, so it does not read a replica that
+ * has not caught up with that write yet. When a read-write transaction of a request commits, the end of the window
+ * is stamped into a cookie; a later request before that time pins the request thread to the primary through
+ * {@link ReplicaRouter#pinToPrimary()}. Writes that are rejected or rolled back leave no cookie.
+ * <p>
+ * The window follows the client across instances but not across devices, and a read streamed on another thread
+ * after the request thread is released is not pinned. A write committed after the response has started, as by the
+ * later chunks of an import, cannot set the cookie any more.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor, TransactionExecutionListener {
+
+    public static final String COOKIE_NAME = "calendar-read-primary-until";
+
+    private static final String STAMPED_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".stamped";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesInterceptor(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (pinnedUntil(request) > clock.millis()) {
+            ReplicaRouter.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRouter.unpin();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRouter.unpin();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (window.isZero() || commitFailure != null || transaction.isReadOnly()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted() || request.getAttribute(STAMPED_ATTRIBUTE) != null) {
+            return;
+        }
+
+        request.setAttribute(STAMPED_ATTRIBUTE, Boolean.TRUE);
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(clock.millis() + window.toMillis()))
+                .path("/")
+                .maxAge(window)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
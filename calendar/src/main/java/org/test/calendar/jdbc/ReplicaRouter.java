@@ -0,0 +1,189 @@
+package org.test.calendar.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether a read-only connection may come from the replica. The replica is used while its last check
+ * succeeded, it trails the primary by at most {@code maxLag} and the current thread is not pinned to the primary,
+ * for read-your-writes or by {@link #onPrimary(Supplier)}. Everything else reads from the primary, and every decision is counted by its reason.
+ * <p>
+ * Lag is measured on the change log that every write appends to: the replica is behind by the time between the
+ * newest change it has and the newest change on the primary. The replica is queried first, so the estimate errs
+ * on the high side, and a replica that has none of the primary's changes counts as infinitely behind. Until the
+ * first check succeeds, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaRouter {
+
+    private static final String LATEST_CHANGE_SQL = "select max(changed_at) from event_changes";
+    private static final ThreadLocal<Reason> PINNED = new ThreadLocal<>();
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Map<Reason, LongAdder> routes = new EnumMap<>(Reason.class);
+
+    private volatile boolean available;
+    // Null while unknown, which counts as too far behind
+    private volatile Duration lag;
+
+    public ReplicaRouter(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = checkTemplate(primary, maxLag);
+        this.replica = checkTemplate(replica, maxLag);
+        this.maxLag = maxLag;
+        for (Reason reason : Reason.values()) {
+            routes.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Sends the read-only connections of the current thread to the primary until {@link #unpin()}.
+     */
+    public static void pinToPrimary() {
+        PINNED.set(Reason.READ_YOUR_WRITES);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    /**
+     * Runs {@code read} with the read-only connections of the current thread sent to the primary, for reads that
+     * must not see a replica that is behind. A transaction fetches its connection with its first statement, so this
+     * also works inside a read-only transaction that has not run one yet. A pin already in place is kept.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (PINNED.get() != null) {
+            return read.get();
+        }
+        PINNED.set(Reason.PRIMARY_ONLY);
+        try {
+            return read.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    public Reason route() {
+        Reason pinned = PINNED.get();
+        if (pinned != null) {
+            return pinned;
+        }
+        if (!available) {
+            return Reason.UNAVAILABLE;
+        }
+        Duration currentLag = lag;
+        if (currentLag == null || currentLag.compareTo(maxLag) > 0) {
+            return Reason.LAGGING;
+        }
+        return Reason.REPLICA;
+    }
+
+    public void record(Reason reason) {
+        routes.get(reason).increment();
+    }
+
+    /**
+     * Stops using the replica until the next successful check, after it failed to hand out a connection.
+     */
+    public void markUnavailable(SQLException cause) {
+        if (available) {
+            log.warn("Replica connection failed, reading from the primary until the next check: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    public void checkReplica() {
+        Timestamp replicaLatest;
+        try {
+            replicaLatest = replica.queryForObject(LATEST_CHANGE_SQL, Timestamp.class);
+        } catch (DataAccessException e) {
+            if (available) {
+                log.warn("Replica check failed, reading from the primary: {}", e.getMessage());
+            }
+            available = false;
+            return;
+        }
+        Timestamp primaryLatest;
+        try {
+            primaryLatest = primary.queryForObject(LATEST_CHANGE_SQL, Timestamp.class);
+        } catch (DataAccessException e) {
+            // Nothing to compare against; the replica keeps its last known state
+            log.warn("Primary check failed, replica lag not updated: {}", e.getMessage());
+            return;
+        }
+        lag = lag(primaryLatest, replicaLatest);
+        if (!available) {
+            log.info("Replica available, {} behind the primary", lag != null ? lag : "unknown");
+        }
+        available = true;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    public long getRoutes(Reason reason) {
+        return routes.get(reason).sum();
+    }
+
+    private static Duration lag(Timestamp primaryLatest, Timestamp replicaLatest) {
+        if (primaryLatest == null) {
+            return Duration.ZERO;
+        }
+        if (replicaLatest == null) {
+            return null;
+        }
+        Duration lag = Duration.between(replicaLatest.toInstant(), primaryLatest.toInstant());
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    private static JdbcTemplate checkTemplate(DataSource dataSource, Duration maxLag) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        // A check slower than the allowed lag is as good as a failed one
+        template.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+        return template;
+    }
+
+    /**
+     * Where a read-only connection went and why; only {@link #REPLICA} reads from the replica.
+     */
+    public enum Reason {
+        REPLICA("replica", "replica"),
+        READ_YOUR_WRITES("primary", "read-your-writes"),
+        PRIMARY_ONLY("primary", "primary-only"),
+        UNAVAILABLE("primary", "unavailable"),
+        LAGGING("primary", "lagging");
+
+        private final String target;
+        private final String tag;
+
+        Reason(String target, String tag) {
+            this.target = target;
+            this.tag = tag;
+        }
+
+        public String target() {
+            return target;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+}
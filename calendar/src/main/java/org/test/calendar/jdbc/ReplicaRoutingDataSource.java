@@ -0,0 +1,58 @@
+package org.test.calendar.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections while the {@link ReplicaRouter} allows it and primary connections otherwise.
+ * A replica that fails to hand out a connection is marked unavailable and the caller gets a primary connection
+ * instead, so a replica outage costs one failed attempt per instance rather than failed reads.
+ * <p>
+ * Meant as the read-only data source of a {@code LazyConnectionDataSourceProxy}, which only asks it for
+ * connections of read-only transactions.
+ */
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(DataSource replica, DataSource primary, ReplicaRouter router) {
+        super(replica);
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(super::getConnection, primary::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(() -> super.getConnection(username, password), () -> primary.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource replica, ConnectionSource primary) throws SQLException {
+        ReplicaRouter.Reason reason = router.route();
+        if (reason == ReplicaRouter.Reason.REPLICA) {
+            try {
+                Connection connection = replica.get();
+                router.record(reason);
+                return connection;
+            } catch (SQLException e) {
+                router.markUnavailable(e);
+                reason = ReplicaRouter.Reason.UNAVAILABLE;
+            }
+        }
+        router.record(reason);
+        return primary.get();
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,17 @@
+package org.test.calendar.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@code @Transactional} method again, in a new transaction, when the database rolled its transaction back
+ * as a deadlock victim. See {@link DeadlockRetryAspect}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnDeadlock {
+}
@@ -0,0 +1,193 @@
+package org.test.calendar.layout;
+
+/**
+ * Places overlapping intervals side by side in columns, as day and week views draw events. Intervals are taken in
+ * start order and split into clusters of transitively overlapping intervals. Within a cluster, each interval goes
+ * to the column that freed up earliest, found through a min-heap of column end times, or to a new column when
+ * every column is still busy. This is interval partitioning, so a cluster gets as many columns as its largest set
+ * of intervals overlapping at one instant. Every interval of a cluster shares its column count, and spans to the
+ * right over the columns that stay free for its whole length.
+ * <p>
+ * Works on primitive arrays and keeps its scratch arrays between calls, so laying out a day allocates nothing once
+ * the arrays have grown to the largest day seen. An instance is not thread-safe.
+ */
+public final class ColumnLayout {
+
+    private int[] column = new int[0];
+    private int[] columns = new int[0];
+    private int[] span = new int[0];
+
+    private long[] columnEnd = new long[0];
+    // Column heap while assigning, insertion cursors while bucketing by column
+    private int[] heap = new int[0];
+    private int heapSize;
+    private int[] columnOffsets = new int[1];
+    private int[] byColumn = new int[0];
+
+    /**
+     * Lays out {@code count} intervals {@code [starts[i], ends[i])}. Results are read through {@link #column(int)},
+     * {@link #columns(int)} and {@link #span(int)} until the next call.
+     *
+     * @return the largest column count of any cluster, zero for no intervals
+     * @throws IllegalArgumentException if the intervals are not sorted by start or one ends before it starts
+     */
+    public int layout(long[] starts, long[] ends, int count) {
+        ensureCapacity(count);
+        heapSize = 0;
+        int maxColumns = 0;
+        int clusterStart = 0;
+        int clusterColumns = 0;
+        long clusterEnd = Long.MIN_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            long start = starts[i];
+            long end = ends[i];
+            if (end < start) {
+                throw new IllegalArgumentException("Interval " + i + " ends before it starts");
+            }
+            if (i > 0 && start < starts[i - 1]) {
+                throw new IllegalArgumentException("Intervals must be sorted by start");
+            }
+
+            if (i > clusterStart && start >= clusterEnd) {
+                // Nothing before i reaches this start, so every column is free again
+                finishCluster(starts, ends, clusterStart, i, clusterColumns);
+                maxColumns = Math.max(maxColumns, clusterColumns);
+                clusterStart = i;
+                clusterColumns = 0;
+                heapSize = 0;
+            }
+
+            int assigned;
+            if (heapSize > 0 && columnEnd[heap[0]] <= start) {
+                assigned = heap[0];
+                columnEnd[assigned] = end;
+                siftDown(0);
+            } else {
+                assigned = clusterColumns++;
+                columnEnd[assigned] = end;
+                heap[heapSize] = assigned;
+                siftUp(heapSize++);
+            }
+            column[i] = assigned;
+            clusterEnd = i == clusterStart ? end : Math.max(clusterEnd, end);
+        }
+
+        if (count > 0) {
+            finishCluster(starts, ends, clusterStart, count, clusterColumns);
+            maxColumns = Math.max(maxColumns, clusterColumns);
+        }
+        return maxColumns;
+    }
+
+    /**
+     * Zero-based column of interval {@code i}.
+     */
+    public int column(int i) {
+        return column[i];
+    }
+
+    /**
+     * Number of columns of the cluster of interval {@code i}; its width is {@code span(i) / columns(i)}.
+     */
+    public int columns(int i) {
+        return columns[i];
+    }
+
+    /**
+     * Number of columns interval {@code i} covers from its own column to the right, at least one.
+     */
+    public int span(int i) {
+        return span[i];
+    }
+
+    private void finishCluster(long[] starts, long[] ends, int from, int to, int clusterColumns) {
+        // Bucket the cluster by column; within a column intervals stay in start order and do not overlap,
+        // so their ends are ordered too
+        for (int k = 0; k <= clusterColumns; k++) {
+            columnOffsets[k] = 0;
+        }
+        for (int i = from; i < to; i++) {
+            columnOffsets[column[i] + 1]++;
+        }
+        for (int k = 0; k < clusterColumns; k++) {
+            columnOffsets[k + 1] += columnOffsets[k];
+            heap[k] = columnOffsets[k];
+        }
+        for (int i = from; i < to; i++) {
+            byColumn[heap[column[i]]++] = i;
+        }
+
+        for (int i = from; i < to; i++) {
+            int covered = 1;
+            for (int k = column[i] + 1; k < clusterColumns && isFree(k, starts[i], ends[i], starts, ends); k++) {
+                covered++;
+            }
+            columns[i] = clusterColumns;
+            span[i] = covered;
+        }
+    }
+
+    private boolean isFree(int k, long start, long end, long[] starts, long[] ends) {
+        // First interval of column k that ends after start; the column is free if it also starts at or after end
+        int low = columnOffsets[k];
+        int high = columnOffsets[k + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[byColumn[middle]] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == columnOffsets[k + 1] || starts[byColumn[low]] >= end;
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(node, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = node;
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], node)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = node;
+    }
+
+    // Earlier end first; on a tie the leftmost column, so equal layouts come out the same way every time
+    private boolean before(int a, int b) {
+        return columnEnd[a] < columnEnd[b] || columnEnd[a] == columnEnd[b] && a < b;
+    }
+
+    private void ensureCapacity(int count) {
+        if (column.length >= count) {
+            return;
+        }
+        column = new int[count];
+        columns = new int[count];
+        span = new int[count];
+        columnEnd = new long[count];
+        heap = new int[count];
+        columnOffsets = new int[count + 1];
+        byColumn = new int[count];
+    }
+}
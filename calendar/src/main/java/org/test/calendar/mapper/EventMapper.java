@@ -1,15 +1,22 @@
 package org.test.calendar.mapper;
 
+import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.test.calendar.model.dto.EventDto;
 import org.test.calendar.model.dto.EventPreviewDto;
 import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
 import org.test.calendar.util.DateUtil;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface EventMapper {
@@ -26,9 +33,14 @@ public interface EventMapper {
     @Mapping(target = "id", source = "id")
     @Mapping(target = "title", source = "title")
     @Mapping(target = "description", source = "description")
-    @Mapping(target = "startAt", source = "startAt")
-    @Mapping(target = "finishAt", source = "finishAt")
+    // A series is returned in its own zone, so that a read-modify-write keeps the wall-clock time of its occurrences
+    @Mapping(target = "startAt",
+            expression = "java(org.test.calendar.util.DateUtil.toZonedDateTime(eventEntity.getStartAt(), eventEntity.getRecurrenceZone()))")
+    @Mapping(target = "finishAt",
+            expression = "java(org.test.calendar.util.DateUtil.toZonedDateTime(eventEntity.getFinishAt(), eventEntity.getRecurrenceZone()))")
     @Mapping(target = "location", source = "location")
+    @Mapping(target = "recurrenceRule", source = "recurrenceRule")
+    @Mapping(target = "exceptionDates", source = "recurrenceExceptions")
     EventDto toEventDto(EventEntity eventEntity);
 
     @BeanMapping(ignoreByDefault = true)
@@ -39,6 +51,44 @@ public interface EventMapper {
     @Mapping(target = "location", source = "location")
     EventPreviewDto toEventPreviewDto(EventEntity eventEntity);
 
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "title", source = "title")
+    @Mapping(target = "startAt", source = "startAt")
+    @Mapping(target = "finishAt", source = "finishAt")
+    @Mapping(target = "location", source = "location")
+    EventPreviewDto toEventPreviewDto(EventPreviewProjection eventPreview);
+
+    default EventPreviewDto toEventPreviewDto(EventSeriesProjection series, Instant startAt, Instant finishAt) {
+        return new EventPreviewDto(series.id(), series.title(), map(startAt), map(finishAt), series.location());
+    }
+
+    /**
+     * Stores the recurrence of {@code eventDto}, already checked by {@code @ValidRecurrence}, with the entity;
+     * clears it when the event is not recurring.
+     */
+    @AfterMapping
+    default void updateRecurrence(EventDto eventDto, @MappingTarget EventEntity eventEntity) {
+        if (eventDto.recurrenceRule() == null) {
+            eventEntity.setRecurrenceRule(null);
+            eventEntity.setRecurrenceZone(null);
+            eventEntity.setRecurrenceExceptions(null);
+            eventEntity.setRecurrenceEnd(null);
+            return;
+        }
+
+        RecurrenceSeries series = RecurrenceSeries.of(
+                eventDto.recurrenceRule(), eventDto.startAt(), eventDto.finishAt(), eventDto.exceptionDates());
+        eventEntity.setRecurrenceRule(series.rule().toString());
+        eventEntity.setRecurrenceZone(series.zone().getId());
+        eventEntity.setRecurrenceExceptions(series.exceptions());
+        eventEntity.setRecurrenceEnd(series.lastStartAt());
+    }
+
+    default List<LocalDate> toExceptionDates(String recurrenceExceptions) {
+        return recurrenceExceptions == null ? null : RecurrenceSeries.parseExceptions(recurrenceExceptions);
+    }
+
     default Instant map(ZonedDateTime value) {
         return DateUtil.toInstant(value);
     }
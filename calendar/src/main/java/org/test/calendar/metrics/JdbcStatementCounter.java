@@ -0,0 +1,48 @@
+package org.test.calendar.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request. Registered through
+ * {@code hibernate.session_factory.statement_inspector}; a JDBC batch is prepared once and counts once.
+ * <p>
+ * The count is a request attribute rather than a thread-local, so nothing is left behind on a pooled or
+ * virtual thread, and an async dispatch of the same request on another thread keeps adding to it. Statements
+ * issued outside a request, e.g. by scheduled jobs, are not counted.
+ */
+public class JdbcStatementCounter implements StatementInspector {
+
+    private static final String COUNT_ATTRIBUTE = JdbcStatementCounter.class.getName() + ".COUNT";
+
+    @Override
+    public String inspect(String sql) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof LongAdder count) {
+            count.increment();
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting for {@code request}; a request that is already counted, e.g. on its async dispatch, keeps its count.
+     */
+    public static void start(HttpServletRequest request) {
+        if (request.getAttribute(COUNT_ATTRIBUTE) == null) {
+            request.setAttribute(COUNT_ATTRIBUTE, new LongAdder());
+        }
+    }
+
+    public static int current(HttpServletRequest request) {
+        return request.getAttribute(COUNT_ATTRIBUTE) instanceof LongAdder count ? count.intValue() : 0;
+    }
+
+    public static void clear(HttpServletRequest request) {
+        request.removeAttribute(COUNT_ATTRIBUTE);
+    }
+}
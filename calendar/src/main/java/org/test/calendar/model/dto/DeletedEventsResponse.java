@@ -0,0 +1,11 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a bulk delete")
+public record DeletedEventsResponse(
+
+        @Schema(description = "Number of events that were deleted", example = "12")
+        int deleted
+) {
+}
@@ -0,0 +1,44 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Outcome of a single operation of a batch request")
+public record EventBatchItemResult(
+
+        @Schema(description = "Position of the operation in the request", example = "0")
+        int index,
+
+        @Schema(description = "Operation that was performed", example = "CREATE")
+        EventBatchOperation.Type type,
+
+        @Schema(description = "Identifier of the affected event", example = "123e4567-e89b-12d3-a456-426614174000", nullable = true)
+        UUID id,
+
+        @Schema(description = "Outcome of the operation", example = "SUCCESS")
+        Status status,
+
+        @Schema(description = "Reason of the failure", nullable = true)
+        String message,
+
+        @Schema(description = "Event state after CREATE or UPDATE", nullable = true)
+        EventDto event
+) {
+
+    public enum Status {
+        SUCCESS,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    public static EventBatchItemResult success(int index, EventBatchOperation.Type type, UUID id, EventDto event) {
+        return new EventBatchItemResult(index, type, id, Status.SUCCESS, null, event);
+    }
+
+    public static EventBatchItemResult failure(int index, EventBatchOperation.Type type, UUID id, Status status, String message) {
+        return new EventBatchItemResult(index, type, id, status, message, null);
+    }
+}
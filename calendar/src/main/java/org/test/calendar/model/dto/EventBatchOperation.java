@@ -0,0 +1,29 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Single create, update or delete operation of a batch request")
+public record EventBatchOperation(
+
+        @Schema(description = "Operation to perform", example = "CREATE")
+        Type type,
+
+        @Schema(
+            description = "Identifier of the event to update or delete; ignored for CREATE",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            nullable = true
+        )
+        UUID id,
+
+        @Schema(description = "Event details for CREATE and UPDATE; ignored for DELETE", nullable = true)
+        EventDto event
+) {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
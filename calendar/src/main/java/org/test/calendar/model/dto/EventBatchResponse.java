@@ -0,0 +1,19 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Per-operation results of a batch request")
+public record EventBatchResponse(
+
+        @Schema(description = "Results in the same order as the requested operations")
+        List<EventBatchItemResult> results,
+
+        @Schema(description = "Number of operations that succeeded", example = "98")
+        int succeeded,
+
+        @Schema(description = "Number of operations that failed", example = "2")
+        int failed
+) {
+}
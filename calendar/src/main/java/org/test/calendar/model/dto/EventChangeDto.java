@@ -0,0 +1,32 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Latest state of an event that changed after the change token")
+public record EventChangeDto(
+
+        @Schema(description = "Identifier of the changed event", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+
+        @Schema(description = "Whether the event now exists or was deleted", example = "UPSERTED")
+        Type type,
+
+        @Schema(description = "Current event details for UPSERTED; null for DELETED", nullable = true)
+        EventDto event
+) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    public static EventChangeDto upserted(EventDto event) {
+        return new EventChangeDto(event.id(), Type.UPSERTED, event);
+    }
+
+    public static EventChangeDto deleted(UUID id) {
+        return new EventChangeDto(id, Type.DELETED, null);
+    }
+}
@@ -0,0 +1,19 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of event changes after a change token")
+public record EventChangesResponse(
+
+        @Schema(description = "Changed events in the order of their latest change, each event at most once")
+        List<EventChangeDto> changes,
+
+        @Schema(description = "Token to pass as since in the next request", example = "AAAAAAAAAGQAAAGZ8PzFAA")
+        String nextToken,
+
+        @Schema(description = "Whether more changes are available right away", example = "false")
+        boolean hasMore
+) {
+}
@@ -0,0 +1,42 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@Schema(description = "Number of events starting on each day of a range, for calendar badges and heatmaps")
+public record EventDayCountsResponse(
+
+        @Schema(description = "First day of the range", example = "2025-01-01")
+        LocalDate from,
+
+        @Schema(description = "Day after the last day of the range", example = "2026-01-01")
+        LocalDate to,
+
+        @Schema(description = "Zone the days are taken in", example = "Europe/Kyiv")
+        ZoneId zone,
+
+        @Schema(description = "Days with at least one event, in date order; days without events are left out")
+        List<DayCount> days
+) {
+
+    @Schema(description = "Events starting on one day")
+    public record DayCount(
+
+            @Schema(description = "Day in the requested zone", example = "2025-10-23")
+            LocalDate date,
+
+            @Schema(description = "Number of events and recurring occurrences starting on the day", example = "4")
+            long count,
+
+            @Schema(
+                description = "Total duration of those events in minutes, overlapping events counted separately; null unless requested",
+                example = "150",
+                nullable = true
+            )
+            Long minutes
+    ) {
+    }
+}
@@ -7,12 +7,16 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import org.test.calendar.validation.EventValidation;
 import org.test.calendar.validation.annotation.SameDay;
+import org.test.calendar.validation.annotation.ValidRecurrence;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Schema(description = "Represents a calendar event with all necessary details")
-@SameDay(fromField = "startAt", toField = "finishAt", groups = EventValidation.EventCreation.class)
+@SameDay(fromField = "startAt", toField = "finishAt", groups = {EventValidation.EventCreation.class, EventValidation.EventUpdating.class})
+@ValidRecurrence(groups = {EventValidation.EventCreation.class, EventValidation.EventUpdating.class})
 public record EventDto(
 
         @Schema(
@@ -28,7 +32,7 @@ public record EventDto(
         @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Title must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventCreation.class)
         String title,
 
-        @Schema(description = "Description of the event", example = "Morning")
+        @Schema(description = "Description of the event; null only for imported events that had none", example = "Morning", nullable = true)
         @NotBlank(groups = EventValidation.EventCreation.class)
         @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Description must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventCreation.class)
         String description,
@@ -43,6 +47,17 @@ public record EventDto(
 
         @Schema(description = "Location of the event", example = "Conference Room A", nullable = true)
         @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Location must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventCreation.class)
-        String location
+        String location,
+
+        @Schema(
+            description = "Recurrence rule in RFC 5545 RRULE syntax: FREQ=DAILY, WEEKLY or MONTHLY with INTERVAL, COUNT or UNTIL (UTC) and BYDAY. "
+                    + "startAt is the first occurrence; later ones keep its wall-clock time in its zone",
+            example = "FREQ=WEEKLY;BYDAY=MO,TH;COUNT=20",
+            nullable = true
+        )
+        String recurrenceRule,
+
+        @Schema(description = "Dates in the zone of startAt on which a recurring event does not take place", example = "[\"2025-10-30\"]", nullable = true)
+        List<LocalDate> exceptionDates
 ) {
 }
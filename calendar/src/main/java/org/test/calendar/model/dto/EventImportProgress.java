@@ -0,0 +1,62 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One line of an iCalendar import response: a progress report, a rejected event or the final summary")
+public record EventImportProgress(
+
+        @Schema(description = "Kind of record", example = "PROGRESS")
+        Type type,
+
+        @Schema(description = "Input line of the rejected event or property for ERROR, otherwise the number of lines read", example = "5120")
+        long line,
+
+        @Schema(description = "Position of the rejected VEVENT in the input, counting from 1; 0 unless type is ERROR", example = "853")
+        long index,
+
+        @Schema(description = "UID of the rejected event, if it has one", example = "20251023T093000Z-1@example.com", nullable = true)
+        String uid,
+
+        @Schema(description = "Reason the event was rejected; null unless type is ERROR", nullable = true)
+        String message,
+
+        @Schema(description = "VEVENTs read so far", example = "1000")
+        long events,
+
+        @Schema(description = "Events stored so far", example = "998")
+        long imported,
+
+        @Schema(description = "Events skipped so far because an event with their UID was already imported", example = "0")
+        long skipped,
+
+        @Schema(description = "Events rejected so far", example = "2")
+        long failed
+) {
+
+    public enum Type {
+        PROGRESS,
+        ERROR,
+        SUMMARY
+    }
+
+    public static EventImportProgress progress(long line, long events, long imported, long skipped, long failed) {
+        return new EventImportProgress(Type.PROGRESS, line, 0, null, null, events, imported, skipped, failed);
+    }
+
+    public static EventImportProgress error(
+            long line,
+            long index,
+            String uid,
+            String message,
+            long events,
+            long imported,
+            long skipped,
+            long failed
+    ) {
+        return new EventImportProgress(Type.ERROR, line, index, uid, message, events, imported, skipped, failed);
+    }
+
+    public static EventImportProgress summary(long line, long events, long imported, long skipped, long failed) {
+        return new EventImportProgress(Type.SUMMARY, line, 0, null, null, events, imported, skipped, failed);
+    }
+}
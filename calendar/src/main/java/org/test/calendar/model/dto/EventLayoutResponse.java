@@ -0,0 +1,55 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@Schema(description = "Events of a day or week view with their side-by-side column layout")
+public record EventLayoutResponse(
+
+        @Schema(description = "First day of the view", example = "2025-10-20")
+        LocalDate from,
+
+        @Schema(description = "Day after the last day of the view", example = "2025-10-27")
+        LocalDate to,
+
+        @Schema(description = "Zone the days are taken in", example = "Europe/Kyiv")
+        ZoneId zone,
+
+        @Schema(description = "Every day of the view in date order, including days without events")
+        List<Day> days
+) {
+
+    @Schema(description = "Events overlapping one day, laid out independently of the other days")
+    public record Day(
+
+            @Schema(description = "Day in the requested zone", example = "2025-10-23")
+            LocalDate date,
+
+            @Schema(description = "Largest number of columns any group of overlapping events needs on this day", example = "3")
+            int columns,
+
+            @Schema(description = "Events overlapping the day in start order; an event crossing midnight appears on both days")
+            List<PositionedEvent> events
+    ) {
+    }
+
+    @Schema(description = "An event and its place in the day: left edge at column / columns, width span / columns")
+    public record PositionedEvent(
+
+            @Schema(description = "The event, with times in the requested zone")
+            EventPreviewDto event,
+
+            @Schema(description = "Zero-based column of the event", example = "1")
+            int column,
+
+            @Schema(description = "Number of columns of the group of events overlapping this one", example = "3")
+            int columns,
+
+            @Schema(description = "Number of columns the event covers from its own column to the right", example = "2")
+            int span
+    ) {
+    }
+}
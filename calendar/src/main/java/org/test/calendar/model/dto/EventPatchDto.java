@@ -0,0 +1,36 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import org.test.calendar.validation.EventValidation;
+import org.test.calendar.validation.annotation.SameDay;
+
+import java.time.ZonedDateTime;
+
+@Schema(description = "Partial update of a calendar event; omitted or null fields are left unchanged")
+@SameDay(fromField = "startAt", toField = "finishAt", groups = EventValidation.EventPatching.class)
+public record EventPatchDto(
+
+        @Schema(description = "Title of the event", example = "Team Sync", nullable = true)
+        @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Title must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventPatching.class)
+        String title,
+
+        @Schema(description = "Description of the event", example = "Morning", nullable = true)
+        @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Description must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventPatching.class)
+        String description,
+
+        @Schema(description = "Start date and time of the event in ISO-8601 format with timezone", example = "2025-10-23T09:30:00+03:00[Europe/Kyiv]", nullable = true)
+        ZonedDateTime startAt,
+
+        @Schema(description = "End date and time of the event in ISO-8601 format with timezone", example = "2025-10-23T10:00:00+03:00[Europe/Kyiv]", nullable = true)
+        ZonedDateTime finishAt,
+
+        @Schema(description = "Location of the event", example = "Conference Room A", nullable = true)
+        @Pattern(regexp = "^[A-Za-z0-9\\s\\-@]+$", message = "Location must contain only alphanumeric characters, spaces, hyphens, and @ symbols", groups = EventValidation.EventPatching.class)
+        String location
+) {
+
+    public boolean isEmpty() {
+        return title == null && description == null && startAt == null && finishAt == null && location == null;
+    }
+}
@@ -0,0 +1,52 @@
+package org.test.calendar.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Schema(description = "Busy time within a range, either as merged intervals or as a slot bitmap")
+public record FreeBusyResponse(
+
+        @Schema(description = "Inclusive start of the range", example = "2025-10-23T00:00:00+03:00[Europe/Kyiv]")
+        ZonedDateTime from,
+
+        @Schema(description = "Exclusive end of the range", example = "2025-10-24T00:00:00+03:00[Europe/Kyiv]")
+        ZonedDateTime to,
+
+        @Schema(description = "Merged, non-overlapping busy intervals ordered by start; null when slots are requested", nullable = true)
+        List<Interval> busy,
+
+        @Schema(description = "Slot length in minutes; null when intervals are requested", example = "15", nullable = true)
+        Integer slotMinutes,
+
+        @Schema(description = "Number of slots in the range; null when intervals are requested", example = "96", nullable = true)
+        Integer slotCount,
+
+        @Schema(
+            description = "Base64 bitmap of busy slots: bit i (least significant bit first, little-endian bytes) is slot i. Trailing free slots may be omitted; null when intervals are requested",
+            example = "AAAAAAAA8AM=",
+            nullable = true
+        )
+        String slots
+) {
+
+    public static FreeBusyResponse intervals(ZonedDateTime from, ZonedDateTime to, List<Interval> busy) {
+        return new FreeBusyResponse(from, to, busy, null, null, null);
+    }
+
+    public static FreeBusyResponse slots(ZonedDateTime from, ZonedDateTime to, int slotMinutes, int slotCount, String slots) {
+        return new FreeBusyResponse(from, to, null, slotMinutes, slotCount, slots);
+    }
+
+    @Schema(description = "Busy interval, start inclusive and finish exclusive")
+    public record Interval(
+
+            @Schema(description = "Start of the busy interval", example = "2025-10-23T09:30:00+03:00[Europe/Kyiv]")
+            ZonedDateTime startAt,
+
+            @Schema(description = "End of the busy interval", example = "2025-10-23T11:00:00+03:00[Europe/Kyiv]")
+            ZonedDateTime finishAt
+    ) {
+    }
+}
@@ -15,16 +15,19 @@ public record PaginatedResponse<T>(
         @Schema(description = "Number of items per page", example = "10")
         int size,
         
-        @Schema(description = "Total number of elements across all pages", example = "25")
-        long totalElements,
+        @Schema(description = "Total number of elements across all pages; only present when includeTotal was requested", example = "25", nullable = true)
+        Long totalElements,
         
-        @Schema(description = "Total number of pages", example = "3")
-        int totalPages,
+        @Schema(description = "Total number of pages; only present when includeTotal was requested", example = "3", nullable = true)
+        Integer totalPages,
         
         @Schema(description = "Whether this is the first page", example = "true")
         boolean first,
         
         @Schema(description = "Whether this is the last page", example = "false")
-        boolean last
+        boolean last,
+
+        @Schema(description = "Cursor for the next page; null on the last page", nullable = true)
+        String nextCursor
 ) {
 }
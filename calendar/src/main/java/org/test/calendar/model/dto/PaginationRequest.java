@@ -8,11 +8,24 @@ import jakarta.validation.constraints.Min;
 public record PaginationRequest(
         @Schema(description = "Page number (0-based)", example = "0", minimum = "0")
         @Min(value = 0, message = "Page number must be non-negative")
-        int page,
+        Integer page,
         
         @Schema(description = "Number of items per page", example = "10", minimum = "1", maximum = "100")
         @Min(value = 1, message = "Size must be at least 1")
         @Max(value = 100, message = "Size must not exceed 100")
-        int size
+        Integer size,
+
+        @Schema(description = "Opaque cursor of the page to fetch, taken from nextCursor of the previous page; omit for the first page", nullable = true)
+        String cursor,
+
+        @Schema(description = "Whether to compute totalElements and totalPages, which costs an extra COUNT query", example = "false")
+        boolean includeTotal
 ) {
+
+    public static final int DEFAULT_SIZE = 10;
+
+    public PaginationRequest {
+        page = page == null ? 0 : page;
+        size = size == null ? DEFAULT_SIZE : size;
+    }
 }
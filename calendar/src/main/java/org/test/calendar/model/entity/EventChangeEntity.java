@@ -0,0 +1,35 @@
+package org.test.calendar.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One write to an event, in the order of {@code seq}. Rows are only inserted by the bulk statements of
+ * {@link org.test.calendar.repository.EventChangeRepository}, in the transaction of the write.
+ */
+@Data
+@Table(name = "event_changes")
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventChangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    /**
+     * Whether the event was deleted; otherwise it was created or updated.
+     */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
@@ -2,6 +2,11 @@ package org.test.calendar.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.test.calendar.model.entity.id.TimeOrderedUuid;
+import org.test.calendar.util.LocationHash;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -10,18 +15,22 @@ import java.util.UUID;
 @With
 @Table(name = "events")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EventEntity.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventEntity {
 
+    public static final String CACHE_REGION = "events";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false)
+    @Column
     private String description;
 
     @Column(nullable = false)
@@ -32,4 +41,53 @@ public class EventEntity {
 
     @Column
     private String location;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Column(length = 64)
+    private String locationHash;
+
+    /**
+     * RRULE of a recurring event, whose row holds the first occurrence; null for a single event.
+     */
+    @Column
+    private String recurrenceRule;
+
+    @Column(length = 64)
+    private String recurrenceZone;
+
+    @Column
+    private String recurrenceExceptions;
+
+    /**
+     * Upper bound of the start of every occurrence of the series, null for a single event.
+     */
+    @Column
+    private Instant recurrenceEnd;
+
+    /**
+     * UID of the VEVENT the event was imported from, null for events written through the API.
+     */
+    @Column(unique = true)
+    private String importUid;
+
+    public EventEntity(UUID id, String title, String description, Instant startAt, Instant finishAt, String location) {
+        this(id, title, description, startAt, finishAt, location, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateLocationHash() {
+        locationHash = LocationHash.of(location);
+    }
 }
@@ -0,0 +1,11 @@
+package org.test.calendar.model.projection;
+
+/**
+ * Events starting on one day: {@code dayIndex} counts days from the origin of the query.
+ */
+public record EventDayCount(
+        Long dayIndex,
+        Long count,
+        Long minutes
+) {
+}
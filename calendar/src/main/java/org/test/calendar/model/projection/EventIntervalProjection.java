@@ -0,0 +1,11 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EventIntervalProjection(
+        UUID id,
+        Instant startAt,
+        Instant finishAt
+) {
+}
@@ -0,0 +1,16 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EventKeyProjection(
+        UUID id,
+        Instant startAt,
+        Instant recurrenceEnd,
+        Long version
+) {
+
+    public boolean recurring() {
+        return recurrenceEnd != null;
+    }
+}
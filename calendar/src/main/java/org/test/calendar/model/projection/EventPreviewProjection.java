@@ -0,0 +1,13 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EventPreviewProjection(
+        UUID id,
+        String title,
+        Instant startAt,
+        Instant finishAt,
+        String location
+) {
+}
@@ -0,0 +1,21 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+
+public record EventRangeStamp(
+        Long count,
+        Long versionSum,
+        Instant lastUpdatedAt
+) {
+
+    /**
+     * Stamp of both row sets together; a row in both is counted twice, which still changes with every write.
+     */
+    public EventRangeStamp plus(EventRangeStamp other) {
+        Instant lastUpdated = lastUpdatedAt;
+        if (lastUpdated == null || (other.lastUpdatedAt() != null && other.lastUpdatedAt().isAfter(lastUpdated))) {
+            lastUpdated = other.lastUpdatedAt();
+        }
+        return new EventRangeStamp(count + other.count(), versionSum + other.versionSum(), lastUpdated);
+    }
+}
@@ -0,0 +1,16 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EventSeriesProjection(
+        UUID id,
+        String title,
+        Instant startAt,
+        Instant finishAt,
+        String location,
+        String recurrenceRule,
+        String recurrenceZone,
+        String recurrenceExceptions
+) {
+}
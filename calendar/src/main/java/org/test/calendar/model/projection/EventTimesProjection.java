@@ -0,0 +1,18 @@
+package org.test.calendar.model.projection;
+
+import java.time.Instant;
+
+public record EventTimesProjection(
+        Instant startAt,
+        Instant finishAt,
+        Instant recurrenceEnd
+) {
+
+    public EventTimesProjection(Instant startAt, Instant finishAt) {
+        this(startAt, finishAt, null);
+    }
+
+    public boolean recurring() {
+        return recurrenceEnd != null;
+    }
+}
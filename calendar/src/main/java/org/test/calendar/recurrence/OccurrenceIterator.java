@@ -0,0 +1,426 @@
+package org.test.calendar.recurrence;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Generates the days of a recurrence rule as epoch days in ascending order, starting with the first occurrence.
+ * <p>
+ * Works on primitive epoch days and bit masks of weekdays and days of month, so iterating allocates nothing.
+ * {@link #skipTo} moves straight to the first occurrence on or after a day: daily and weekly rules compute the
+ * position and the number of occurrences before it arithmetically, monthly rules step whole months. Exception
+ * days are skipped but still count towards {@code COUNT}, as in RFC 5545.
+ */
+public abstract class OccurrenceIterator {
+
+    /**
+     * Returned by {@link #next()} once the rule has no further occurrences.
+     */
+    public static final long DONE = Long.MIN_VALUE;
+
+    /**
+     * Occurrences are generated up to this day, so that dates stay within the range of {@link LocalDate}.
+     */
+    public static final long MAX_DAY = LocalDate.of(9999, 12, 30).toEpochDay();
+
+    private static final long DAYS_0000_TO_1970 = 719_528;
+
+    protected final long firstDay;
+    protected final long lastDay;
+    private final int count;
+    private final long[] exceptions;
+    private int exceptionIndex;
+    private boolean exhausted;
+
+    /**
+     * Occurrences of the rule generated so far, exception days included, as {@code COUNT} counts them.
+     */
+    protected long produced;
+
+    private OccurrenceIterator(long firstDay, long lastDay, int count, long[] exceptions) {
+        this.firstDay = firstDay;
+        this.lastDay = Math.min(lastDay, MAX_DAY);
+        this.count = count;
+        this.exceptions = exceptions;
+    }
+
+    /**
+     * @param firstDay   day of the first occurrence; the rule is anchored to it
+     * @param lastDay    last epoch day an occurrence may fall on
+     * @param exceptions sorted epoch days that are left out
+     */
+    public static OccurrenceIterator of(RecurrenceRule rule, LocalDate firstDay, long lastDay, long[] exceptions) {
+        return switch (rule.frequency()) {
+            case DAILY -> new Daily(rule, firstDay, lastDay, exceptions);
+            case WEEKLY -> new Weekly(rule, firstDay, lastDay, exceptions);
+            case MONTHLY -> new Monthly(rule, firstDay, lastDay, exceptions);
+        };
+    }
+
+    /**
+     * Returns the epoch day of the next occurrence, or {@link #DONE}.
+     */
+    public final long next() {
+        while (!exhausted && (count == 0 || produced < count)) {
+            long day = advance();
+            if (day > lastDay) {
+                break;
+            }
+            produced++;
+            if (!isException(day)) {
+                return day;
+            }
+        }
+        exhausted = true;
+        return DONE;
+    }
+
+    /**
+     * Positions the iterator so that {@link #next()} returns the first occurrence on or after {@code day}.
+     * Does nothing when the iterator is already past that day.
+     */
+    public final void skipTo(long day) {
+        if (exhausted || day <= position()) {
+            return;
+        }
+        if (day > lastDay) {
+            exhausted = true;
+            return;
+        }
+        seek(day, count > 0);
+        int index = Arrays.binarySearch(exceptions, exceptionIndex, exceptions.length, day);
+        exceptionIndex = index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Earliest day the next call of {@link #advance()} may return.
+     */
+    protected abstract long position();
+
+    /**
+     * Returns the next day matching the rule; a day past {@link #lastDay} ends the iteration.
+     */
+    protected abstract long advance();
+
+    /**
+     * Moves to the first day matching the rule on or after {@code day}, which is after {@link #position()},
+     * and updates {@link #produced} when {@code counting}.
+     */
+    protected abstract void seek(long day, boolean counting);
+
+    private boolean isException(long day) {
+        while (exceptionIndex < exceptions.length && exceptions[exceptionIndex] < day) {
+            exceptionIndex++;
+        }
+        return exceptionIndex < exceptions.length && exceptions[exceptionIndex] == day;
+    }
+
+    /**
+     * ISO day of week of an epoch day, 1 for Monday to 7 for Sunday.
+     */
+    static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    /**
+     * Epoch day of the first day of a month, as {@link LocalDate#toEpochDay()} computes it.
+     */
+    static long firstDayOfMonth(long year, int month) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367L * month - 362) / 12;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int weekdayMask(RecurrenceRule rule) {
+        int mask = 0;
+        for (RecurrenceRule.WeekdayNum entry : rule.byDay()) {
+            mask |= 1 << (entry.day().getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static int lowBits(int bits) {
+        return (1 << bits) - 1;
+    }
+
+    /**
+     * Every {@code interval} days, optionally restricted to the BYDAY weekdays.
+     */
+    private static final class Daily extends OccurrenceIterator {
+
+        private final int interval;
+        private final int weekdayMask;
+        // The weekday of the k-th candidate repeats after cycle candidates, with matchesPerCycle matches each time
+        private final int cycle;
+        private final int matchesPerCycle;
+        private long candidate;
+
+        Daily(RecurrenceRule rule, LocalDate firstDay, long lastDay, long[] exceptions) {
+            super(firstDay.toEpochDay(), lastDay, rule.count(), exceptions);
+            this.interval = rule.interval();
+            this.weekdayMask = weekdayMask(rule);
+            this.cycle = interval % 7 == 0 ? 1 : 7;
+            this.candidate = this.firstDay;
+
+            int matches = 0;
+            for (int k = 0; k < cycle; k++) {
+                if (matches(this.firstDay + (long) k * interval)) {
+                    matches++;
+                }
+            }
+            this.matchesPerCycle = matches;
+        }
+
+        @Override
+        protected long position() {
+            return candidate;
+        }
+
+        @Override
+        protected long advance() {
+            while (true) {
+                long day = candidate;
+                candidate += interval;
+                if (day > lastDay || matches(day)) {
+                    return day;
+                }
+            }
+        }
+
+        @Override
+        protected void seek(long day, boolean counting) {
+            long k = Math.ceilDiv(day - firstDay, (long) interval);
+            candidate = firstDay + k * interval;
+            if (!counting) {
+                return;
+            }
+            if (weekdayMask == 0) {
+                produced = k;
+                return;
+            }
+            long cycles = k / cycle;
+            produced = cycles * matchesPerCycle;
+            for (long i = cycles * cycle; i < k; i++) {
+                if (matches(firstDay + i * interval)) {
+                    produced++;
+                }
+            }
+        }
+
+        private boolean matches(long day) {
+            return weekdayMask == 0 || (weekdayMask & (1 << (dayOfWeek(day) - 1))) != 0;
+        }
+    }
+
+    /**
+     * The BYDAY weekdays, or the weekday of the first occurrence, of every {@code interval}-th week.
+     */
+    private static final class Weekly extends OccurrenceIterator {
+
+        private final long firstWeekStart;
+        private final long span;
+        private final int weekdayMask;
+        private final int firstOffset;
+        private long week;
+        private int offset;
+
+        Weekly(RecurrenceRule rule, LocalDate firstDay, long lastDay, long[] exceptions) {
+            super(firstDay.toEpochDay(), lastDay, rule.count(), exceptions);
+            this.firstOffset = dayOfWeek(this.firstDay) - 1;
+            this.firstWeekStart = this.firstDay - firstOffset;
+            this.span = 7L * rule.interval();
+            int mask = weekdayMask(rule);
+            this.weekdayMask = mask != 0 ? mask : 1 << firstOffset;
+            this.offset = firstOffset;
+        }
+
+        @Override
+        protected long position() {
+            return firstWeekStart + week * span + offset;
+        }
+
+        @Override
+        protected long advance() {
+            while (true) {
+                if (offset == 7) {
+                    week++;
+                    offset = 0;
+                }
+                long day = firstWeekStart + week * span + offset;
+                int bit = offset++;
+                if (day > lastDay || (weekdayMask & (1 << bit)) != 0) {
+                    return day;
+                }
+            }
+        }
+
+        @Override
+        protected void seek(long day, boolean counting) {
+            long relative = day - firstWeekStart;
+            week = Math.floorDiv(relative, span);
+            offset = (int) (relative - week * span);
+            if (offset >= 7) {
+                // The day falls between active weeks
+                week++;
+                offset = 0;
+            }
+            if (!counting) {
+                return;
+            }
+            if (week == 0) {
+                produced = Integer.bitCount(weekdayMask & lowBits(offset) & ~lowBits(firstOffset));
+            } else {
+                produced = Integer.bitCount(weekdayMask & ~lowBits(firstOffset))
+                        + (week - 1) * Integer.bitCount(weekdayMask)
+                        + Integer.bitCount(weekdayMask & lowBits(offset));
+            }
+        }
+    }
+
+    /**
+     * The BYDAY days, or the day of month of the first occurrence, of every {@code interval}-th month.
+     * Months without such a day, like February for the 30th, are skipped.
+     */
+    private static final class Monthly extends OccurrenceIterator {
+
+        private final long firstMonth;
+        private final int interval;
+        private final int firstDayOfMonth;
+        private final int[] ordinals;
+        private final int[] weekdays;
+        private long period;
+        private long monthStart;
+        // Bit d is set when day d of the current month matches the rule
+        private long dayMask;
+        private int dayOfMonth;
+
+        Monthly(RecurrenceRule rule, LocalDate firstDay, long lastDay, long[] exceptions) {
+            super(firstDay.toEpochDay(), lastDay, rule.count(), exceptions);
+            this.firstMonth = firstDay.getYear() * 12L + firstDay.getMonthValue() - 1;
+            this.interval = rule.interval();
+            this.firstDayOfMonth = firstDay.getDayOfMonth();
+            this.ordinals = new int[rule.byDay().size()];
+            this.weekdays = new int[rule.byDay().size()];
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = rule.byDay().get(i).ordinal();
+                weekdays[i] = rule.byDay().get(i).day().getValue();
+            }
+            load(0);
+            this.dayOfMonth = firstDayOfMonth;
+        }
+
+        @Override
+        protected long position() {
+            return monthStart + dayOfMonth - 1;
+        }
+
+        @Override
+        protected long advance() {
+            while (monthStart <= lastDay) {
+                long remaining = dayMask & (-1L << dayOfMonth);
+                if (remaining != 0) {
+                    int day = Long.numberOfTrailingZeros(remaining);
+                    dayOfMonth = day + 1;
+                    return monthStart + day - 1;
+                }
+                load(period + 1);
+                dayOfMonth = 1;
+            }
+            return monthStart;
+        }
+
+        @Override
+        protected void seek(long day, boolean counting) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            long months = date.getYear() * 12L + date.getMonthValue() - 1 - firstMonth;
+            long targetPeriod = Math.floorDiv(months, interval);
+            int targetDayOfMonth = date.getDayOfMonth();
+            if (targetPeriod * interval != months) {
+                // The day falls between active months
+                targetPeriod++;
+                targetDayOfMonth = 1;
+            }
+
+            if (counting && ordinals.length == 0 && firstDayOfMonth <= 28) {
+                // Every month has exactly one occurrence
+                produced = targetPeriod + (targetDayOfMonth > firstDayOfMonth ? 1 : 0);
+                load(targetPeriod);
+            } else if (counting) {
+                while (period < targetPeriod && monthStart <= lastDay) {
+                    produced += Long.bitCount(dayMask & (-1L << dayOfMonth));
+                    load(period + 1);
+                    dayOfMonth = 1;
+                }
+                produced += Long.bitCount(dayMask & (-1L << dayOfMonth) & ~(-1L << targetDayOfMonth));
+            } else {
+                load(targetPeriod);
+            }
+            dayOfMonth = targetDayOfMonth;
+        }
+
+        private void load(long period) {
+            this.period = period;
+            long month = firstMonth + period * interval;
+            long year = Math.floorDiv(month, 12L);
+            if (year > 9999) {
+                monthStart = Long.MAX_VALUE;
+                dayMask = 0;
+                return;
+            }
+            int monthOfYear = (int) Math.floorMod(month, 12L) + 1;
+            monthStart = firstDayOfMonth(year, monthOfYear);
+            dayMask = dayMask(dayOfWeek(monthStart), lengthOfMonth(year, monthOfYear));
+        }
+
+        private long dayMask(int firstWeekday, int length) {
+            if (ordinals.length == 0) {
+                return firstDayOfMonth <= length ? 1L << firstDayOfMonth : 0;
+            }
+            long mask = 0;
+            for (int i = 0; i < ordinals.length; i++) {
+                int first = 1 + Math.floorMod(weekdays[i] - firstWeekday, 7);
+                int ordinal = ordinals[i];
+                if (ordinal == 0) {
+                    for (int day = first; day <= length; day += 7) {
+                        mask |= 1L << day;
+                    }
+                } else if (ordinal > 0) {
+                    int day = first + 7 * (ordinal - 1);
+                    if (day <= length) {
+                        mask |= 1L << day;
+                    }
+                } else {
+                    int last = first + 7 * ((length - first) / 7);
+                    int day = last + 7 * (ordinal + 1);
+                    if (day >= 1) {
+                        mask |= 1L << day;
+                    }
+                }
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package org.test.calendar.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Supported subset of an RFC 5545 RRULE: {@code FREQ} of DAILY, WEEKLY or MONTHLY with {@code INTERVAL},
+ * {@code COUNT} or {@code UNTIL}, and {@code BYDAY}. Ordinal BYDAY entries such as {@code 2TU} or {@code -1FR}
+ * are only allowed with MONTHLY, as in the RFC. Weeks start on Monday.
+ *
+ * @param count number of occurrences including the first one, 0 when not limited by count
+ * @param until latest start of an occurrence, null when not limited by time
+ * @param byDay BYDAY entries, empty when the weekday or day of month of the first occurrence is repeated
+ */
+public record RecurrenceRule(
+        Frequency frequency,
+        int interval,
+        int count,
+        Instant until,
+        List<WeekdayNum> byDay
+) {
+
+    public static final int MAX_INTERVAL = 1000;
+    public static final int MAX_COUNT = 100_000;
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'");
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    public RecurrenceRule {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule requires FREQ");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL must be between 1 and " + MAX_INTERVAL);
+        }
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("COUNT must be between 1 and " + MAX_COUNT);
+        }
+        if (count > 0 && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL must not be combined");
+        }
+        byDay = byDay == null ? List.of() : List.copyOf(byDay);
+        for (WeekdayNum entry : byDay) {
+            if (entry.ordinal() != 0 && frequency != Frequency.MONTHLY) {
+                throw new IllegalArgumentException("Ordinal BYDAY entries are only supported with FREQ=MONTHLY");
+            }
+        }
+    }
+
+    /**
+     * Parses an RRULE value such as {@code FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10}, with or without the
+     * {@code RRULE:} prefix.
+     *
+     * @throws IllegalArgumentException if the rule is malformed or uses parts outside the supported subset
+     */
+    public static RecurrenceRule parse(String value) {
+        String rule = value.strip();
+        if (rule.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            rule = rule.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        Instant until = null;
+        List<WeekdayNum> byDay = List.of();
+        Set<String> seen = new HashSet<>();
+
+        for (String part : rule.split(";", -1)) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            String name = part.substring(0, separator).toUpperCase(Locale.ROOT);
+            String partValue = part.substring(separator + 1);
+            if (!seen.add(name)) {
+                throw new IllegalArgumentException("Recurrence rule part " + name + " is repeated");
+            }
+
+            switch (name) {
+                case "FREQ" -> frequency = Frequency.parse(partValue);
+                case "INTERVAL" -> interval = parsePositive(name, partValue);
+                case "COUNT" -> count = parsePositive(name, partValue);
+                case "UNTIL" -> until = parseUntil(partValue);
+                case "BYDAY" -> byDay = parseByDay(partValue);
+                case "WKST" -> {
+                    if (!"MO".equalsIgnoreCase(partValue)) {
+                        throw new IllegalArgumentException("Only WKST=MO is supported");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+            }
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    /**
+     * Canonical RRULE value, as stored with the series.
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (count > 0) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(UTC_DATE_TIME.format(until.atOffset(ZoneOffset.UTC)));
+        }
+        if (!byDay.isEmpty()) {
+            rule.append(";BYDAY=");
+            for (int i = 0; i < byDay.size(); i++) {
+                if (i > 0) {
+                    rule.append(',');
+                }
+                rule.append(byDay.get(i));
+            }
+        }
+        return rule.toString();
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(name + " must be a positive number");
+    }
+
+    private static Instant parseUntil(String value) {
+        try {
+            return LocalDateTime.parse(value.toUpperCase(Locale.ROOT), UTC_DATE_TIME).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL must be a UTC date-time such as 20251231T235959Z");
+        }
+    }
+
+    private static List<WeekdayNum> parseByDay(String value) {
+        List<WeekdayNum> byDay = new ArrayList<>();
+        for (String entry : value.split(",", -1)) {
+            byDay.add(WeekdayNum.parse(entry.strip().toUpperCase(Locale.ROOT)));
+        }
+        return byDay;
+    }
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY;
+
+        static Frequency parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("FREQ must be DAILY, WEEKLY or MONTHLY");
+            }
+        }
+    }
+
+    /**
+     * A BYDAY entry: every such weekday of the period when {@code ordinal} is 0, otherwise the n-th one,
+     * counted from the end of the month when negative.
+     */
+    public record WeekdayNum(int ordinal, DayOfWeek day) {
+
+        public WeekdayNum {
+            if (day == null || ordinal < -5 || ordinal > 5) {
+                throw new IllegalArgumentException("BYDAY ordinal must be between -5 and 5");
+            }
+        }
+
+        static WeekdayNum parse(String value) {
+            if (value.length() < 2) {
+                throw new IllegalArgumentException("Malformed BYDAY entry: " + value);
+            }
+            String code = value.substring(value.length() - 2);
+            int dayIndex = List.of(DAY_CODES).indexOf(code);
+            if (dayIndex < 0) {
+                throw new IllegalArgumentException("Malformed BYDAY entry: " + value);
+            }
+
+            int ordinal = 0;
+            String ordinalValue = value.substring(0, value.length() - 2);
+            if (!ordinalValue.isEmpty()) {
+                try {
+                    ordinal = Integer.parseInt(ordinalValue);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Malformed BYDAY entry: " + value);
+                }
+                if (ordinal == 0) {
+                    throw new IllegalArgumentException("Malformed BYDAY entry: " + value);
+                }
+            }
+            return new WeekdayNum(ordinal, DayOfWeek.of(dayIndex + 1));
+        }
+
+        @Override
+        public String toString() {
+            return (ordinal != 0 ? String.valueOf(ordinal) : "") + DAY_CODES[day.ordinal()];
+        }
+    }
+}
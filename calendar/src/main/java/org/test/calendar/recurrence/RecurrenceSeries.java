@@ -0,0 +1,230 @@
+package org.test.calendar.recurrence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A recurring event: its first occurrence, which is stored as the event row itself, and the rule and exception
+ * dates that generate the following ones. Every occurrence starts at the wall-clock time of the first one in
+ * the series zone, so a 09:30 meeting stays at 09:30 across daylight saving changes, and lasts as long.
+ */
+public final class RecurrenceSeries {
+
+    /**
+     * Stored as the last start of a series without COUNT or UNTIL, so open-ended series still match range bounds.
+     */
+    public static final Instant UNBOUNDED_END = Instant.parse("9999-12-31T00:00:00Z");
+
+    private final RecurrenceRule rule;
+    private final ZoneId zone;
+    private final LocalTime startTime;
+    private final long offsetSeconds;
+    private final boolean fixedOffset;
+    private final LocalDate firstDay;
+    private final Duration duration;
+    private final long[] exceptions;
+    private final long lastDay;
+
+    private RecurrenceSeries(RecurrenceRule rule, ZonedDateTime startAt, Duration duration, long[] exceptions) {
+        this.rule = rule;
+        this.zone = startAt.getZone();
+        this.startTime = startAt.toLocalTime();
+        this.fixedOffset = zone.getRules().isFixedOffset();
+        this.offsetSeconds = startAt.getOffset().getTotalSeconds();
+        this.firstDay = startAt.toLocalDate();
+        this.duration = duration;
+        this.exceptions = exceptions;
+        this.lastDay = rule.until() == null ? OccurrenceIterator.MAX_DAY : lastDayUntil(rule.until());
+    }
+
+    /**
+     * Series of a new or updated event. The first occurrence must match the rule, exception dates must fall
+     * after it.
+     *
+     * @throws IllegalArgumentException if the rule is invalid or does not produce {@code startAt}
+     */
+    public static RecurrenceSeries of(
+            String rule,
+            ZonedDateTime startAt,
+            ZonedDateTime finishAt,
+            Collection<LocalDate> exceptionDates
+    ) {
+        long[] exceptions = exceptionDates == null
+                ? new long[0]
+                : exceptionDates.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+        RecurrenceSeries series = new RecurrenceSeries(
+                RecurrenceRule.parse(rule), startAt, Duration.between(startAt, finishAt), exceptions);
+
+        long firstDay = series.firstDay.toEpochDay();
+        if (exceptions.length > 0 && exceptions[0] <= firstDay) {
+            throw new IllegalArgumentException("Exception dates must be after the first occurrence");
+        }
+        if (OccurrenceIterator.of(series.rule, series.firstDay, series.lastDay, new long[0]).next() != firstDay) {
+            throw new IllegalArgumentException("startAt must be the first occurrence of the recurrence rule");
+        }
+        return series;
+    }
+
+    /**
+     * Series as stored with an event row.
+     */
+    public static RecurrenceSeries of(String rule, String zone, Instant startAt, Instant finishAt, String exceptions) {
+        return new RecurrenceSeries(
+                RecurrenceRule.parse(rule),
+                startAt.atZone(ZoneId.of(zone)),
+                Duration.between(startAt, finishAt),
+                parseExceptions(exceptions).stream().mapToLong(LocalDate::toEpochDay).sorted().toArray());
+    }
+
+    public RecurrenceRule rule() {
+        return rule;
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * Exception dates in their stored form: ISO dates separated by commas, or null when there are none.
+     */
+    public String exceptions() {
+        if (exceptions.length == 0) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder();
+        for (long day : exceptions) {
+            if (!value.isEmpty()) {
+                value.append(',');
+            }
+            value.append(LocalDate.ofEpochDay(day));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Upper bound of the start of every occurrence: UNTIL, the start of the last occurrence under COUNT, or
+     * {@link #UNBOUNDED_END}.
+     */
+    public Instant lastStartAt() {
+        if (rule.until() != null) {
+            return rule.until();
+        }
+        if (rule.count() == 0) {
+            return UNBOUNDED_END;
+        }
+        OccurrenceIterator iterator = iterator();
+        long last = firstDay.toEpochDay();
+        for (long day = iterator.next(); day != OccurrenceIterator.DONE; day = iterator.next()) {
+            last = day;
+        }
+        return startOf(last);
+    }
+
+    /**
+     * Iterator over the days of all occurrences, the first one included.
+     */
+    public OccurrenceIterator iterator() {
+        return OccurrenceIterator.of(rule, firstDay, lastDay, exceptions);
+    }
+
+    /**
+     * Visits the occurrences after the first one that start within {@code [from, to)}, in start order, until the
+     * visitor returns false. Iteration skips straight to the day of {@code from}.
+     */
+    public void forEachOccurrence(Instant from, Instant to, OccurrenceVisitor visitor) {
+        OccurrenceIterator iterator = iterator();
+        long fromDay = LocalDate.ofInstant(from, zone).toEpochDay();
+        iterator.skipTo(Math.max(fromDay, firstDay.toEpochDay() + 1));
+
+        for (long day = iterator.next(); day != OccurrenceIterator.DONE; day = iterator.next()) {
+            Instant startAt = startOf(day);
+            if (!startAt.isBefore(to)) {
+                return;
+            }
+            if (!startAt.isBefore(from)) {
+                if (!visitor.visit(startAt, startAt.plus(duration))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of occurrences after the first one that start within {@code [from, to)}.
+     */
+    public long countOccurrences(Instant from, Instant to) {
+        long[] count = new long[1];
+        forEachOccurrence(from, to, (startAt, finishAt) -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Whether an occurrence after the first one starts within {@code [from, to)}.
+     */
+    public boolean hasOccurrence(Instant from, Instant to) {
+        boolean[] found = new boolean[1];
+        forEachOccurrence(from, to, (startAt, finishAt) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    public static List<LocalDate> parseExceptions(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        try {
+            for (String date : value.split(",")) {
+                dates.add(LocalDate.parse(date.strip()));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed recurrence exception dates: " + value, e);
+        }
+        return dates;
+    }
+
+    private Instant startOf(long day) {
+        if (fixedOffset) {
+            // Avoids resolving a ZonedDateTime for UTC and other zones without transitions
+            return Instant.ofEpochSecond(day * 86_400 + startTime.toSecondOfDay() - offsetSeconds, startTime.getNano());
+        }
+        return LocalDateTime.of(LocalDate.ofEpochDay(day), startTime).atZone(zone).toInstant();
+    }
+
+    private long lastDayUntil(Instant until) {
+        if (until.isAfter(UNBOUNDED_END)) {
+            return OccurrenceIterator.MAX_DAY;
+        }
+        long day = LocalDate.ofInstant(until, zone).toEpochDay();
+        return startOf(day).isAfter(until) ? day - 1 : day;
+    }
+
+    @Override
+    public String toString() {
+        return rule + " from " + firstDay.atTime(startTime).atZone(zone)
+                + (exceptions.length > 0 ? " except " + exceptions() : "");
+    }
+
+    @FunctionalInterface
+    public interface OccurrenceVisitor {
+
+        /**
+         * @return whether to continue with the next occurrence
+         */
+        boolean visit(Instant startAt, Instant finishAt);
+    }
+}
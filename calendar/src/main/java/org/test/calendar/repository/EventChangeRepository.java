@@ -0,0 +1,49 @@
+package org.test.calendar.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.test.calendar.model.entity.EventChangeEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Change log of the events table. Writes record their changes in their own transaction, so a rolled-back write
+ * leaves no change behind. Tombstones are recorded before the rows are deleted, from the rows that still exist.
+ * The recording statements are in {@link EventChangeRepositoryCustom}.
+ */
+public interface EventChangeRepository extends JpaRepository<EventChangeEntity, Long>, EventChangeRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select c
+            from EventChangeEntity c
+            where c.seq > :since
+            order by c.seq
+            """)
+    List<EventChangeEntity> findChangesAfter(@Param("since") long since, Limit limit);
+
+    @Query("""
+            select coalesce(max(c.seq), 0L)
+            from EventChangeEntity c
+            where c.changedAt <= :changedAt
+            """)
+    long findLastSeqChangedBy(@Param("changedAt") Instant changedAt);
+
+    /**
+     * Oldest retained change. Changes before it may have been purged.
+     */
+    @Query("select min(c.seq) from EventChangeEntity c")
+    Optional<Long> findFirstSeq();
+
+    @Modifying
+    @Query("delete from EventChangeEntity c where c.seq < :seq")
+    int deleteSeqBefore(@Param("seq") long seq);
+}
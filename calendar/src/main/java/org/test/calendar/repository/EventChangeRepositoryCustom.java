@@ -0,0 +1,24 @@
+package org.test.calendar.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Records changes in the current write transaction. A change gets its {@code seq} when it is recorded but only becomes
+ * visible when the transaction commits, so each call also makes the transaction fail at commit when it commits later
+ * than {@code calendar.changes.commit-timeout} after {@code changedAt}, instead of surfacing a change that clients
+ * have already read past.
+ */
+public interface EventChangeRepositoryCustom {
+
+    int recordChange(UUID eventId, boolean deleted, Instant changedAt);
+
+    /**
+     * Records a change of every existing event of {@code eventIds} with one statement; ids of missing events are
+     * skipped.
+     */
+    int recordChanges(Collection<UUID> eventIds, boolean deleted, Instant changedAt);
+
+    int recordDeletionsInRange(Instant from, Instant to, Instant changedAt);
+}
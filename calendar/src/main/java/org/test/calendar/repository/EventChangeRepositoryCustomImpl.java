@@ -0,0 +1,88 @@
+package org.test.calendar.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.test.calendar.config.EventChangeProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class EventChangeRepositoryCustomImpl implements EventChangeRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<EventChangeProperties> properties;
+
+    @Override
+    public int recordChange(UUID eventId, boolean deleted, Instant changedAt) {
+        requireCommitWithinTimeout(changedAt);
+        return entityManager.createQuery("""
+                        insert into EventChangeEntity (eventId, deleted, changedAt)
+                        values (:eventId, :deleted, :changedAt)
+                        """)
+                .setParameter("eventId", eventId)
+                .setParameter("deleted", deleted)
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+    }
+
+    @Override
+    public int recordChanges(Collection<UUID> eventIds, boolean deleted, Instant changedAt) {
+        requireCommitWithinTimeout(changedAt);
+        return entityManager.createQuery("""
+                        insert into EventChangeEntity (eventId, deleted, changedAt)
+                        select e.id, :deleted, :changedAt
+                        from EventEntity e
+                        where e.id in :eventIds
+                        """)
+                .setParameter("eventIds", eventIds)
+                .setParameter("deleted", deleted)
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+    }
+
+    @Override
+    public int recordDeletionsInRange(Instant from, Instant to, Instant changedAt) {
+        requireCommitWithinTimeout(changedAt);
+        return entityManager.createQuery("""
+                        insert into EventChangeEntity (eventId, deleted, changedAt)
+                        select e.id, true, :changedAt
+                        from EventEntity e
+                        where e.startAt >= :from and e.startAt < :to
+                        """)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+    }
+
+    /**
+     * Fails the commit when the transaction gets there later than the commit timeout after {@code changedAt}. The
+     * pending statements are flushed first, so lock waits during the flush count against the timeout too.
+     */
+    private void requireCommitWithinTimeout(Instant changedAt) {
+        EventChangeProperties changeProperties = properties.getIfAvailable();
+        Duration timeout = changeProperties != null ? changeProperties.commitTimeout() : Duration.ZERO;
+        if (timeout.isZero() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Instant deadline = changedAt.plus(timeout);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entityManager.flush();
+                if (Instant.now().isAfter(deadline)) {
+                    throw new TransactionTimedOutException(
+                            "Write did not commit within " + timeout + " of recording its change");
+                }
+            }
+        });
+    }
+}
@@ -1,13 +1,333 @@
 package org.test.calendar.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventDayCount;
+import org.test.calendar.model.projection.EventIntervalProjection;
+import org.test.calendar.model.projection.EventKeyProjection;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventRangeStamp;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface EventRepository extends JpaRepository<EventEntity, UUID> {
+public interface EventRepository extends JpaRepository<EventEntity, UUID>, EventRepositoryCustom {
 
     List<EventEntity> findByStartAtBetween(Instant startOfMonth, Instant startOfNextMonth);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventPreviewProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location)
+            from EventEntity e
+            where e.startAt between :from and :to
+            """)
+    List<EventPreviewProjection> findPreviewsByStartAtBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Previews of the events overlapping {@code [from, to)} in start order, longer events first on equal starts.
+     * Only rows starting from {@code scanFrom} are read, which keeps the scan a range on {@code idx_events_start_at}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventPreviewProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location)
+            from EventEntity e
+            where e.startAt >= :scanFrom and e.startAt < :to and e.finishAt > :from
+            order by e.startAt, e.finishAt desc, e.id
+            """)
+    List<EventPreviewProjection> findPreviewsOverlapping(
+            @Param("scanFrom") Instant scanFrom,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventPreviewProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location)
+            from EventEntity e
+            where e.startAt >= :from and e.startAt < :to
+            order by e.startAt, e.id
+            """)
+    List<EventPreviewProjection> findPreviewPage(@Param("from") Instant from, @Param("to") Instant to, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventPreviewProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location)
+            from EventEntity e
+            where e.startAt >= :from and e.startAt < :to
+              and (e.startAt > :afterStartAt or (e.startAt = :afterStartAt and e.id > :afterId))
+            order by e.startAt, e.id
+            """)
+    List<EventPreviewProjection> findPreviewPageAfter(
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("afterStartAt") Instant afterStartAt,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    long countByStartAtGreaterThanEqualAndStartAtLessThan(Instant from, Instant to);
+
+    @Query("""
+            select new org.test.calendar.model.projection.EventKeyProjection(e.id, e.startAt, e.recurrenceEnd, e.version)
+            from EventEntity e
+            where e.id in :ids
+            """)
+    List<EventKeyProjection> findKeysByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select new org.test.calendar.model.projection.EventKeyProjection(e.id, e.startAt, e.recurrenceEnd, e.version)
+            from EventEntity e
+            where e.id = :id
+            """)
+    Optional<EventKeyProjection> findKeyById(@Param("id") UUID id);
+
+    /**
+     * Same lookup as {@link #findKeyById} as a locking read, which sees the latest committed row rather than the
+     * transaction's snapshot and keeps it from changing until commit.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new org.test.calendar.model.projection.EventKeyProjection(e.id, e.startAt, e.recurrenceEnd, e.version)
+            from EventEntity e
+            where e.id = :id
+            """)
+    Optional<EventKeyProjection> lockKeyById(@Param("id") UUID id);
+
+    /**
+     * Locking lookup of the events of {@code ids} that exist, like {@link #lockKeyById}. Rows are locked in id order,
+     * so two overlapping bulk deletes wait for each other instead of deadlocking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new org.test.calendar.model.projection.EventKeyProjection(e.id, e.startAt, e.recurrenceEnd, e.version)
+            from EventEntity e
+            where e.id in :ids
+            order by e.id
+            """)
+    List<EventKeyProjection> lockKeysByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select case when count(e) > 0 then true else false end
+            from EventEntity e
+            where e.startAt >= :from and e.startAt < :to and e.recurrenceEnd is not null
+            """)
+    boolean existsSeriesStartingIn(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Recurring events that may have occurrences after their first one starting within {@code [from, to)}.
+     * Served by {@code idx_events_recurrence_end}, which single events stay out of.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventSeriesProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location,
+                    e.recurrenceRule, e.recurrenceZone, e.recurrenceExceptions)
+            from EventEntity e
+            where e.recurrenceEnd >= :from and e.startAt < :to
+            """)
+    List<EventSeriesProjection> findSeriesOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Recurring events starting before {@code from} that may have occurrences from it on, in start order, for
+     * readers that write out the series itself rather than its occurrences.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+            select e
+            from EventEntity e
+            where e.recurrenceEnd >= :from and e.startAt < :from
+            order by e.startAt, e.id
+            """)
+    List<EventEntity> findSeriesContinuingFrom(@Param("from") Instant from);
+
+    @Query("""
+            select new org.test.calendar.model.projection.EventSeriesProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location,
+                    e.recurrenceRule, e.recurrenceZone, e.recurrenceExceptions)
+            from EventEntity e
+            where e.id = :id
+            """)
+    Optional<EventSeriesProjection> findSeriesById(@Param("id") UUID id);
+
+    /**
+     * Number and total minutes of the events starting within {@code [from, to)}, grouped by 24-hour days counted
+     * from {@code origin}. The days are computed in a derived table, so the grouped expression holds no parameter
+     * that MySQL would have to match between the select list and the GROUP BY.
+     */
+    @Query("""
+            select new org.test.calendar.model.projection.EventDayCount(d.dayIndex, count(*), sum(d.durationMinutes))
+            from (
+                select cast(floor(((e.startAt - :origin) by second) / 86400) as Long) as dayIndex,
+                       ((e.finishAt - e.startAt) by minute) as durationMinutes
+                from EventEntity e
+                where e.startAt >= :from and e.startAt < :to
+            ) d
+            group by d.dayIndex
+            """)
+    List<EventDayCount> countByDay(
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("origin") Instant origin
+    );
+
+    @Modifying
+    @Query("delete from EventEntity e where e.id = :id")
+    int deleteEventById(@Param("id") UUID id);
+
+    /**
+     * Deletes the event only while it still has {@code version}.
+     *
+     * @return 0 if the event does not exist or was changed since that version was read
+     */
+    @Modifying
+    @Query("delete from EventEntity e where e.id = :id and e.version = :version")
+    int deleteEventByIdAndVersion(@Param("id") UUID id, @Param("version") Long version);
+
+    @Modifying
+    @Query("delete from EventEntity e where e.id in :ids")
+    int deleteEventsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from EventEntity e where e.startAt >= :from and e.startAt < :to")
+    int deleteEventsByStartAtInRange(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("""
+            select new org.test.calendar.model.projection.EventTimesProjection(e.startAt, e.finishAt, e.recurrenceEnd)
+            from EventEntity e
+            where e.id = :id
+            """)
+    Optional<EventTimesProjection> findTimesById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventPreviewProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location)
+            from EventEntity e
+            where e.locationHash = :locationHash and e.location = :location
+              and e.startAt > :scanFrom and e.startAt < :finishAt and e.finishAt > :startAt
+              and (:excludeId is null or e.id <> :excludeId)
+            order by e.startAt
+            """)
+    List<EventPreviewProjection> findOverlapping(
+            @Param("locationHash") String locationHash,
+            @Param("location") String location,
+            @Param("scanFrom") Instant scanFrom,
+            @Param("startAt") Instant startAt,
+            @Param("finishAt") Instant finishAt,
+            @Param("excludeId") UUID excludeId,
+            Limit limit
+    );
+
+    /**
+     * Same lookup as {@link #findOverlapping} as a locking read. On InnoDB it also locks the gaps of the
+     * scanned index range, so a concurrent insert into the same location and time window waits for commit.
+     * <p>
+     * Only columns of {@code idx_events_location_hash_start_at} (and the primary key its entries carry) are
+     * read, so the rows' {@code TEXT} columns are never fetched. The location itself is not compared: two
+     * locations with the same SHA-256 are not expected.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new org.test.calendar.model.projection.EventIntervalProjection(e.id, e.startAt, e.finishAt)
+            from EventEntity e
+            where e.locationHash = :locationHash
+              and e.startAt > :scanFrom and e.startAt < :finishAt and e.finishAt > :startAt
+              and (:excludeId is null or e.id <> :excludeId)
+            order by e.startAt
+            """)
+    List<EventIntervalProjection> lockOverlapping(
+            @Param("locationHash") String locationHash,
+            @Param("scanFrom") Instant scanFrom,
+            @Param("startAt") Instant startAt,
+            @Param("finishAt") Instant finishAt,
+            @Param("excludeId") UUID excludeId
+    );
+
+    /**
+     * Recurring events at a location with occurrences that may start within {@code [from, to)}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new org.test.calendar.model.projection.EventSeriesProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location,
+                    e.recurrenceRule, e.recurrenceZone, e.recurrenceExceptions)
+            from EventEntity e
+            where e.locationHash = :locationHash and e.location = :location
+              and e.recurrenceEnd >= :from and e.startAt < :to
+              and (:excludeId is null or e.id <> :excludeId)
+            """)
+    List<EventSeriesProjection> findSeriesAtLocation(
+            @Param("locationHash") String locationHash,
+            @Param("location") String location,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("excludeId") UUID excludeId
+    );
+
+    /**
+     * Same lookup as {@link #findSeriesAtLocation} as a locking read. It scans {@code idx_events_recurrence_end},
+     * so on InnoDB a concurrent write of another series waits for commit, while single events, which stay out of
+     * that index, do not. The rule is needed to expand a series, so rows are read, but not into entities.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new org.test.calendar.model.projection.EventSeriesProjection(
+                    e.id, e.title, e.startAt, e.finishAt, e.location,
+                    e.recurrenceRule, e.recurrenceZone, e.recurrenceExceptions)
+            from EventEntity e
+            where e.locationHash = :locationHash and e.location = :location
+              and e.recurrenceEnd >= :from and e.startAt < :to
+              and (:excludeId is null or e.id <> :excludeId)
+            """)
+    List<EventSeriesProjection> lockSeriesAtLocation(
+            @Param("locationHash") String locationHash,
+            @Param("location") String location,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("excludeId") UUID excludeId
+    );
+
+    @Query("select e.importUid from EventEntity e where e.importUid in :uids")
+    List<String> findImportUidsIn(@Param("uids") Collection<String> uids);
+
+    @Query("""
+            select new org.test.calendar.model.projection.EventRangeStamp(
+                    count(e), coalesce(sum(e.version), 0L), max(e.updatedAt))
+            from EventEntity e
+            where e.startAt between :from and :to
+            """)
+    EventRangeStamp findStampByStartAtBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Stamp of the recurring events with occurrences that may start within {@code [from, to]}, which a change
+     * to a series starting before the range would otherwise leave out.
+     */
+    @Query("""
+            select new org.test.calendar.model.projection.EventRangeStamp(
+                    count(e), coalesce(sum(e.version), 0L), max(e.updatedAt))
+            from EventEntity e
+            where e.recurrenceEnd >= :from and e.startAt <= :to
+            """)
+    EventRangeStamp findSeriesStampBetween(@Param("from") Instant from, @Param("to") Instant to);
 }
@@ -0,0 +1,37 @@
+package org.test.calendar.repository;
+
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.model.projection.EventVersionProjection;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Updates only the non-null arguments of the event with a single UPDATE statement.
+     *
+     * @return number of updated rows, 0 if the event does not exist
+     */
+    int patchEvent(UUID id, String title, String description, Instant startAt, Instant finishAt, String location);
+
+    /**
+     * Times of the events overlapping {@code [from, to)} in start order; {@code scanFrom} bounds the index range.
+     * No other statement may run on the connection until the stream is closed.
+     */
+    Stream<EventTimesProjection> streamTimesOverlapping(Instant scanFrom, Instant from, Instant to);
+
+    /**
+     * Events starting in {@code [from, to)} in start order, read-only and bypassing the second-level cache.
+     * No other statement may run on the connection until the stream is closed.
+     */
+    Stream<EventEntity> streamByStartAtRange(Instant from, Instant to);
+
+    /**
+     * Id, start and version of the events starting in {@code [from, to)}.
+     * No other statement may run on the connection until the stream is closed.
+     */
+    Stream<EventVersionProjection> streamVersionsByStartAtRange(Instant from, Instant to);
+}
@@ -0,0 +1,110 @@
+package org.test.calendar.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.model.projection.EventVersionProjection;
+import org.test.calendar.util.LocationHash;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patchEvent(UUID id, String title, String description, Instant startAt, Instant finishAt, String location) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<EventEntity> update = criteriaBuilder.createCriteriaUpdate(EventEntity.class);
+        Root<EventEntity> root = update.from(EventEntity.class);
+
+        if (title != null) {
+            update.set(root.<String>get("title"), title);
+        }
+        if (description != null) {
+            update.set(root.<String>get("description"), description);
+        }
+        if (startAt != null) {
+            update.set(root.<Instant>get("startAt"), startAt);
+        }
+        if (finishAt != null) {
+            update.set(root.<Instant>get("finishAt"), finishAt);
+        }
+        if (location != null) {
+            update.set(root.<String>get("location"), location);
+            update.set(root.<String>get("locationHash"), LocationHash.of(location));
+        }
+        // Bulk updates bypass Hibernate's versioning, so the change stamp is bumped here
+        update.set(root.<Long>get("version"), criteriaBuilder.sum(root.<Long>get("version"), 1L));
+        update.set(root.<Instant>get("updatedAt"), Instant.now());
+        update.where(criteriaBuilder.equal(root.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public Stream<EventTimesProjection> streamTimesOverlapping(Instant scanFrom, Instant from, Instant to) {
+        return streaming(entityManager.createQuery("""
+                        select new org.test.calendar.model.projection.EventTimesProjection(e.startAt, e.finishAt)
+                        from EventEntity e
+                        where e.startAt >= :scanFrom and e.startAt < :to and e.finishAt > :from
+                        order by e.startAt
+                        """, EventTimesProjection.class)
+                .setParameter("scanFrom", scanFrom)
+                .setParameter("from", from)
+                .setParameter("to", to));
+    }
+
+    @Override
+    public Stream<EventEntity> streamByStartAtRange(Instant from, Instant to) {
+        // Streamed rows are read once, so they bypass the second-level cache instead of churning it
+        return streaming(entityManager.createQuery("""
+                        select e
+                        from EventEntity e
+                        where e.startAt >= :from and e.startAt < :to
+                        order by e.startAt, e.id
+                        """, EventEntity.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_CACHE_MODE, "IGNORE"));
+    }
+
+    @Override
+    public Stream<EventVersionProjection> streamVersionsByStartAtRange(Instant from, Instant to) {
+        // Covered by idx_events_start_at_stamp, whose InnoDB entries also carry the primary key
+        return streaming(entityManager.createQuery("""
+                        select new org.test.calendar.model.projection.EventVersionProjection(e.id, e.startAt, e.version)
+                        from EventEntity e
+                        where e.startAt >= :from and e.startAt < :to
+                        """, EventVersionProjection.class)
+                .setParameter("from", from)
+                .setParameter("to", to));
+    }
+
+    /**
+     * Streams a read-only query without buffering its whole result. Connector/J only streams a statement whose
+     * fetch size is {@link Integer#MIN_VALUE} unless the whole connection is opened with {@code useCursorFetch},
+     * so the streaming mode is asked for on the statement; other databases get a regular fetch size.
+     */
+    private <T> Stream<T> streaming(TypedQuery<T> query) {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        return query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, mysql ? Integer.MIN_VALUE : STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,302 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventBatchProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.EventConflictException;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventBatchItemResult;
+import org.test.calendar.model.dto.EventBatchOperation;
+import org.test.calendar.model.dto.EventBatchResponse;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventKeyProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventChangeRepository;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+import org.test.calendar.util.DateUtil;
+import org.test.calendar.validation.EventValidation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies create/update/delete operations in chunked transactions flushed once per chunk, so Hibernate
+ * sends them as JDBC batches. A failed chunk is replayed item by item to report only the offending operations.
+ * <p>
+ * Creates and updates go through the same double-booking check as single writes. The check's query flushes the
+ * chunk's earlier items first, so an item overlapping one before it in the same batch is caught as well.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventBatchService {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final EventBatchProperties properties;
+    private final EventPreviewCache previewCache;
+    private final EventChangeRepository changeRepository;
+    private final EventStreamHub streamHub;
+    private final EventProperties eventProperties;
+    private final EventConflictService conflictService;
+
+    public EventBatchResponse applyOperations(@NonNull List<EventBatchOperation> operations) {
+        if (operations.size() > properties.maxOperations()) {
+            throw new IllegalArgumentException("Batch must not contain more than " + properties.maxOperations() + " operations");
+        }
+
+        EventBatchItemResult[] results = new EventBatchItemResult[operations.size()];
+        List<IndexedOperation> valid = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            EventBatchOperation operation = operations.get(i);
+            String error = validate(operation);
+            if (error == null) {
+                valid.add(new IndexedOperation(i, operation));
+            } else {
+                results[i] = EventBatchItemResult.failure(i, operation == null ? null : operation.type(),
+                        operation == null ? null : operation.id(), EventBatchItemResult.Status.INVALID, error);
+            }
+        }
+
+        int chunkSize = properties.chunkSize();
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<IndexedOperation> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            applyChunk(chunk, results);
+        }
+
+        List<EventBatchItemResult> resultList = Arrays.asList(results);
+        int succeeded = (int) resultList.stream()
+                .filter(result -> result.status() == EventBatchItemResult.Status.SUCCESS)
+                .count();
+        if (succeeded > 0) {
+            // Pushing every operation would overflow the subscriber queues of a large batch anyway
+            streamHub.publishResync();
+        }
+
+        log.debug("Applied batch of {} operations, {} succeeded", operations.size(), succeeded);
+        return new EventBatchResponse(resultList, succeeded, resultList.size() - succeeded);
+    }
+
+    private void applyChunk(List<IndexedOperation> chunk, EventBatchItemResult[] results) {
+        try {
+            List<EventBatchItemResult> chunkResults = transactionTemplate.execute(status -> executeChunk(chunk));
+            chunkResults.forEach(result -> results[result.index()] = result);
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                IndexedOperation item = chunk.getFirst();
+                log.debug("Batch operation {} failed", item.index(), e);
+                results[item.index()] = e instanceof EventConflictException
+                        ? EventBatchItemResult.failure(item.index(), item.operation().type(), item.operation().id(),
+                                EventBatchItemResult.Status.CONFLICT, e.getMessage())
+                        : EventBatchItemResult.failure(item.index(), item.operation().type(), item.operation().id(),
+                                EventBatchItemResult.Status.FAILED, "Operation could not be applied");
+                return;
+            }
+
+            log.debug("Batch chunk of {} operations failed, retrying operations one by one", chunk.size(), e);
+            for (IndexedOperation item : chunk) {
+                applyChunk(List.of(item), results);
+            }
+        }
+    }
+
+    private List<EventBatchItemResult> executeChunk(List<IndexedOperation> chunk) {
+        Set<UUID> updateIds = chunk.stream()
+                .filter(item -> item.operation().type() == EventBatchOperation.Type.UPDATE)
+                .map(item -> item.operation().id())
+                .collect(Collectors.toSet());
+        Map<UUID, EventEntity> existing = updateIds.isEmpty()
+                ? Map.of()
+                : eventRepository.findAllById(updateIds).stream()
+                        .collect(Collectors.toMap(EventEntity::getId, Function.identity()));
+
+        Set<UUID> deleteIds = chunk.stream()
+                .filter(item -> item.operation().type() == EventBatchOperation.Type.DELETE)
+                .map(item -> item.operation().id())
+                .collect(Collectors.toSet());
+        Map<UUID, EventKeyProjection> existingDeleteIds = deleteIds.isEmpty()
+                ? Map.of()
+                : eventRepository.findKeysByIdIn(deleteIds).stream()
+                        .collect(Collectors.toMap(EventKeyProjection::id, Function.identity()));
+
+        List<Instant> touchedStartAts = new ArrayList<>();
+        // Occurrences of a recurring event may fall on any day, so writing one evicts every cached day
+        boolean recurring = false;
+        for (EventEntity eventEntity : existing.values()) {
+            touchedStartAts.add(eventEntity.getStartAt());
+            recurring |= eventEntity.isRecurring();
+        }
+
+        List<EventBatchItemResult> chunkResults = new ArrayList<>(chunk.size());
+        List<EventEntity> touched = new ArrayList<>(chunk.size());
+        Set<UUID> deleted = new HashSet<>();
+
+        for (IndexedOperation item : chunk) {
+            int index = item.index();
+            EventBatchOperation operation = item.operation();
+
+            switch (operation.type()) {
+                case CREATE -> {
+                    EventEntity eventEntity = eventMapper.toEventEntity(operation.event());
+                    checkConflicts(null, eventEntity);
+                    entityManager.persist(eventEntity);
+                    touched.add(eventEntity);
+                    chunkResults.add(null);
+                }
+                case UPDATE -> {
+                    EventEntity eventEntity = existing.get(operation.id());
+                    if (eventEntity == null || deleted.contains(operation.id())) {
+                        chunkResults.add(notFound(index, operation));
+                        touched.add(null);
+                        continue;
+                    }
+                    EventDto eventDto = operation.event();
+                    eventEntity.setTitle(eventDto.title());
+                    eventEntity.setDescription(eventDto.description());
+                    eventEntity.setStartAt(DateUtil.toInstant(eventDto.startAt()));
+                    eventEntity.setFinishAt(DateUtil.toInstant(eventDto.finishAt()));
+                    eventEntity.setLocation(eventDto.location());
+                    eventMapper.updateRecurrence(eventDto, eventEntity);
+                    checkConflicts(eventEntity.getId(), eventEntity);
+                    touched.add(eventEntity);
+                    chunkResults.add(null);
+                }
+                case DELETE -> {
+                    if (!existingDeleteIds.containsKey(operation.id()) || !deleted.add(operation.id())) {
+                        chunkResults.add(notFound(index, operation));
+                    } else {
+                        EventKeyProjection key = existingDeleteIds.get(operation.id());
+                        touchedStartAts.add(key.startAt());
+                        recurring |= key.recurring();
+                        chunkResults.add(EventBatchItemResult.success(index, operation.type(), operation.id(), null));
+                    }
+                    touched.add(null);
+                }
+            }
+        }
+
+        // One flush per chunk lets Hibernate send the INSERTs and UPDATEs as JDBC batches
+        entityManager.flush();
+
+        // Changes are recorded with one statement each for the written and the deleted events
+        Instant changedAt = Instant.now();
+        Set<UUID> written = new HashSet<>();
+        for (EventEntity eventEntity : touched) {
+            if (eventEntity != null && !deleted.contains(eventEntity.getId())) {
+                written.add(eventEntity.getId());
+            }
+        }
+        if (!written.isEmpty()) {
+            changeRepository.recordChanges(written, false, changedAt);
+        }
+        if (!deleted.isEmpty()) {
+            changeRepository.recordChanges(deleted, true, changedAt);
+            deleted.forEach(id -> {
+                EventEntity managed = existing.get(id);
+                if (managed != null) {
+                    entityManager.detach(managed);
+                }
+            });
+            eventRepository.deleteAllByIdInBatch(deleted);
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            EventEntity eventEntity = touched.get(i);
+            if (eventEntity != null) {
+                touchedStartAts.add(eventEntity.getStartAt());
+                recurring |= eventEntity.isRecurring();
+            }
+            if (chunkResults.get(i) == null) {
+                IndexedOperation item = chunk.get(i);
+                chunkResults.set(i, EventBatchItemResult.success(item.index(), item.operation().type(),
+                        eventEntity.getId(), eventMapper.toEventDto(eventEntity)));
+            }
+        }
+
+        if (recurring) {
+            previewCache.invalidateAll();
+        } else {
+            previewCache.invalidate(touchedStartAts);
+        }
+        return chunkResults;
+    }
+
+    private void checkConflicts(UUID id, EventEntity eventEntity) {
+        RecurrenceSeries series = eventEntity.isRecurring()
+                ? RecurrenceSeries.of(eventEntity.getRecurrenceRule(), eventEntity.getRecurrenceZone(),
+                        eventEntity.getStartAt(), eventEntity.getFinishAt(), eventEntity.getRecurrenceExceptions())
+                : null;
+        conflictService.checkWrite(id, eventEntity.getLocation(), eventEntity.getStartAt(), eventEntity.getFinishAt(),
+                series);
+    }
+
+    private String validate(EventBatchOperation operation) {
+        if (operation == null || operation.type() == null) {
+            return "Operation type is required";
+        }
+
+        Class<?> group = switch (operation.type()) {
+            case CREATE -> EventValidation.EventCreation.class;
+            case UPDATE -> EventValidation.EventUpdating.class;
+            case DELETE -> null;
+        };
+
+        if (operation.type() != EventBatchOperation.Type.CREATE && operation.id() == null) {
+            return "Event id is required for " + operation.type();
+        }
+        if (group == null) {
+            return null;
+        }
+        if (operation.event() == null) {
+            return "Event is required for " + operation.type();
+        }
+
+        Set<ConstraintViolation<EventDto>> violations = validator.validate(operation.event(), group);
+        if (violations.isEmpty()) {
+            return exceedsMaxDuration(operation.event()) ? eventProperties.maxDurationMessage() : null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                        ? violation.getMessage()
+                        : violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private boolean exceedsMaxDuration(EventDto eventDto) {
+        return eventDto.startAt() != null && eventDto.finishAt() != null
+                && eventProperties.exceedsMaxDuration(eventDto.startAt().toInstant(), eventDto.finishAt().toInstant());
+    }
+
+    private EventBatchItemResult notFound(int index, EventBatchOperation operation) {
+        return EventBatchItemResult.failure(index, operation.type(), operation.id(),
+                EventBatchItemResult.Status.NOT_FOUND, "Event not found with id: " + operation.id());
+    }
+
+    private record IndexedOperation(int index, EventBatchOperation operation) {
+    }
+}
@@ -0,0 +1,142 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.config.EventChangeProperties;
+import org.test.calendar.exception.ChangeTokenExpiredException;
+import org.test.calendar.jdbc.ReplicaRouter;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventChangeDto;
+import org.test.calendar.model.dto.EventChangesResponse;
+import org.test.calendar.model.entity.EventChangeEntity;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventChangeRepository;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.util.EventChangeToken;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the change log for delta sync, so clients refresh in O(changes) instead of refetching whole ranges.
+ * <p>
+ * A change gets its {@code seq} when its row is inserted, but becomes visible when its transaction commits, so a
+ * lower {@code seq} may appear after a higher one. Writes fail at commit when they commit later than
+ * {@code calendar.changes.commit-timeout} after recording their change, and changes are only served once they are
+ * older than {@code calendar.changes.settle-time}, which is checked at startup to exceed the commit timeout. A page
+ * stops at the first change that is not settled yet.
+ * <p>
+ * That only holds on the primary: a replica may apply a lower {@code seq} after a higher one has settled there, and a
+ * token past the higher one would skip it for good. The change log is therefore always read from the primary.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventChangeService {
+
+    private final EventChangeRepository changeRepository;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventChangeProperties properties;
+
+    /**
+     * Returns the events changed after {@code since}, each once with its current state. Without {@code since}, returns
+     * no changes and the token to start from, which clients should fetch before loading their initial copy.
+     *
+     * @throws ChangeTokenExpiredException if changes after the token may have been purged
+     */
+    @Transactional(readOnly = true)
+    public EventChangesResponse getChanges(String since, Integer size) {
+        return ReplicaRouter.onPrimary(() -> readChanges(since, size));
+    }
+
+    private EventChangesResponse readChanges(String since, Integer size) {
+        log.debug("Getting event changes since {} with size {}", since, size);
+
+        int pageSize = size == null ? properties.defaultPageSize() : size;
+        if (pageSize < 1 || pageSize > properties.maxPageSize()) {
+            throw new IllegalArgumentException("size must be between 1 and " + properties.maxPageSize());
+        }
+
+        Instant now = Instant.now();
+        Instant settledBy = now.minus(properties.settleTime());
+        if (since == null) {
+            long seq = changeRepository.findLastSeqChangedBy(settledBy);
+            return new EventChangesResponse(List.of(), new EventChangeToken(seq, now).encode(), false);
+        }
+
+        EventChangeToken token = EventChangeToken.decode(since);
+        // The purge keeps the newest expired change, so every change before the oldest retained one is gone
+        long firstSeq = changeRepository.findFirstSeq().orElse(0L);
+        if (token.seq() < firstSeq - 1) {
+            throw new ChangeTokenExpiredException();
+        }
+
+        // One extra row tells whether another page is available
+        List<EventChangeEntity> rows = changeRepository.findChangesAfter(token.seq(), Limit.of(pageSize + 1));
+        int settled = 0;
+        while (settled < rows.size() && !rows.get(settled).getChangedAt().isAfter(settledBy)) {
+            settled++;
+        }
+        boolean hasMore = settled > pageSize;
+        List<EventChangeEntity> page = rows.subList(0, Math.min(settled, pageSize));
+
+        long nextSeq = page.isEmpty() ? token.seq() : page.getLast().getSeq();
+        return new EventChangesResponse(toChanges(page), new EventChangeToken(nextSeq, now).encode(), hasMore);
+    }
+
+    /**
+     * Deletes the changes older than the retention, except the newest of them, which marks where the retained changes
+     * start. Tokens from before that change are rejected, so no client can miss a purged change.
+     */
+    @Scheduled(
+            initialDelayString = "${calendar.changes.purge-interval:1h}",
+            fixedDelayString = "${calendar.changes.purge-interval:1h}"
+    )
+    @Transactional
+    public int purgeExpiredChanges() {
+        Instant cutoff = Instant.now().minus(properties.retention()).minus(properties.settleTime());
+        long keptSeq = changeRepository.findLastSeqChangedBy(cutoff);
+        int purged = keptSeq > 0 ? changeRepository.deleteSeqBefore(keptSeq) : 0;
+        log.debug("Purged {} event changes before seq {}", purged, keptSeq);
+        return purged;
+    }
+
+    private List<EventChangeDto> toChanges(List<EventChangeEntity> page) {
+        // Only the latest change of each event matters; re-inserting moves it to the position of that change
+        Map<UUID, Boolean> latest = new LinkedHashMap<>();
+        for (EventChangeEntity change : page) {
+            latest.remove(change.getEventId());
+            latest.put(change.getEventId(), change.isDeleted());
+        }
+
+        List<UUID> upsertedIds = latest.entrySet().stream()
+                .filter(entry -> !entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<UUID, EventEntity> events = upsertedIds.isEmpty()
+                ? Map.of()
+                : eventRepository.findAllById(upsertedIds).stream()
+                        .collect(Collectors.toMap(EventEntity::getId, Function.identity()));
+
+        List<EventChangeDto> changes = new ArrayList<>(latest.size());
+        latest.forEach((id, deleted) -> {
+            // An event deleted after this page is reported as deleted already; its tombstone follows later
+            EventEntity event = deleted ? null : events.get(id);
+            changes.add(event == null ? EventChangeDto.deleted(id) : EventChangeDto.upserted(eventMapper.toEventDto(event)));
+        });
+        return changes;
+    }
+}
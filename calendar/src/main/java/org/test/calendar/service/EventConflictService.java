@@ -0,0 +1,183 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.EventConflictException;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.projection.EventIntervalProjection;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.util.LocationHash;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Detects events overlapping the same location ({@code start_at < :finish AND finish_at > :start}).
+ * The write-path check is a locking read inside the caller's transaction, so on InnoDB two overlapping
+ * concurrent writes cannot both pass it; writes to other locations or times are not blocked.
+ * <p>
+ * Recurring events are compared occurrence by occurrence: stored series are expanded over the checked range, and
+ * the occurrences of a series being written are checked up to {@link #SERIES_HORIZON} after its first one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventConflictService {
+
+    static final String CONFLICTS_METRIC = "calendar.event.conflicts";
+
+    /**
+     * How far the occurrences of a series being written are checked; an open-ended series has no last one.
+     */
+    static final Duration SERIES_HORIZON = Duration.ofDays(366);
+
+    private static final int MAX_REPORTED_CONFLICTS = 50;
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return properties.conflictMode() != EventProperties.ConflictMode.NONE;
+    }
+
+    /**
+     * Checks a pending write of single event {@code id} (null for a new event) according to the configured mode.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkWrite(UUID id, String location, Instant startAt, Instant finishAt) {
+        checkWrite(id, location, startAt, finishAt, null);
+    }
+
+    /**
+     * Checks a pending write of event {@code id} (null for a new event) according to the configured mode.
+     *
+     * @param series recurrence of the pending event, null for a single event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkWrite(UUID id, String location, Instant startAt, Instant finishAt, RecurrenceSeries series) {
+        if (!isEnabled() || location == null || startAt == null || finishAt == null) {
+            return;
+        }
+
+        List<Interval> pending = new ArrayList<>();
+        pending.add(new Interval(startAt, finishAt));
+        if (series != null) {
+            series.forEachOccurrence(startAt, startAt.plus(SERIES_HORIZON), (occurrenceStartAt, occurrenceFinishAt) ->
+                    pending.add(new Interval(occurrenceStartAt, occurrenceFinishAt)));
+        }
+        Instant scanFrom = startAt.minus(properties.maxDuration());
+        Instant scanTo = pending.getLast().finishAt();
+        String locationHash = LocationHash.of(location);
+
+        // Rows are the single events and first occurrences; later occurrences come from expanding the series
+        Set<UUID> conflictingIds = new LinkedHashSet<>();
+        for (EventIntervalProjection row : eventRepository.lockOverlapping(locationHash, scanFrom, startAt, scanTo, id)) {
+            if (overlapsAny(pending, row.startAt(), row.finishAt())) {
+                conflictingIds.add(row.id());
+            }
+        }
+        for (EventSeriesProjection stored :
+                eventRepository.lockSeriesAtLocation(locationHash, location, scanFrom, scanTo, id)) {
+            if (conflictingIds.contains(stored.id())) {
+                continue;
+            }
+            seriesOf(stored).forEachOccurrence(scanFrom, scanTo, (occurrenceStartAt, occurrenceFinishAt) -> {
+                if (overlapsAny(pending, occurrenceStartAt, occurrenceFinishAt)) {
+                    conflictingIds.add(stored.id());
+                    return false;
+                }
+                return true;
+            });
+        }
+        if (conflictingIds.isEmpty()) {
+            return;
+        }
+
+        meterRegistry.counter(CONFLICTS_METRIC, "mode", properties.conflictMode().name().toLowerCase()).increment();
+        if (properties.conflictMode() == EventProperties.ConflictMode.REJECT) {
+            throw new EventConflictException(List.copyOf(conflictingIds));
+        }
+        log.warn("Event {} at '{}' overlaps events {}", id, location, conflictingIds);
+    }
+
+    /**
+     * Events and occurrences at {@code location} overlapping {@code [startAt, finishAt)} in start order.
+     */
+    @Transactional(readOnly = true)
+    public List<EventPreviewDto> findConflicts(
+            @NonNull String location,
+            @NonNull ZonedDateTime startAt,
+            @NonNull ZonedDateTime finishAt,
+            UUID excludeId
+    ) {
+        Instant startInstant = startAt.toInstant();
+        Instant finishInstant = finishAt.toInstant();
+        if (!startInstant.isBefore(finishInstant)) {
+            throw new IllegalArgumentException("startAt must be before finishAt");
+        }
+
+        String locationHash = LocationHash.of(location);
+        Instant scanFrom = startInstant.minus(properties.maxDuration());
+        List<EventPreviewDto> conflicts = new ArrayList<>();
+        eventRepository.findOverlapping(locationHash, location, scanFrom, startInstant, finishInstant, excludeId,
+                        Limit.of(MAX_REPORTED_CONFLICTS))
+                .forEach(row -> conflicts.add(eventMapper.toEventPreviewDto(row)));
+        for (EventSeriesProjection series :
+                eventRepository.findSeriesAtLocation(locationHash, location, scanFrom, finishInstant, excludeId)) {
+            seriesOf(series).forEachOccurrence(scanFrom, finishInstant, (occurrenceStartAt, occurrenceFinishAt) -> {
+                if (occurrenceFinishAt.isAfter(startInstant)) {
+                    conflicts.add(eventMapper.toEventPreviewDto(series, occurrenceStartAt, occurrenceFinishAt));
+                }
+                return true;
+            });
+        }
+
+        conflicts.sort(Comparator.comparing(EventPreviewDto::startAt));
+        return conflicts.size() > MAX_REPORTED_CONFLICTS ? conflicts.subList(0, MAX_REPORTED_CONFLICTS) : conflicts;
+    }
+
+    private static RecurrenceSeries seriesOf(EventSeriesProjection series) {
+        return RecurrenceSeries.of(series.recurrenceRule(), series.recurrenceZone(),
+                series.startAt(), series.finishAt(), series.recurrenceExceptions());
+    }
+
+    /**
+     * Whether {@code [startAt, finishAt)} overlaps one of {@code intervals}, which are ordered by start. They are
+     * one event's occurrences and last equally long, so they are ordered by finish as well.
+     */
+    private static boolean overlapsAny(List<Interval> intervals, Instant startAt, Instant finishAt) {
+        int low = 0;
+        int high = intervals.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals.get(mid).finishAt().isAfter(startAt)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < intervals.size() && intervals.get(low).startAt().isBefore(finishAt);
+    }
+
+    private record Interval(Instant startAt, Instant finishAt) {
+    }
+}
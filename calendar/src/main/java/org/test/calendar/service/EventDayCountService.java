@@ -0,0 +1,101 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.config.EventDayCountProperties;
+import org.test.calendar.model.dto.EventDayCountsResponse;
+import org.test.calendar.model.projection.EventDayCount;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts the events starting on each day of a range with a {@code GROUP BY} in the database, so the rows read and
+ * the response grow with the number of days, not with the number of events.
+ * <p>
+ * Within a stretch of the range where the zone keeps one offset, a local day is a fixed 24-hour window, so the range
+ * is split at the zone's offset transitions and each stretch is grouped by 24-hour days from its first local
+ * midnight. Occurrences of recurring events after their first one are added from the series overlapping the range.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventDayCountService {
+
+    private final EventRepository eventRepository;
+    private final EventDayCountProperties properties;
+
+    @Transactional(readOnly = true)
+    public EventDayCountsResponse getDayCounts(
+            @NonNull LocalDate from,
+            @NonNull LocalDate to,
+            @NonNull ZoneId zone,
+            boolean includeMinutes
+    ) {
+        log.debug("Getting event day counts from {} to {} in {}", from, to, zone);
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > properties.maxRange().toDays()) {
+            throw new IllegalArgumentException("Range must not be longer than " + properties.maxRange().toDays() + " days");
+        }
+
+        Instant fromInstant = from.atStartOfDay(zone).toInstant();
+        Instant toInstant = to.atStartOfDay(zone).toInstant();
+        // Count and minutes per day
+        Map<LocalDate, long[]> days = new TreeMap<>();
+
+        ZoneRules rules = zone.getRules();
+        Instant stretchStart = fromInstant;
+        while (stretchStart.isBefore(toInstant)) {
+            ZoneOffsetTransition transition = rules.nextTransition(stretchStart);
+            Instant stretchEnd = transition == null || !transition.getInstant().isBefore(toInstant)
+                    ? toInstant
+                    : transition.getInstant();
+
+            ZoneOffset offset = rules.getOffset(stretchStart);
+            LocalDate originDay = LocalDate.ofInstant(stretchStart, offset);
+            Instant origin = originDay.atStartOfDay().toInstant(offset);
+            for (EventDayCount row : eventRepository.countByDay(stretchStart, stretchEnd, origin)) {
+                long[] day = days.computeIfAbsent(originDay.plusDays(row.dayIndex()), key -> new long[2]);
+                day[0] += row.count();
+                day[1] += row.minutes() != null ? row.minutes() : 0;
+            }
+            stretchStart = stretchEnd;
+        }
+
+        for (EventSeriesProjection series : eventRepository.findSeriesOverlapping(fromInstant, toInstant)) {
+            RecurrenceSeries.of(series.recurrenceRule(), series.recurrenceZone(), series.startAt(), series.finishAt(),
+                    series.recurrenceExceptions()).forEachOccurrence(fromInstant, toInstant, (startAt, finishAt) -> {
+                long[] day = days.computeIfAbsent(LocalDate.ofInstant(startAt, zone), key -> new long[2]);
+                day[0]++;
+                day[1] += Duration.between(startAt, finishAt).toMinutes();
+                return true;
+            });
+        }
+
+        List<EventDayCountsResponse.DayCount> counts = new ArrayList<>(days.size());
+        days.forEach((date, day) -> counts.add(new EventDayCountsResponse.DayCount(
+                date, day[0], includeMinutes ? day[1] : null)));
+        return new EventDayCountsResponse(from, to, zone, counts);
+    }
+}
@@ -0,0 +1,78 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Exports events of arbitrarily long ranges row by row from a forward-only cursor. Each entity is detached once
+ * it has been mapped, so neither the persistence context nor the caller's buffer grows with the range.
+ * <p>
+ * A recurring event is exported once, as its first occurrence with the rule and exception dates, like it is
+ * written; a series starting before the range is exported when one of its occurrences starts within it.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventExportService {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Passes every event starting within {@code [from, to)} to {@code sink} in start order and returns their count.
+     * Series that started earlier and have occurrences within the range come first. The range is checked before
+     * the first event is passed on.
+     */
+    @Transactional(readOnly = true)
+    public long exportEvents(@NonNull ZonedDateTime from, @NonNull ZonedDateTime to, @NonNull Consumer<EventDto> sink) {
+        Instant fromInstant = from.toInstant();
+        Instant toInstant = to.toInstant();
+        if (!fromInstant.isBefore(toInstant)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        // The export may be read from a replica that is behind, and its rows must not refill the second-level cache
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+        long count = 0;
+        for (EventEntity series : eventRepository.findSeriesContinuingFrom(fromInstant)) {
+            if (RecurrenceSeries.of(series.getRecurrenceRule(), series.getRecurrenceZone(), series.getStartAt(),
+                    series.getFinishAt(), series.getRecurrenceExceptions()).hasOccurrence(fromInstant, toInstant)) {
+                sink.accept(eventMapper.toEventDto(series));
+                count++;
+            }
+            entityManager.detach(series);
+        }
+        try (Stream<EventEntity> events = eventRepository.streamByStartAtRange(fromInstant, toInstant)) {
+            Iterator<EventEntity> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                EventEntity eventEntity = iterator.next();
+                sink.accept(eventMapper.toEventDto(eventEntity));
+                entityManager.detach(eventEntity);
+                count++;
+            }
+        }
+
+        log.debug("Exported {} events from {} to {}", count, from, to);
+        return count;
+    }
+}
@@ -0,0 +1,286 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.cache.EventFeedCache;
+import org.test.calendar.cache.EventFeedCache.DayStamp;
+import org.test.calendar.config.EventFeedProperties;
+import org.test.calendar.ical.ICalendarFormat;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventRangeStamp;
+import org.test.calendar.model.projection.EventVersionProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Renders an iCalendar subscription feed of the events starting within a window of whole UTC days. A recurring
+ * event is written once with its {@code RRULE} and {@code EXDATE}, and is also written when it started before the
+ * window but has occurrences within it.
+ * <p>
+ * Each day is rendered as a fragment that is cached against a {@link DayStamp} of the day's events. Serving a
+ * feed reads the stamps of the window from the {@code (start_at, updated_at, version)} index, writes cached
+ * fragments whose stamp still matches, and streams the events of the remaining days from a cursor. A change to
+ * one event therefore re-renders only its day. Series that started before the window belong to no day of it and
+ * are rendered on every request.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventFeedService {
+
+    private static final String HEADER = "BEGIN:VCALENDAR\r\n"
+            + "VERSION:2.0\r\n"
+            + "PRODID:-//org.test//calendar//EN\r\n"
+            + "CALSCALE:GREGORIAN\r\n"
+            + "METHOD:PUBLISH\r\n";
+
+    private static final String FOOTER = "END:VCALENDAR\r\n";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final EventFeedCache feedCache;
+    private final EventFeedProperties properties;
+
+    /**
+     * Window of the feed: the UTC days overlapping {@code [from, to)}, or the configured past and future
+     * around the current UTC day when both are null.
+     */
+    public FeedWindow getWindow(ZonedDateTime from, ZonedDateTime to) {
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("from and to must be given together");
+        }
+
+        LocalDate firstDay;
+        LocalDate endDay;
+        if (from == null) {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            firstDay = today.minusDays(properties.past().toDays());
+            endDay = today.plusDays(properties.future().toDays() + 1);
+        } else {
+            if (!from.toInstant().isBefore(to.toInstant())) {
+                throw new IllegalArgumentException("from must be before to");
+            }
+            firstDay = LocalDate.ofInstant(from.toInstant(), ZoneOffset.UTC);
+            // The day holding the last instant before to
+            endDay = LocalDate.ofInstant(to.toInstant().minusNanos(1), ZoneOffset.UTC).plusDays(1);
+        }
+
+        FeedWindow window = new FeedWindow(firstDay, endDay);
+        if (Duration.between(window.from(), window.to()).compareTo(properties.maxRange()) > 0) {
+            throw new IllegalArgumentException("Feed window must not be longer than " + properties.maxRange().toDays() + " days");
+        }
+        return window;
+    }
+
+    /**
+     * Validators of the feed, derived from an aggregate over the window's rows like the month preview ETag.
+     * The window is part of the ETag, so a feed that rolls over to a new day is never answered with 304.
+     * Deletions only change the ETag, not the last modification time.
+     */
+    @Transactional(readOnly = true)
+    public FeedStamp getFeedStamp(@NonNull FeedWindow window) {
+        // The stamp query bounds are inclusive; start_at has millisecond precision
+        EventRangeStamp stamp = eventRepository.findStampByStartAtBetween(window.from(), window.to().minusMillis(1))
+                .plus(eventRepository.findSeriesStampBetween(window.from(), window.to().minusMillis(1)));
+        Instant lastUpdatedAt = stamp.lastUpdatedAt() != null ? stamp.lastUpdatedAt() : Instant.EPOCH;
+        String etag = "\"%x-%x-%x-%x-%x.%x\"".formatted(
+                window.firstDay().toEpochDay(), window.endDay().toEpochDay(),
+                stamp.count(), stamp.versionSum(), lastUpdatedAt.getEpochSecond(), lastUpdatedAt.getNano());
+        return new FeedStamp(etag, stamp.lastUpdatedAt());
+    }
+
+    /**
+     * Writes the feed of {@code window} to {@code out}. Stamps and re-rendered days are read in one read-only
+     * transaction, so a fragment is always stored with the stamp of the rows it was rendered from.
+     */
+    @Transactional(readOnly = true)
+    public void writeFeed(@NonNull FeedWindow window, @NonNull Writer out) throws IOException {
+        // The feed may be read from a replica that is behind, and its rows must not refill the second-level cache.
+        // Its own fragments need no such care: each is stored with the stamp read in the same snapshot.
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        Map<LocalDate, DayStamp> stamps = readDayStamps(window);
+
+        out.write(HEADER);
+        StringBuilder continuing = new StringBuilder();
+        for (EventEntity series : eventRepository.findSeriesContinuingFrom(window.from())) {
+            if (seriesOf(series).hasOccurrence(window.from(), window.to())) {
+                appendEvent(continuing, series);
+            }
+            entityManager.detach(series);
+        }
+        out.write(continuing.toString());
+
+        int rendered = 0;
+        LocalDate staleFrom = null;
+        LocalDate staleTo = null;
+        for (LocalDate day = window.firstDay(); day.isBefore(window.endDay()); day = day.plusDays(1)) {
+            DayStamp stamp = stamps.get(day);
+            if (stamp == null) {
+                continue;
+            }
+
+            String fragment = feedCache.get(day, stamp);
+            if (fragment == null) {
+                // Consecutive stale days are rendered from one cursor
+                if (staleFrom == null) {
+                    staleFrom = day;
+                }
+                staleTo = day;
+                continue;
+            }
+            if (staleFrom != null) {
+                rendered += renderDays(staleFrom, staleTo, stamps, out);
+                staleFrom = null;
+            }
+            out.write(fragment);
+        }
+        if (staleFrom != null) {
+            rendered += renderDays(staleFrom, staleTo, stamps, out);
+        }
+        out.write(FOOTER);
+
+        log.debug("Wrote feed of {} days with events from {} to {}, {} re-rendered",
+                stamps.size(), window.firstDay(), window.endDay(), rendered);
+    }
+
+    private Map<LocalDate, DayStamp> readDayStamps(FeedWindow window) {
+        Map<LocalDate, DayStamp> stamps = new HashMap<>();
+        try (Stream<EventVersionProjection> versions =
+                     eventRepository.streamVersionsByStartAtRange(window.from(), window.to())) {
+            versions.forEach(row -> stamps.compute(
+                    LocalDate.ofInstant(row.startAt(), ZoneOffset.UTC),
+                    (day, stamp) -> (stamp != null ? stamp : DayStamp.EMPTY)
+                            .with(row.id().getMostSignificantBits(), row.id().getLeastSignificantBits(), row.version())));
+        }
+        return stamps;
+    }
+
+    /**
+     * Renders, caches and writes the days {@code [firstDay, lastDay]} from one cursor and returns their number.
+     */
+    private int renderDays(LocalDate firstDay, LocalDate lastDay, Map<LocalDate, DayStamp> stamps, Writer out) {
+        Instant from = firstDay.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = lastDay.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        int days = 0;
+        try (Stream<EventEntity> events = eventRepository.streamByStartAtRange(from, to)) {
+            Iterator<EventEntity> iterator = events.iterator();
+            LocalDate day = null;
+            StringBuilder fragment = new StringBuilder();
+            while (iterator.hasNext()) {
+                EventEntity eventEntity = iterator.next();
+                LocalDate eventDay = LocalDate.ofInstant(eventEntity.getStartAt(), ZoneOffset.UTC);
+                if (!eventDay.equals(day)) {
+                    if (day != null) {
+                        finishDay(day, fragment, stamps, out);
+                        days++;
+                    }
+                    day = eventDay;
+                    fragment.setLength(0);
+                }
+                appendEvent(fragment, eventEntity);
+                entityManager.detach(eventEntity);
+            }
+            if (day != null) {
+                finishDay(day, fragment, stamps, out);
+                days++;
+            }
+        }
+        return days;
+    }
+
+    private void finishDay(LocalDate day, StringBuilder fragment, Map<LocalDate, DayStamp> stamps, Writer out) {
+        String ics = fragment.toString();
+        DayStamp stamp = stamps.get(day);
+        if (stamp != null) {
+            feedCache.put(day, stamp, ics);
+        }
+        try {
+            out.write(ics);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendEvent(StringBuilder out, EventEntity eventEntity) {
+        ICalendarFormat.appendProperty(out, "BEGIN", "VEVENT");
+        ICalendarFormat.appendProperty(out, "UID", eventEntity.getId().toString());
+        ICalendarFormat.appendDateTime(out, "DTSTAMP", eventEntity.getUpdatedAt());
+        ICalendarFormat.appendDateTime(out, "LAST-MODIFIED", eventEntity.getUpdatedAt());
+        ICalendarFormat.appendProperty(out, "SEQUENCE", String.valueOf(eventEntity.getVersion()));
+        if (eventEntity.isRecurring()) {
+            // The rule is evaluated in the local time of DTSTART, which keeps occurrences at their wall-clock time
+            ZoneId zone = ZoneId.of(eventEntity.getRecurrenceZone());
+            ICalendarFormat.appendDateTimes(out, "DTSTART", zone, List.of(eventEntity.getStartAt()));
+            ICalendarFormat.appendDateTimes(out, "DTEND", zone, List.of(eventEntity.getFinishAt()));
+            ICalendarFormat.appendProperty(out, "RRULE", eventEntity.getRecurrenceRule());
+            List<LocalDate> exceptions = RecurrenceSeries.parseExceptions(eventEntity.getRecurrenceExceptions());
+            if (!exceptions.isEmpty()) {
+                LocalTime startTime = LocalTime.ofInstant(eventEntity.getStartAt(), zone);
+                ICalendarFormat.appendDateTimes(out, "EXDATE", zone, exceptions.stream()
+                        .map(date -> date.atTime(startTime).atZone(zone).toInstant())
+                        .toList());
+            }
+        } else {
+            ICalendarFormat.appendDateTime(out, "DTSTART", eventEntity.getStartAt());
+            ICalendarFormat.appendDateTime(out, "DTEND", eventEntity.getFinishAt());
+        }
+        ICalendarFormat.appendText(out, "SUMMARY", eventEntity.getTitle());
+        if (eventEntity.getDescription() != null) {
+            ICalendarFormat.appendText(out, "DESCRIPTION", eventEntity.getDescription());
+        }
+        if (eventEntity.getLocation() != null) {
+            ICalendarFormat.appendText(out, "LOCATION", eventEntity.getLocation());
+        }
+        ICalendarFormat.appendProperty(out, "END", "VEVENT");
+    }
+
+    private static RecurrenceSeries seriesOf(EventEntity eventEntity) {
+        return RecurrenceSeries.of(eventEntity.getRecurrenceRule(), eventEntity.getRecurrenceZone(),
+                eventEntity.getStartAt(), eventEntity.getFinishAt(), eventEntity.getRecurrenceExceptions());
+    }
+
+    /**
+     * Whole UTC days {@code [firstDay, endDay)}.
+     */
+    public record FeedWindow(LocalDate firstDay, LocalDate endDay) {
+
+        public Instant from() {
+            return firstDay.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        public Instant to() {
+            return endDay.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+    }
+
+    /**
+     * @param lastModified latest update within the window, or null when it has no events
+     */
+    public record FeedStamp(String etag, Instant lastModified) {
+    }
+}
@@ -0,0 +1,269 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventBatchProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.BusinessLogicException;
+import org.test.calendar.ical.ICalendarEvent;
+import org.test.calendar.ical.ICalendarException;
+import org.test.calendar.ical.ICalendarReader;
+import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventImportProgress;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventChangeRepository;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+import org.test.calendar.validation.EventValidation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the VEVENTs of an iCalendar stream while it is being read. Each event is checked with the
+ * {@link EventValidation.EventCreation} rules of {@link EventDto} before it is queued, and queued events are
+ * inserted in transactions of {@code calendar.batch.chunk-size}, flushed once as JDBC batches and then cleared
+ * from the persistence context. Memory use is therefore bounded by the chunk size, not by the input. A failed
+ * chunk is replayed event by event, as in {@link EventBatchService}, to reject only the offending events.
+ * <p>
+ * The UID of every imported event is stored, and an event whose UID is already stored is skipped, so a repeated
+ * or resumed import does not store an event twice. Events without a UID are always stored.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventImportService {
+
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final EventBatchProperties properties;
+    private final EventPreviewCache previewCache;
+    private final EventChangeRepository changeRepository;
+    private final EventStreamHub streamHub;
+    private final EventProperties eventProperties;
+    private final EventRepository eventRepository;
+    private final EventConflictService conflictService;
+
+    /**
+     * Imports every VEVENT of {@code source}. Floating times, which have neither a {@code TZID} nor a UTC
+     * designator, are read in {@code floatingZone}. {@code listener} receives an ERROR record for every rejected
+     * event and a PROGRESS record after every committed chunk; the returned SUMMARY holds the final counts.
+     * Events are checked for conflicts like single creates.
+     */
+    public EventImportProgress importEvents(
+            @NonNull Reader source,
+            @NonNull ZoneId floatingZone,
+            @NonNull Consumer<EventImportProgress> listener
+    ) throws IOException {
+        ImportRun run = new ImportRun(listener);
+
+        try (ICalendarReader reader = new ICalendarReader(source)) {
+            run.reader = reader;
+            ICalendarEvent event;
+            while ((event = reader.next()) != null) {
+                run.events++;
+                try {
+                    EventDto eventDto = toEventDto(event, floatingZone);
+                    String violations = validate(eventDto);
+                    if (violations != null) {
+                        run.reject(event.line(), run.events, event.uid(), violations);
+                    } else {
+                        run.chunk.add(new PendingEvent(run.events, event.line(), event.uid(), eventDto));
+                    }
+                } catch (ICalendarException e) {
+                    run.reject(e.getLine(), run.events, event.uid(), e.getMessage());
+                }
+
+                if (run.chunk.size() >= properties.chunkSize()) {
+                    run.flushChunk();
+                }
+            }
+            run.flushChunk();
+        } finally {
+            if (run.imported > 0) {
+                // Subscribers are told to reload once, also when a later chunk failed to read
+                streamHub.publishResync();
+            }
+        }
+
+        log.debug("Imported {} of {} events from {} lines, {} already imported",
+                run.imported, run.events, run.reader.getLineNumber(), run.skipped);
+        return EventImportProgress.summary(run.reader.getLineNumber(), run.events, run.imported, run.skipped, run.failed);
+    }
+
+    private EventDto toEventDto(ICalendarEvent event, ZoneId floatingZone) {
+        if (event.error() != null) {
+            throw event.error();
+        }
+        if (event.isRecurring()) {
+            throw new ICalendarException(event.line(), "Recurring events are not supported");
+        }
+
+        return new EventDto(
+                null,
+                event.text("SUMMARY"),
+                event.text("DESCRIPTION"),
+                event.startAt(floatingZone),
+                event.finishAt(floatingZone),
+                event.text("LOCATION"),
+                null,
+                null
+        );
+    }
+
+    private String validate(EventDto eventDto) {
+        List<String> violations = validator.validate(eventDto, EventValidation.EventCreation.class).stream()
+                // Most calendars leave DESCRIPTION out; such events are stored without one
+                .filter(violation -> eventDto.description() != null
+                        || !violation.getPropertyPath().toString().equals("description"))
+                .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                        ? violation.getMessage()
+                        : violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        if (violations.isEmpty()) {
+            return eventDto.startAt() != null && eventDto.finishAt() != null
+                    && eventProperties.exceedsMaxDuration(eventDto.startAt().toInstant(), eventDto.finishAt().toInstant())
+                    ? eventProperties.maxDurationMessage()
+                    : null;
+        }
+        return String.join("; ", violations);
+    }
+
+    private int storeChunk(List<PendingEvent> chunk, ImportRun run) {
+        try {
+            int skipped = transactionTemplate.execute(status -> insertChunk(chunk));
+            run.skipped += skipped;
+            return chunk.size() - skipped;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                PendingEvent item = chunk.getFirst();
+                log.debug("Imported event {} at line {} could not be stored", item.index(), item.line(), e);
+                run.reject(item.line(), item.index(), item.uid(), "Event could not be stored: " + causeOf(e));
+                return 0;
+            }
+
+            log.debug("Import chunk of {} events failed, retrying events one by one", chunk.size(), e);
+            int stored = 0;
+            for (PendingEvent item : chunk) {
+                stored += storeChunk(List.of(item), run);
+            }
+            return stored;
+        }
+    }
+
+    /**
+     * Inserts the events of {@code chunk} and returns the number skipped because their UID is already stored.
+     */
+    private int insertChunk(List<PendingEvent> chunk) {
+        // Imported events are not read back here, so they are kept out of the second-level cache
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+        Set<String> uids = chunk.stream()
+                .map(PendingEvent::uid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Also holds the UIDs of this chunk once stored, so a UID repeated within the input is stored once
+        Set<String> storedUids = uids.isEmpty() ? new HashSet<>() : new HashSet<>(eventRepository.findImportUidsIn(uids));
+
+        int skipped = 0;
+        List<Instant> startAts = new ArrayList<>(chunk.size());
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (PendingEvent item : chunk) {
+            if (item.uid() != null && !storedUids.add(item.uid())) {
+                skipped++;
+                continue;
+            }
+            // Entities are built per attempt: a rolled-back persist leaves its generated id behind
+            EventEntity eventEntity = eventMapper.toEventEntity(item.event());
+            eventEntity.setImportUid(item.uid());
+            // With conflict checks on, their locking reads flush the events persisted before, one at a time
+            conflictService.checkWrite(null, eventEntity.getLocation(), eventEntity.getStartAt(), eventEntity.getFinishAt());
+            entityManager.persist(eventEntity);
+            startAts.add(eventEntity.getStartAt());
+            ids.add(eventEntity.getId());
+        }
+        if (ids.isEmpty()) {
+            return skipped;
+        }
+
+        // One flush per chunk lets Hibernate send the INSERTs as JDBC batches; clearing keeps the
+        // persistence context from holding on to the entities of a stored chunk
+        entityManager.flush();
+        entityManager.clear();
+        changeRepository.recordChanges(ids, false, Instant.now());
+        previewCache.invalidate(startAts);
+        return skipped;
+    }
+
+    /**
+     * Message of the exception that failed a stored event: a rule of this service, or the database's own reason.
+     */
+    private static String causeOf(RuntimeException e) {
+        if (e instanceof BusinessLogicException) {
+            return e.getMessage();
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private final class ImportRun {
+
+        private final Consumer<EventImportProgress> listener;
+        private final List<PendingEvent> chunk = new ArrayList<>();
+
+        private ICalendarReader reader;
+        private long events;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        private ImportRun(Consumer<EventImportProgress> listener) {
+            this.listener = listener;
+        }
+
+        private void reject(long line, long index, String uid, String message) {
+            failed++;
+            listener.accept(EventImportProgress.error(line, index, uid, message, events, imported, skipped, failed));
+        }
+
+        private void flushChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            imported += storeChunk(chunk, this);
+            chunk.clear();
+            listener.accept(EventImportProgress.progress(reader.getLineNumber(), events, imported, skipped, failed));
+        }
+    }
+
+    /**
+     * @param index position of the VEVENT in the input, counting from 1
+     */
+    private record PendingEvent(long index, long line, String uid, EventDto event) {
+    }
+}
@@ -0,0 +1,132 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.layout.ColumnLayout;
+import org.test.calendar.model.dto.EventLayoutResponse;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Lays out the events of day and week views server-side, so a client draws overlapping events side by side
+ * without working out columns itself or loading previews first. Each day of the view is laid out on its own by a
+ * {@link ColumnLayout}, over the event times clipped to the day.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class EventLayoutService {
+
+    public static final int WEEK_DAYS = 7;
+
+    private static final Comparator<EventPreviewProjection> VIEW_ORDER = Comparator
+            .comparing(EventPreviewProjection::startAt)
+            .thenComparing(EventPreviewProjection::finishAt, Comparator.reverseOrder())
+            .thenComparing(EventPreviewProjection::id);
+
+    private final EventRepository eventRepository;
+    private final EventProperties eventProperties;
+
+    /**
+     * Layout of the {@code days} days from {@code from} in {@code zone}, one to {@value #WEEK_DAYS}.
+     */
+    @Transactional(readOnly = true)
+    public EventLayoutResponse getLayout(@NonNull LocalDate from, int days, @NonNull ZoneId zone) {
+        log.debug("Getting event layout of {} days from {} in {}", days, from, zone);
+
+        if (days < 1 || days > WEEK_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + WEEK_DAYS);
+        }
+
+        Instant fromInstant = from.atStartOfDay(zone).toInstant();
+        Instant toInstant = from.plusDays(days).atStartOfDay(zone).toInstant();
+        // Events last at most maxDuration, so only rows starting that long before the view can reach into it
+        Instant scanFrom = fromInstant.minus(eventProperties.maxDuration());
+
+        List<EventPreviewProjection> rows = new ArrayList<>(
+                eventRepository.findPreviewsOverlapping(scanFrom, fromInstant, toInstant));
+        List<EventSeriesProjection> seriesRows = eventRepository.findSeriesOverlapping(scanFrom, toInstant);
+        for (EventSeriesProjection series : seriesRows) {
+            RecurrenceSeries.of(series.recurrenceRule(), series.recurrenceZone(), series.startAt(), series.finishAt(),
+                    series.recurrenceExceptions()).forEachOccurrence(scanFrom, toInstant, (startAt, finishAt) -> {
+                if (finishAt.isAfter(fromInstant)) {
+                    rows.add(new EventPreviewProjection(series.id(), series.title(), startAt, finishAt, series.location()));
+                }
+                return true;
+            });
+        }
+        if (!seriesRows.isEmpty()) {
+            rows.sort(VIEW_ORDER);
+        }
+
+        int rowCount = rows.size();
+        long[] rowStarts = new long[rowCount];
+        long[] rowEnds = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rowStarts[i] = rows.get(i).startAt().toEpochMilli();
+            rowEnds[i] = rows.get(i).finishAt().toEpochMilli();
+        }
+        // Clipped times of the current day and the row each one came from
+        long[] starts = new long[rowCount];
+        long[] ends = new long[rowCount];
+        int[] rowOf = new int[rowCount];
+        // An event crossing midnight is mapped once for both days
+        EventPreviewDto[] previews = new EventPreviewDto[rowCount];
+
+        ColumnLayout layout = new ColumnLayout();
+        long maxDurationMillis = eventProperties.maxDuration().toMillis();
+        List<EventLayoutResponse.Day> result = new ArrayList<>(days);
+        int firstRow = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            long dayStart = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            while (firstRow < rowCount && rowStarts[firstRow] + maxDurationMillis <= dayStart) {
+                firstRow++;
+            }
+
+            int count = 0;
+            for (int i = firstRow; i < rowCount && rowStarts[i] < dayEnd; i++) {
+                if (rowEnds[i] > dayStart) {
+                    starts[count] = Math.max(rowStarts[i], dayStart);
+                    ends[count] = Math.min(rowEnds[i], dayEnd);
+                    rowOf[count++] = i;
+                }
+            }
+
+            int columns = layout.layout(starts, ends, count);
+            List<EventLayoutResponse.PositionedEvent> events = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                int i = rowOf[j];
+                if (previews[i] == null) {
+                    previews[i] = toPreview(rows.get(i), zone);
+                }
+                events.add(new EventLayoutResponse.PositionedEvent(
+                        previews[i], layout.column(j), layout.columns(j), layout.span(j)));
+            }
+            result.add(new EventLayoutResponse.Day(date, columns, events));
+        }
+        return new EventLayoutResponse(from, from.plusDays(days), zone, result);
+    }
+
+    private static EventPreviewDto toPreview(EventPreviewProjection row, ZoneId zone) {
+        return new EventPreviewDto(row.id(), row.title(), row.startAt().atZone(zone), row.finishAt().atZone(zone),
+                row.location());
+    }
+}
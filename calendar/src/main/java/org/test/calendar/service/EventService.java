@@ -1,91 +1,494 @@
 package org.test.calendar.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.test.calendar.exception.BusinessLogicException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.EventNotFoundException;
+import org.test.calendar.jdbc.ReplicaRouter;
+import org.test.calendar.jdbc.RetryOnDeadlock;
 import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventChangeDto;
 import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPatchDto;
 import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.dto.PaginatedResponse;
+import org.test.calendar.model.dto.PaginationRequest;
 import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventKeyProjection;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventRangeStamp;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventChangeRepository;
 import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
 import org.test.calendar.util.DateUtil;
+import org.test.calendar.util.EventCursor;
+import org.test.calendar.validation.annotation.SameDayValidator;
 
 import java.time.Instant;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Timed("calendar.service")
 @RequiredArgsConstructor
 public class EventService {
 
+    // The order of the page queries: ids compare as unsigned bytes, as BINARY(16) does
+    private static final Comparator<EventPreviewProjection> PAGE_ORDER = Comparator
+            .comparing(EventPreviewProjection::startAt)
+            .thenComparing(EventPreviewProjection::id, (left, right) -> {
+                int compare = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+                return compare != 0
+                        ? compare
+                        : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+            });
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final EventPreviewCache previewCache;
+    private final EventConflictService conflictService;
+    private final EventChangeRepository changeRepository;
+    private final EventStreamHub streamHub;
+    private final EventProperties eventProperties;
+    private final PlatformTransactionManager transactionManager;
 
+    @RetryOnDeadlock
     @Transactional
     public EventDto createEvent(@NonNull EventDto eventDto) {
         EventEntity eventEntity = eventMapper.toEventEntity(eventDto);
+        requireWithinMaxDuration(eventEntity.getStartAt(), eventEntity.getFinishAt());
+        conflictService.checkWrite(null, eventEntity.getLocation(), eventEntity.getStartAt(), eventEntity.getFinishAt(),
+                seriesOf(eventEntity));
         eventRepository.save(eventEntity);
-        return  eventMapper.toEventDto(eventEntity);
+        changeRepository.recordChange(eventEntity.getId(), false, Instant.now());
+        invalidatePreviews(eventEntity.isRecurring(), eventEntity.getStartAt());
+        EventDto created = eventMapper.toEventDto(eventEntity);
+        streamHub.publish(EventChangeDto.upserted(created), eventEntity.isRecurring(), eventEntity.getStartAt());
+        return created;
     }
 
     @Transactional
     public void deleteEvent(@NonNull UUID id) {
-        eventRepository.deleteById(id);
+        // The cached day of the event and the subscribers to notify are only known from its row;
+        // the lookup is skipped when neither needs it
+        EventKeyProjection deleted = null;
+        if (previewCache.isEnabled() || streamHub.hasSubscribers()) {
+            deleted = deleteAsRead(id);
+        } else if (eventRepository.deleteEventById(id) == 0) {
+            throw new EventNotFoundException(id);
+        }
+
+        boolean recurring = deleted != null && deleted.recurring();
+        Instant startAt = deleted != null ? deleted.startAt() : null;
+        changeRepository.recordChange(id, true, Instant.now());
+        invalidatePreviews(recurring, startAt);
+        streamHub.publish(EventChangeDto.deleted(id), recurring, startAt);
+    }
+
+    /**
+     * Deletes event {@code id} and returns the row it deleted. The delete is conditional on the version that was
+     * read, so an update committed in between cannot move the event to a day that is then left cached. If it did,
+     * the row is read again with a lock, which sees the committed state and holds it until the delete.
+     */
+    private EventKeyProjection deleteAsRead(UUID id) {
+        EventKeyProjection current = eventRepository.findKeyById(id).orElseThrow(() -> new EventNotFoundException(id));
+        if (eventRepository.deleteEventByIdAndVersion(id, current.version()) == 1) {
+            return current;
+        }
+        EventKeyProjection latest = eventRepository.lockKeyById(id).orElseThrow(() -> new EventNotFoundException(id));
+        eventRepository.deleteEventById(id);
+        return latest;
     }
 
+    /**
+     * Deletes the events of {@code ids} that exist and returns their number. Their rows are read with a lock, so an
+     * update committed in between cannot move an event to a day that is then left cached, and only the events
+     * actually deleted get a tombstone and an eviction.
+     */
+    @Transactional
+    public int deleteEvents(@NonNull List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<EventKeyProjection> keys = eventRepository.lockKeysByIdIn(ids);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> existingIds = keys.stream()
+                .map(EventKeyProjection::id)
+                .toList();
+        if (keys.stream().anyMatch(EventKeyProjection::recurring)) {
+            previewCache.invalidateAll();
+        } else {
+            previewCache.invalidate(keys.stream()
+                    .map(EventKeyProjection::startAt)
+                    .toList());
+        }
+        changeRepository.recordChanges(existingIds, true, Instant.now());
+        int deleted = eventRepository.deleteEventsByIdIn(existingIds);
+        streamHub.publishResync();
+        return deleted;
+    }
+
+    @Transactional
+    public int deleteEventsInRange(@NonNull ZonedDateTime from, @NonNull ZonedDateTime to) {
+        Instant fromInstant = from.toInstant();
+        Instant toInstant = to.toInstant();
+        if (!fromInstant.isBefore(toInstant)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        // Deleting a series removes its occurrences outside the range as well
+        if (previewCache.isEnabled() && eventRepository.existsSeriesStartingIn(fromInstant, toInstant)) {
+            previewCache.invalidateAll();
+        } else {
+            previewCache.invalidateRange(fromInstant, toInstant);
+        }
+        changeRepository.recordDeletionsInRange(fromInstant, toInstant, Instant.now());
+        streamHub.publishResync();
+        return eventRepository.deleteEventsByStartAtInRange(fromInstant, toInstant);
+    }
+
+    /**
+     * Reads the primary: a miss refills the second-level cache, which a write has just evicted, and a replica that
+     * is behind would put the row from before that write back in.
+     */
     @Transactional(readOnly = true)
     public EventDto getEventById(@NonNull UUID id) {
-        EventEntity eventEntity = getEventEntityById(id);
-        return eventMapper.toEventDto(eventEntity);
+        return ReplicaRouter.onPrimary(() -> eventMapper.toEventDto(getEventEntityById(id)));
     }
 
+    @RetryOnDeadlock
     @Transactional
     public  EventDto updateEvent(@NonNull UUID id, @NonNull EventDto eventDto) {
         EventEntity eventEntity = getEventEntityById(id);
+        Instant previousStartAt = eventEntity.getStartAt();
+        boolean wasRecurring = eventEntity.isRecurring();
 
         eventEntity = eventEntity.withTitle(eventDto.title())
                      .withDescription(eventDto.description())
                      .withStartAt(DateUtil.toInstant(eventDto.startAt()))
                      .withFinishAt(DateUtil.toInstant(eventDto.finishAt()))
                      .withLocation(eventDto.location());
+        eventMapper.updateRecurrence(eventDto, eventEntity);
+
+        requireWithinMaxDuration(eventEntity.getStartAt(), eventEntity.getFinishAt());
+        conflictService.checkWrite(id, eventEntity.getLocation(), eventEntity.getStartAt(), eventEntity.getFinishAt(),
+                seriesOf(eventEntity));
+        invalidatePreviews(wasRecurring || eventEntity.isRecurring(), previousStartAt, eventEntity.getStartAt());
+        EventEntity saved = eventRepository.save(eventEntity);
+        changeRepository.recordChange(id, false, Instant.now());
+        EventDto updated = eventMapper.toEventDto(saved);
+        streamHub.publish(EventChangeDto.upserted(updated), wasRecurring || saved.isRecurring(),
+                previousStartAt, saved.getStartAt());
+        return updated;
+    }
 
-        return eventMapper.toEventDto(eventRepository.save(eventEntity));
+    @RetryOnDeadlock
+    @Transactional
+    public EventDto patchEvent(@NonNull UUID id, @NonNull EventPatchDto patch) {
+        if (patch.isEmpty()) {
+            return getEventById(id);
+        }
+
+        // With both timestamps the @SameDay constraint has already checked them; with one, only the other is fetched.
+        // Timestamps are also checked against a recurrence rule, and the preview cache needs the current start
+        // to evict the event's day.
+        boolean timestamps = patch.startAt() != null || patch.finishAt() != null;
+        boolean singleTimestamp = (patch.startAt() == null) != (patch.finishAt() == null);
+        EventTimesProjection current = null;
+        if (timestamps || previewCache.isEnabled()) {
+            current = eventRepository.findTimesById(id)
+                    .orElseThrow(() -> new EventNotFoundException(id));
+        }
+
+        if (timestamps && current.recurring()) {
+            // The first occurrence anchors the rule, so moving it goes through a full update that re-validates both
+            throw new IllegalArgumentException("The times of a recurring event can only be changed with a full update");
+        }
+
+        if (singleTimestamp) {
+            ZonedDateTime startAt = patch.startAt() != null
+                    ? patch.startAt()
+                    : current.startAt().atZone(patch.finishAt().getZone());
+            ZonedDateTime finishAt = patch.finishAt() != null
+                    ? patch.finishAt()
+                    : current.finishAt().atZone(patch.startAt().getZone());
+
+            if (!SameDayValidator.isSameDayAndOrdered(startAt, finishAt)) {
+                throw new IllegalArgumentException("start and finish dates must be on the same day and start must be before finish");
+            }
+        }
+        if (timestamps) {
+            requireWithinMaxDuration(
+                    patch.startAt() != null ? DateUtil.toInstant(patch.startAt()) : current.startAt(),
+                    patch.finishAt() != null ? DateUtil.toInstant(patch.finishAt()) : current.finishAt()
+            );
+        }
+
+        if (conflictService.isEnabled()
+                && (patch.startAt() != null || patch.finishAt() != null || patch.location() != null)) {
+            // A projection keeps the entity out of the persistence context, which the bulk update would leave stale.
+            // The times of a series are never patched, so its stored occurrences are the ones to check.
+            EventSeriesProjection stored = eventRepository.findSeriesById(id)
+                    .orElseThrow(() -> new EventNotFoundException(id));
+            conflictService.checkWrite(
+                    id,
+                    patch.location() != null ? patch.location() : stored.location(),
+                    patch.startAt() != null ? DateUtil.toInstant(patch.startAt()) : stored.startAt(),
+                    patch.finishAt() != null ? DateUtil.toInstant(patch.finishAt()) : stored.finishAt(),
+                    stored.recurrenceRule() != null ? seriesOf(stored) : null
+            );
+        }
+
+        int updated = eventRepository.patchEvent(
+                id,
+                patch.title(),
+                patch.description(),
+                DateUtil.toInstant(patch.startAt()),
+                DateUtil.toInstant(patch.finishAt()),
+                patch.location()
+        );
+        if (updated == 0) {
+            throw new EventNotFoundException(id);
+        }
+        changeRepository.recordChange(id, false, Instant.now());
+        invalidatePreviews(current != null && current.recurring(),
+                current != null ? current.startAt() : null, DateUtil.toInstant(patch.startAt()));
+
+        EventEntity patchedEntity = getEventEntityById(id);
+        EventDto patched = eventMapper.toEventDto(patchedEntity);
+        streamHub.publish(new EventChangeDto(id, EventChangeDto.Type.UPSERTED, patched), patchedEntity.isRecurring(),
+                current != null ? current.startAt() : null, patchedEntity.getStartAt());
+        return patched;
+    }
+
+    private void requireWithinMaxDuration(Instant startAt, Instant finishAt) {
+        if (startAt != null && finishAt != null && eventProperties.exceedsMaxDuration(startAt, finishAt)) {
+            throw new IllegalArgumentException(eventProperties.maxDurationMessage());
+        }
     }
 
     private EventEntity getEventEntityById(@NonNull UUID id) {
         return eventRepository.findById(id)
-                .orElseThrow(() -> new BusinessLogicException("Event not found with id: " + id));
+                .orElseThrow(() -> new EventNotFoundException(id));
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional, so that requests coalesced onto a running load wait without holding a connection;
+    // each load opens its own read-only transaction
     public List<EventPreviewDto> getEventPreviewsForMonth(ZonedDateTime date) {
         log.debug("Getting event previews for date: {}", date);
 
-        int year = date.getYear();
-        int month = date.getMonthValue();
-        ZoneId zoneId = date.getZone();
-
-        YearMonth yearMonth = YearMonth.of(year, month);
-        Instant startOfMonth = yearMonth.atDay(1)
-                .atStartOfDay(zoneId)
-                .toInstant();
-
-        Instant startOfNextMonth = yearMonth.plusMonths(1)
-                .atDay(1)
-                .atStartOfDay(zoneId)
-                .toInstant();
-        
-        List<EventEntity> events = eventRepository.findByStartAtBetween(startOfMonth, startOfNextMonth);
-        
-        return events.stream()
-                .map(eventMapper::toEventPreviewDto)
-                .toList();
+        MonthRange month = MonthRange.of(date);
+        return previewCache.getPreviews(month.start(), month.end(), this::loadPreviews);
+    }
+
+    /**
+     * Previews starting within {@code [from, to]}: the rows of single events and first occurrences, followed by the
+     * later occurrences of the series overlapping the range, expanded only within it. Both queries run in one
+     * read-only transaction, so they see the same snapshot. They read the primary, since the result is cached
+     * after a write's invalidation and a replica that is behind would cache the days from before that write. The
+     * connection is released before the result is handed to the requests waiting for it.
+     */
+    private List<EventPreviewDto> loadPreviews(Instant from, Instant to) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return ReplicaRouter.onPrimary(() -> readOnly.execute(status -> {
+            List<EventPreviewDto> previews = new ArrayList<>();
+            eventRepository.findPreviewsByStartAtBetween(from, to)
+                    .forEach(row -> previews.add(eventMapper.toEventPreviewDto(row)));
+
+            // The range is inclusive; start_at has millisecond precision
+            Instant toExclusive = to.plusMillis(1);
+            for (EventSeriesProjection series : eventRepository.findSeriesOverlapping(from, toExclusive)) {
+                seriesOf(series).forEachOccurrence(from, toExclusive, (startAt, finishAt) ->
+                        previews.add(eventMapper.toEventPreviewDto(series, startAt, finishAt)));
+            }
+            return previews;
+        }));
+    }
+
+    /**
+     * Event {@code id} with its strong ETag, the version of the same entity. The entity may come from a second-level
+     * cache entry that another instance's write has made stale; it is then served under its own version, so the
+     * client does not store it under the current one.
+     */
+    @Transactional(readOnly = true)
+    public TaggedEvent getTaggedEventById(@NonNull UUID id) {
+        return ReplicaRouter.onPrimary(() -> {
+            EventEntity eventEntity = getEventEntityById(id);
+            return new TaggedEvent(eventMapper.toEventDto(eventEntity), "\"" + eventEntity.getVersion() + "\"");
+        });
+    }
+
+    /**
+     * Strong ETag of the month previews for {@code date}, derived from an aggregate over the month's rows:
+     * inserts and deletes change the count, updates bump a version and the latest update time. Read from the
+     * primary, like the cached previews it validates.
+     */
+    @Transactional(readOnly = true)
+    public String getEventPreviewsForMonthETag(@NonNull ZonedDateTime date) {
+        MonthRange month = MonthRange.of(date);
+        EventRangeStamp stamp = ReplicaRouter.onPrimary(() ->
+                eventRepository.findStampByStartAtBetween(month.start(), month.end())
+                        .plus(eventRepository.findSeriesStampBetween(month.start(), month.end())));
+        Instant lastUpdatedAt = stamp.lastUpdatedAt() != null ? stamp.lastUpdatedAt() : Instant.EPOCH;
+        return "\"%x-%x-%x.%x\"".formatted(
+                stamp.count(), stamp.versionSum(), lastUpdatedAt.getEpochSecond(), lastUpdatedAt.getNano());
+    }
+
+    @Transactional(readOnly = true)
+    public PaginatedResponse<EventPreviewDto> getEventPreviews(
+            @NonNull ZonedDateTime from,
+            @NonNull ZonedDateTime to,
+            @NonNull PaginationRequest pagination
+    ) {
+        log.debug("Getting event previews from {} to {} with {}", from, to, pagination);
+
+        Instant fromInstant = from.toInstant();
+        Instant toInstant = to.toInstant();
+        if (!fromInstant.isBefore(toInstant)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        int size = pagination.size();
+        // One extra row tells whether another page exists without a COUNT query
+        Limit limit = Limit.of(size + 1);
+
+        List<EventPreviewProjection> rows;
+        EventCursor cursor = pagination.cursor() == null ? null : EventCursor.decode(pagination.cursor());
+        if (cursor == null) {
+            rows = eventRepository.findPreviewPage(fromInstant, toInstant, limit);
+        } else {
+            rows = eventRepository.findPreviewPageAfter(fromInstant, toInstant, cursor.startAt(), cursor.id(), limit);
+        }
+
+        List<EventSeriesProjection> series = eventRepository.findSeriesOverlapping(fromInstant, toInstant);
+        if (!series.isEmpty()) {
+            rows = mergeOccurrences(rows, series, fromInstant, toInstant, cursor, size + 1);
+        }
+
+        boolean last = rows.size() <= size;
+        List<EventPreviewProjection> page = last ? rows : rows.subList(0, size);
+
+        String nextCursor = null;
+        if (!last) {
+            EventPreviewProjection lastRow = page.getLast();
+            nextCursor = new EventCursor(lastRow.startAt(), lastRow.id()).encode();
+        }
+
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (pagination.includeTotal()) {
+            totalElements = eventRepository.countByStartAtGreaterThanEqualAndStartAtLessThan(fromInstant, toInstant);
+            for (EventSeriesProjection row : series) {
+                totalElements += seriesOf(row).countOccurrences(fromInstant, toInstant);
+            }
+            totalPages = (int) ((totalElements + size - 1) / size);
+        }
+
+        return new PaginatedResponse<>(
+                page.stream()
+                        .map(eventMapper::toEventPreviewDto)
+                        .toList(),
+                pagination.page(),
+                size,
+                totalElements,
+                totalPages,
+                pagination.cursor() == null,
+                last,
+                nextCursor
+        );
+    }
+
+    /**
+     * Adds the occurrences after {@code cursor} of each series to the page rows and keeps the first {@code limit}
+     * in {@code (startAt, id)} order. Each series contributes at most {@code limit} occurrences.
+     */
+    private List<EventPreviewProjection> mergeOccurrences(
+            List<EventPreviewProjection> rows,
+            List<EventSeriesProjection> series,
+            Instant from,
+            Instant to,
+            EventCursor cursor,
+            int limit
+    ) {
+        List<EventPreviewProjection> merged = new ArrayList<>(rows);
+        EventPreviewProjection after = cursor != null
+                ? new EventPreviewProjection(cursor.id(), null, cursor.startAt(), null, null)
+                : null;
+        for (EventSeriesProjection row : series) {
+            Instant expandFrom = cursor != null && cursor.startAt().isAfter(from) ? cursor.startAt() : from;
+            int[] added = new int[1];
+            seriesOf(row).forEachOccurrence(expandFrom, to, (startAt, finishAt) -> {
+                EventPreviewProjection occurrence = new EventPreviewProjection(
+                        row.id(), row.title(), startAt, finishAt, row.location());
+                if (after == null || PAGE_ORDER.compare(occurrence, after) > 0) {
+                    merged.add(occurrence);
+                    added[0]++;
+                }
+                return added[0] < limit;
+            });
+        }
+        merged.sort(PAGE_ORDER);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private static RecurrenceSeries seriesOf(EventSeriesProjection series) {
+        return RecurrenceSeries.of(series.recurrenceRule(), series.recurrenceZone(),
+                series.startAt(), series.finishAt(), series.recurrenceExceptions());
+    }
+
+    private static RecurrenceSeries seriesOf(EventEntity eventEntity) {
+        if (!eventEntity.isRecurring()) {
+            return null;
+        }
+        return RecurrenceSeries.of(eventEntity.getRecurrenceRule(), eventEntity.getRecurrenceZone(),
+                eventEntity.getStartAt(), eventEntity.getFinishAt(), eventEntity.getRecurrenceExceptions());
+    }
+
+    /**
+     * Evicts the days of {@code startAts} from the preview cache, or every day when a recurring event is
+     * written, since its occurrences may fall on any day.
+     */
+    private void invalidatePreviews(boolean recurring, Instant... startAts) {
+        if (recurring) {
+            previewCache.invalidateAll();
+        } else {
+            previewCache.invalidate(Arrays.asList(startAts));
+        }
+    }
+
+    public record TaggedEvent(EventDto event, String etag) {
+    }
+
+    private record MonthRange(Instant start, Instant end) {
+
+        static MonthRange of(ZonedDateTime date) {
+            ZoneId zoneId = date.getZone();
+            YearMonth yearMonth = YearMonth.of(date.getYear(), date.getMonthValue());
+            return new MonthRange(
+                    yearMonth.atDay(1).atStartOfDay(zoneId).toInstant(),
+                    yearMonth.plusMonths(1).atDay(1).atStartOfDay(zoneId).toInstant()
+            );
+        }
     }
 }
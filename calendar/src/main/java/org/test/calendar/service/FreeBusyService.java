@@ -0,0 +1,169 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.config.FreeBusyProperties;
+import org.test.calendar.model.dto.FreeBusyResponse;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Computes busy time by streaming event times in start order and merging them in a single pass,
+ * so memory depends on the size of the result, never on the number of events in the range. Only the later
+ * occurrences of recurring events are held in memory, expanded within the range and interleaved with the stream.
+ */
+@Slf4j
+@Service
+@Timed("calendar.service")
+@RequiredArgsConstructor
+public class FreeBusyService {
+
+    private static final int MAX_SLOT_MINUTES = 24 * 60;
+
+    private final EventRepository eventRepository;
+    private final FreeBusyProperties properties;
+    private final EventProperties eventProperties;
+
+    @Transactional(readOnly = true)
+    public FreeBusyResponse getFreeBusy(@NonNull ZonedDateTime from, @NonNull ZonedDateTime to, Integer slotMinutes) {
+        log.debug("Getting free/busy from {} to {} with slot minutes {}", from, to, slotMinutes);
+
+        Instant fromInstant = from.toInstant();
+        Instant toInstant = to.toInstant();
+        if (!fromInstant.isBefore(toInstant)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(fromInstant, toInstant).compareTo(properties.maxRange()) > 0) {
+            throw new IllegalArgumentException("Range must not be longer than " + properties.maxRange().toDays() + " days");
+        }
+        if (slotMinutes != null && (slotMinutes < 1 || slotMinutes > MAX_SLOT_MINUTES)) {
+            throw new IllegalArgumentException("slotMinutes must be between 1 and " + MAX_SLOT_MINUTES);
+        }
+
+        if (slotMinutes == null) {
+            ZoneId zoneId = from.getZone();
+            List<FreeBusyResponse.Interval> busy = new ArrayList<>();
+            sweep(fromInstant, toInstant, (start, finish) ->
+                    busy.add(new FreeBusyResponse.Interval(start.atZone(zoneId), finish.atZone(zoneId))));
+            return FreeBusyResponse.intervals(from, to, busy);
+        }
+
+        long slotMillis = Duration.ofMinutes(slotMinutes).toMillis();
+        long rangeMillis = Duration.between(fromInstant, toInstant).toMillis();
+        int slotCount = (int) Math.ceilDiv(rangeMillis, slotMillis);
+        BitSet slots = new BitSet(slotCount);
+        sweep(fromInstant, toInstant, (start, finish) -> slots.set(
+                (int) (Duration.between(fromInstant, start).toMillis() / slotMillis),
+                (int) Math.ceilDiv(Duration.between(fromInstant, finish).toMillis(), slotMillis)));
+
+        return FreeBusyResponse.slots(from, to, slotMinutes, slotCount,
+                Base64.getEncoder().encodeToString(slots.toByteArray()));
+    }
+
+    private void sweep(Instant from, Instant to, BiConsumer<Instant, Instant> block) {
+        // Events last at most maxDuration, so only rows starting that long before `from` can overlap it;
+        // the lower bound keeps the scan a range on idx_events_start_at
+        Instant scanFrom = from.minus(eventProperties.maxDuration());
+        List<EventTimesProjection> occurrences = new ArrayList<>();
+        for (EventSeriesProjection series : eventRepository.findSeriesOverlapping(scanFrom, to)) {
+            RecurrenceSeries.of(series.recurrenceRule(), series.recurrenceZone(), series.startAt(), series.finishAt(),
+                            series.recurrenceExceptions())
+                    .forEachOccurrence(scanFrom, to, (startAt, finishAt) ->
+                            occurrences.add(new EventTimesProjection(startAt, finishAt)));
+        }
+        occurrences.sort(Comparator.comparing(EventTimesProjection::startAt));
+
+        try (Stream<EventTimesProjection> rows = eventRepository.streamTimesOverlapping(scanFrom, from, to)) {
+            merge(interleave(rows.iterator(), occurrences.iterator()), from, to, block);
+        }
+    }
+
+    /**
+     * Interleaves two iterators ordered by start into one ordered by start.
+     */
+    static Iterator<EventTimesProjection> interleave(Iterator<EventTimesProjection> first,
+                                                     Iterator<EventTimesProjection> second) {
+        return new Iterator<>() {
+
+            private EventTimesProjection nextOfFirst = first.hasNext() ? first.next() : null;
+            private EventTimesProjection nextOfSecond = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextOfFirst != null || nextOfSecond != null;
+            }
+
+            @Override
+            public EventTimesProjection next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                EventTimesProjection next;
+                if (nextOfSecond == null
+                        || (nextOfFirst != null && !nextOfSecond.startAt().isBefore(nextOfFirst.startAt()))) {
+                    next = nextOfFirst;
+                    nextOfFirst = first.hasNext() ? first.next() : null;
+                } else {
+                    next = nextOfSecond;
+                    nextOfSecond = second.hasNext() ? second.next() : null;
+                }
+                return next;
+            }
+        };
+    }
+
+    /**
+     * Merges intervals ordered by start into maximal busy blocks clipped to {@code [from, to)}.
+     * Touching intervals are joined into one block.
+     */
+    static void merge(Iterator<EventTimesProjection> rows, Instant from, Instant to, BiConsumer<Instant, Instant> block) {
+        Instant blockStart = null;
+        Instant blockEnd = null;
+
+        while (rows.hasNext()) {
+            EventTimesProjection row = rows.next();
+            Instant start = row.startAt().isBefore(from) ? from : row.startAt();
+            Instant finish = row.finishAt().isAfter(to) ? to : row.finishAt();
+            if (!start.isBefore(finish)) {
+                continue;
+            }
+
+            if (blockEnd != null && !start.isAfter(blockEnd)) {
+                if (finish.isAfter(blockEnd)) {
+                    blockEnd = finish;
+                }
+            } else {
+                if (blockEnd != null) {
+                    block.accept(blockStart, blockEnd);
+                }
+                blockStart = start;
+                blockEnd = finish;
+            }
+        }
+
+        if (blockEnd != null) {
+            block.accept(blockStart, blockEnd);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package org.test.calendar.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.test.calendar.config.EventStreamProperties;
+import org.test.calendar.exception.StreamCapacityExceededException;
+import org.test.calendar.model.dto.EventChangeDto;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed event changes to calendar views subscribed over Server-Sent Events.
+ * <p>
+ * Writers hand a change to a bounded dispatch queue once their transaction commits and never wait for subscribers.
+ * A single dispatcher thread serializes each change once and offers it to the subscribers whose window contains one
+ * of the event's start times, found through an index of subscribers by the UTC day of their window. Each subscriber
+ * has a bounded queue drained by its own virtual thread, so an idle connection costs a parked virtual thread and a
+ * slow one only delays itself.
+ * <p>
+ * When a subscriber's queue is full, its backlog is replaced by one {@code resync} event, after which the client
+ * reloads its window or catches up through the change log. A full dispatch queue resyncs every subscriber.
+ */
+@Slf4j
+@Component
+public class EventStreamHub implements MeterBinder {
+
+    private static final Message RESYNC = new Message("resync", "{}");
+
+    private final EventStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribersByDay = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final BlockingQueue<Dispatch> dispatches;
+    private final AtomicBoolean dispatchOverflowed = new AtomicBoolean();
+    private final Thread dispatcher;
+
+    private final AtomicLong slowSubscriberResyncs = new AtomicLong();
+    private final AtomicLong dispatchOverflows = new AtomicLong();
+
+    public EventStreamHub(EventStreamProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dispatches = new ArrayBlockingQueue<>(properties.dispatchCapacity());
+        this.dispatcher = Thread.ofVirtual().name("event-stream-dispatcher").start(this::dispatchLoop);
+    }
+
+    /**
+     * Opens a stream of the changes to events starting within {@code [from, to)}.
+     *
+     * @throws StreamCapacityExceededException if {@code calendar.stream.max-subscribers} streams are open
+     */
+    public SseEmitter subscribe(@NonNull ZonedDateTime from, @NonNull ZonedDateTime to) {
+        return subscribe(from.toInstant(), to.toInstant(), new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Instant from, Instant to, SseEmitter emitter) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(properties.maxRange()) > 0) {
+            throw new IllegalArgumentException("Range must not be longer than " + properties.maxRange().toDays() + " days");
+        }
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new StreamCapacityExceededException(properties.maxSubscribers());
+        }
+
+        Subscriber subscriber = new Subscriber(from, to, emitter);
+        subscribers.add(subscriber);
+        for (long day = subscriber.firstDay; day <= subscriber.lastDay; day++) {
+            subscribersByDay.compute(day, (key, daySubscribers) -> {
+                Set<Subscriber> updated = daySubscribers != null ? daySubscribers : ConcurrentHashMap.newKeySet();
+                updated.add(subscriber);
+                return updated;
+            });
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        subscriber.sender = Thread.ofVirtual().name("event-stream-subscriber").start(subscriber::run);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Pushes {@code change} once the current transaction commits to the subscribers whose window contains one of
+     * {@code startAts}. A recurring event, whose occurrences may fall on any day, and a change without start times
+     * go to every subscriber.
+     */
+    public void publish(@NonNull EventChangeDto change, boolean recurring, Instant... startAts) {
+        Instant[] targetStartAts = recurring ? new Instant[0] : startAts;
+        afterCommit(() -> enqueue(new Dispatch(change, targetStartAts)));
+    }
+
+    /**
+     * Tells every subscriber to reload once the current transaction commits, for writes of many events at once.
+     */
+    public void publishResync() {
+        afterCommit(() -> enqueue(new Dispatch(null, new Instant[0])));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("calendar.stream.subscribers", subscribers, Set::size)
+                .register(registry);
+        Gauge.builder("calendar.stream.dispatch.pending", dispatches, BlockingQueue::size)
+                .register(registry);
+        FunctionCounter.builder("calendar.stream.resyncs", slowSubscriberResyncs, AtomicLong::get)
+                .tag("cause", "slow-subscriber")
+                .register(registry);
+        FunctionCounter.builder("calendar.stream.resyncs", dispatchOverflows, AtomicLong::get)
+                .tag("cause", "dispatch-overflow")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.interrupt();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void enqueue(Dispatch dispatch) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (!dispatches.offer(dispatch)) {
+            dispatchOverflows.incrementAndGet();
+            dispatchOverflowed.set(true);
+        }
+    }
+
+    private void dispatchLoop() {
+        try {
+            while (true) {
+                Dispatch dispatch = dispatches.take();
+                if (dispatchOverflowed.getAndSet(false)) {
+                    // Changes were dropped, so any subscriber may have missed one
+                    subscribers.forEach(subscriber -> subscriber.offer(RESYNC));
+                }
+                deliver(dispatch);
+            }
+        } catch (InterruptedException e) {
+            log.debug("Event stream dispatcher stopped");
+        }
+    }
+
+    private void deliver(Dispatch dispatch) {
+        Message message = toMessage(dispatch.change());
+
+        Set<Subscriber> targets = new HashSet<>();
+        boolean located = false;
+        for (Instant startAt : dispatch.startAts()) {
+            if (startAt == null) {
+                continue;
+            }
+            located = true;
+            Set<Subscriber> daySubscribers = subscribersByDay.get(dayOf(startAt));
+            if (daySubscribers != null) {
+                for (Subscriber subscriber : daySubscribers) {
+                    if (subscriber.covers(startAt)) {
+                        targets.add(subscriber);
+                    }
+                }
+            }
+        }
+        (located ? targets : subscribers).forEach(subscriber -> subscriber.offer(message));
+    }
+
+    private Message toMessage(EventChangeDto change) {
+        if (change == null) {
+            return RESYNC;
+        }
+        try {
+            // Serialized once for all subscribers
+            return new Message("change", objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change of event {}, resyncing its subscribers", change.id(), e);
+            return RESYNC;
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        for (long day = subscriber.firstDay; day <= subscriber.lastDay; day++) {
+            subscribersByDay.computeIfPresent(day, (key, daySubscribers) -> {
+                daySubscribers.remove(subscriber);
+                return daySubscribers.isEmpty() ? null : daySubscribers;
+            });
+        }
+    }
+
+    private static long dayOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC).toEpochDay();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * A change to deliver; {@code change} is null for a resync. Without non-null start times it goes to everyone.
+     */
+    private record Dispatch(EventChangeDto change, Instant[] startAts) {
+    }
+
+    private record Message(String name, String data) {
+    }
+
+    private final class Subscriber {
+
+        private final Instant from;
+        private final Instant to;
+        private final long firstDay;
+        private final long lastDay;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscriber(Instant from, Instant to, SseEmitter emitter) {
+            this.from = from;
+            this.to = to;
+            this.firstDay = dayOf(from);
+            this.lastDay = dayOf(to.minusNanos(1));
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        }
+
+        private boolean covers(Instant startAt) {
+            return !startAt.isBefore(from) && startAt.isBefore(to);
+        }
+
+        // Called by the dispatcher only, so the queue cannot fill up again between the clear and the offer
+        private void offer(Message message) {
+            if (!queue.offer(message)) {
+                queue.clear();
+                queue.offer(RESYNC);
+                slowSubscriberResyncs.incrementAndGet();
+            }
+        }
+
+        private void run() {
+            long heartbeatMillis = properties.heartbeat().toMillis();
+            try {
+                // Commits the response, so the client knows the stream is open before the first change
+                emitter.send(SseEmitter.event().comment("subscribed"));
+                while (!closed.get()) {
+                    Message message = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(message.name()).data(message.data()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                log.trace("Event stream subscriber closed");
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter completed; the container reports the former to the emitter too
+                log.debug("Event stream subscriber disconnected: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unregister(this);
+                Thread thread = sender;
+                if (thread != null && thread != Thread.currentThread()) {
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+}
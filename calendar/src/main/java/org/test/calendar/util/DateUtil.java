@@ -3,6 +3,7 @@ package org.test.calendar.util;
 import lombok.experimental.UtilityClass;
 
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 
@@ -20,4 +21,14 @@ public class DateUtil {
                 .map(v -> v.atZone(java.time.ZoneOffset.UTC))
                 .orElse(null);
     }
+
+    /**
+     * {@code value} in the zone with the given id, or in UTC when the id is null.
+     */
+    public ZonedDateTime toZonedDateTime(Instant value, String zoneId) {
+        if (value == null || zoneId == null) {
+            return toZonedDateTime(value);
+        }
+        return value.atZone(ZoneId.of(zoneId));
+    }
 }
@@ -0,0 +1,41 @@
+package org.test.calendar.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the change log: the last change a client has seen and when the token was issued. Whether changes
+ * after it have been purged is told by {@code seq} alone, since polling reissues the token with the same {@code seq}.
+ */
+public record EventChangeToken(long seq, Instant issuedAt) {
+
+    private static final int LENGTH = 2 * Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .putLong(seq)
+                .putLong(issuedAt.toEpochMilli());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static EventChangeToken decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != LENGTH) {
+                throw new IllegalArgumentException("Invalid change token");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long seq = buffer.getLong();
+            Instant issuedAt = Instant.ofEpochMilli(buffer.getLong());
+            if (seq < 0) {
+                throw new IllegalArgumentException("Invalid change token");
+            }
+            return new EventChangeToken(seq, issuedAt);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid change token", e);
+        }
+    }
+}
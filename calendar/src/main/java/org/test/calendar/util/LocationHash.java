@@ -0,0 +1,28 @@
+package org.test.calendar.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Lowercase hex SHA-256 of a location, matching MySQL's {@code SHA2(location, 256)}. Lets the unbounded
+ * {@code location} text be looked up through a fixed-width index column.
+ */
+@UtilityClass
+public class LocationHash {
+
+    public String of(String location) {
+        if (location == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(location.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
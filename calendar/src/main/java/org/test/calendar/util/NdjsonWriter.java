@@ -0,0 +1,68 @@
+package org.test.calendar.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes values as newline-delimited JSON. The generator is only opened by the first value, so nothing reaches
+ * the stream, and an HTTP response stays uncommitted, until there is something to write. The first value is
+ * flushed right away so a client sees data before the producer finishes; later values go out as the stream's
+ * buffer fills, unless {@link #flush()} pushes them out earlier. Closing never closes the underlying stream.
+ */
+public class NdjsonWriter<T> implements Consumer<T>, Closeable, Flushable {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final OutputStream outputStream;
+
+    private JsonGenerator generator;
+
+    public NdjsonWriter(ObjectMapper objectMapper, Class<T> type, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        // Flushing after every value would send one chunk per line
+        this.writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            boolean first = generator == null;
+            if (first) {
+                generator = objectMapper.createGenerator(outputStream)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+            }
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (first) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+    }
+}
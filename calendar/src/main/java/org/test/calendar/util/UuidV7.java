@@ -0,0 +1,58 @@
+package org.test.calendar.util;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48-bit unix millis, 12-bit per-millisecond sequence, 62 random bits.
+ * Ids from one generator are strictly increasing in {@code BINARY(16)} byte order; {@link #randomUuid()}
+ * draws from the single generator the application uses.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+
+    private static final UuidV7 DEFAULT = new UuidV7(Clock.systemUTC());
+
+    private final Clock clock;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public UuidV7(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static UUID randomUuid() {
+        return DEFAULT.next();
+    }
+
+    public UUID next() {
+        long timestampAndSequence = nextTimestampAndSequence(clock.millis());
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSigBits = (timestamp & MAX_TIMESTAMP) << 16
+                | 0x7000L
+                | sequence;
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL
+                | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private long nextTimestampAndSequence(long nowMillis) {
+        long candidate = nowMillis << SEQUENCE_BITS;
+        // Clock going backwards or more than 4096 ids in one millisecond borrow from the next millisecond,
+        // which keeps the sequence monotonic at the cost of running slightly ahead of the wall clock.
+        return lastTimestampAndSequence.updateAndGet(last -> Math.max(candidate, last + 1));
+    }
+}
@@ -4,4 +4,5 @@ public class EventValidation {
 
     public interface EventCreation {};
     public interface EventUpdating {};
+    public interface EventPatching {};
 }
@@ -0,0 +1,43 @@
+package org.test.calendar.validation.annotation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.recurrence.RecurrenceSeries;
+
+/**
+ * Validates {@link ValidRecurrence}: the rule is within the supported RRULE subset, {@code startAt} is its first
+ * occurrence and exception dates follow it. Missing timestamps are left to {@code @NotNull}.
+ */
+public class RecurrenceValidator implements ConstraintValidator<ValidRecurrence, EventDto> {
+
+    @Override
+    public boolean isValid(EventDto value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        if (value.recurrenceRule() == null) {
+            return value.exceptionDates() == null || value.exceptionDates().isEmpty()
+                    || reject(context, "exceptionDates", "exception dates require a recurrence rule");
+        }
+        if (value.startAt() == null || value.finishAt() == null) {
+            return true;
+        }
+
+        try {
+            RecurrenceSeries.of(value.recurrenceRule(), value.startAt(), value.finishAt(), value.exceptionDates());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return reject(context, "recurrenceRule", e.getMessage());
+        }
+    }
+
+    private static boolean reject(ConstraintValidatorContext context, String property, String message) {
+        context.disableDefaultConstraintViolation();
+        // Messages may quote the rule, which must not be interpolated as an expression
+        context.buildConstraintViolationWithTemplate(message.replaceAll("([\\\\{}$])", "\\\\$1"))
+                .addPropertyNode(property)
+                .addConstraintViolation();
+        return false;
+    }
+}
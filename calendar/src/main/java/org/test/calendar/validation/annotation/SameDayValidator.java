@@ -3,47 +3,108 @@ package org.test.calendar.validation.annotation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Validates {@link SameDay} through method handles resolved once per validated class: record accessors
+ * for records, field getters otherwise. Bean Validation does not pass the annotated class to
+ * {@link #initialize}, so the handles are resolved on the first validation of each class. A class whose fields
+ * cannot be read as {@link ZonedDateTime}s is invalid, as are values that fail to be read.
+ */
 public class SameDayValidator implements ConstraintValidator<SameDay, Object> {
-    
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(ZonedDateTime.class, Object.class);
+
+    private final Map<Class<?>, Accessors> accessorsByType = new ConcurrentHashMap<>();
+
     private String fromField;
     private String toField;
-    
+
     @Override
     public void initialize(SameDay constraintAnnotation) {
         this.fromField = constraintAnnotation.fromField();
         this.toField = constraintAnnotation.toField();
     }
-    
+
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         if (value == null) {
             return true;
         }
-        
+
+        Accessors accessors = accessorsByType.get(value.getClass());
+        if (accessors == null) {
+            accessors = accessorsByType.computeIfAbsent(value.getClass(), this::resolve);
+        }
+
+        if (accessors == Accessors.UNREADABLE) {
+            return false;
+        }
+
+        ZonedDateTime fromDate;
+        ZonedDateTime toDate;
         try {
-            ZonedDateTime fromDate = getFieldValue(value, fromField);
-            ZonedDateTime toDate = getFieldValue(value, toField);
-            
-            if (fromDate == null || toDate == null) {
-                return true;
-            }
-            
-            boolean sameDay = fromDate.toLocalDate().equals(toDate.toLocalDate());
-            boolean fromBeforeTo = fromDate.isBefore(toDate);
-            
-            return sameDay && fromBeforeTo;
-            
-        } catch (Exception e) {
+            fromDate = (ZonedDateTime) accessors.from().invokeExact(value);
+            toDate = (ZonedDateTime) accessors.to().invokeExact(value);
+        } catch (Throwable e) {
             return false;
         }
+
+        if (fromDate == null || toDate == null) {
+            return true;
+        }
+        return isSameDayAndOrdered(fromDate, toDate);
+    }
+
+    /**
+     * Whether both values have the same local date, each in its own zone, and {@code from} is strictly before
+     * {@code to}. Compares the date fields directly instead of materializing {@code LocalDate}s.
+     */
+    public static boolean isSameDayAndOrdered(ZonedDateTime from, ZonedDateTime to) {
+        return from.getDayOfMonth() == to.getDayOfMonth()
+                && from.getMonthValue() == to.getMonthValue()
+                && from.getYear() == to.getYear()
+                && from.isBefore(to);
     }
-    
-    private ZonedDateTime getFieldValue(Object object, String fieldName) throws Exception {
-        Field field = object.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return (ZonedDateTime) field.get(object);
+
+    private Accessors resolve(Class<?> type) {
+        MethodHandle from = accessor(type, fromField);
+        MethodHandle to = accessor(type, toField);
+        return from != null && to != null ? new Accessors(from, to) : Accessors.UNREADABLE;
+    }
+
+    /**
+     * Handle reading the {@link ZonedDateTime} field {@code name} of {@code type}, or null if there is none.
+     */
+    private static MethodHandle accessor(Class<?> type, String name) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(name) && component.getType() == ZonedDateTime.class) {
+                        return lookup.unreflect(component.getAccessor()).asType(ACCESSOR_TYPE);
+                    }
+                }
+                return null;
+            }
+            Field field = type.getDeclaredField(name);
+            return field.getType() == ZonedDateTime.class
+                    ? lookup.unreflectGetter(field).asType(ACCESSOR_TYPE)
+                    : null;
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private record Accessors(MethodHandle from, MethodHandle to) {
+
+        static final Accessors UNREADABLE = new Accessors(null, null);
     }
 }
@@ -0,0 +1,6 @@
+ALTER TABLE events
+    ADD COLUMN version    BIGINT       NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- Covers the month change stamp (count, sum(version), max(updated_at)) without touching the rows
+CREATE INDEX idx_events_start_at_stamp ON events (start_at, updated_at, version);
@@ -0,0 +1,11 @@
+-- location is TEXT and cannot be fully indexed; its SHA-256 is kept alongside for overlap lookups
+ALTER TABLE events
+    ADD COLUMN location_hash VARCHAR(64) CHARACTER SET ascii NULL;
+
+UPDATE events
+SET location_hash = SHA2(location, 256)
+WHERE location IS NOT NULL;
+
+-- Serves location_hash = ? AND start_at in a bounded range AND finish_at > ? from the index alone,
+-- and its next-key locks make the conflict check's locking read block overlapping concurrent inserts
+CREATE INDEX idx_events_location_hash_start_at ON events (location_hash, start_at, finish_at);
@@ -0,0 +1,10 @@
+-- A recurring event is one row holding its first occurrence; the rule generates the following ones on read
+ALTER TABLE events
+    ADD COLUMN recurrence_rule       VARCHAR(255) NULL,
+    ADD COLUMN recurrence_zone       VARCHAR(64)  NULL,
+    ADD COLUMN recurrence_exceptions TEXT         NULL,
+    ADD COLUMN recurrence_end        DATETIME(3)  NULL;
+
+-- Finds the series that may have occurrences in a range: recurrence_end >= ? AND start_at < ?.
+-- Rows of single events have no recurrence_end and stay out of the scanned range
+CREATE INDEX idx_events_recurrence_end ON events (recurrence_end, start_at);
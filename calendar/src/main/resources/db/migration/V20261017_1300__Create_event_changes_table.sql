@@ -0,0 +1,11 @@
+-- Append-only log of event writes for delta sync: seq orders the changes, deleted marks a tombstone.
+-- Rows older than calendar.changes.retention are purged, so tokens older than that are rejected
+CREATE TABLE IF NOT EXISTS event_changes
+(
+    seq        BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_id   BINARY(16)  NOT NULL,
+    deleted    BOOLEAN     NOT NULL,
+    changed_at DATETIME(3) NOT NULL
+);
+
+CREATE INDEX idx_event_changes_changed_at ON event_changes (changed_at);
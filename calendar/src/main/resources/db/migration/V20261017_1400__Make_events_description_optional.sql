@@ -0,0 +1,3 @@
+-- Most calendars leave DESCRIPTION out; imported events without one are stored without one
+ALTER TABLE events
+    MODIFY COLUMN description TEXT NULL;
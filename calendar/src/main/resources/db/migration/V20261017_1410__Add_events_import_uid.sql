@@ -0,0 +1,6 @@
+-- UID of the VEVENT an event was imported from; a repeated import skips the UIDs already stored.
+-- Events written through the API have none, and a unique index admits any number of NULLs
+ALTER TABLE events
+    ADD COLUMN import_uid VARCHAR(255) NULL;
+
+CREATE UNIQUE INDEX uk_events_import_uid ON events (import_uid);
@@ -0,0 +1,245 @@
+package org.test.calendar.cache;
+
+import org.junit.jupiter.api.Test;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.model.dto.EventPreviewDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPreviewCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final List<EventPreviewDto> events = List.of(
+            preview("Kyiv Midnight", "2025-09-30T21:30:00Z"),
+            preview("Morning Meeting", "2025-10-15T08:00:00Z"),
+            preview("Project Review", "2025-10-20T14:00:00Z"),
+            preview("Training Session", "2025-11-05T10:00:00Z")
+    );
+
+    private final List<Instant[]> loads = new ArrayList<>();
+
+    @Test
+    void getPreviews_whenDaysAreCached_shouldNotCallLoaderAgain() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+
+        List<EventPreviewDto> first = cache.getPreviews(from, to, loader());
+        List<EventPreviewDto> second = cache.getPreviews(from, to, loader());
+
+        assertThat(first).extracting(EventPreviewDto::title).containsExactly("Morning Meeting", "Project Review");
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasSize(1);
+        assertThat(cache.stats().hits()).isEqualTo(32);
+        assertThat(cache.stats().misses()).isEqualTo(32);
+    }
+
+    @Test
+    void getPreviews_forSameMonthInAnotherZone_shouldReuseCachedDaysAndTrimBoundaries() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, TTL));
+        cache.getPreviews(Instant.parse("2025-10-01T00:00:00Z"), Instant.parse("2025-11-01T00:00:00Z"), loader());
+        loads.clear();
+
+        ZoneId kyiv = ZoneId.of("Europe/Kyiv");
+        Instant from = ZonedDateTime.of(2025, 10, 1, 0, 0, 0, 0, kyiv).toInstant();
+        Instant to = ZonedDateTime.of(2025, 11, 1, 0, 0, 0, 0, kyiv).toInstant();
+
+        List<EventPreviewDto> result = cache.getPreviews(from, to, loader());
+
+        assertThat(result).extracting(EventPreviewDto::title)
+                .containsExactly("Kyiv Midnight", "Morning Meeting", "Project Review");
+        assertThat(loads).hasSize(1);
+        assertThat(loads.getFirst()[0]).isEqualTo(Instant.parse("2025-09-30T00:00:00Z"));
+        assertThat(loads.getFirst()[1]).isEqualTo(Instant.parse("2025-09-30T23:59:59.999Z"));
+    }
+
+    @Test
+    void invalidate_shouldOnlyReloadTouchedDay() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+        cache.getPreviews(from, to, loader());
+        loads.clear();
+
+        cache.invalidate(List.of(Instant.parse("2025-10-15T12:00:00Z")));
+        cache.getPreviews(from, to, loader());
+
+        assertThat(loads).hasSize(1);
+        assertThat(loads.getFirst()[0]).isEqualTo(Instant.parse("2025-10-15T00:00:00Z"));
+        assertThat(loads.getFirst()[1]).isEqualTo(Instant.parse("2025-10-15T23:59:59.999Z"));
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void getPreviews_whenInvalidatedDuringLoad_shouldNotStoreLoadedDays() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-10-31T00:00:00Z");
+
+        cache.getPreviews(from, to, (loadFrom, loadTo) -> {
+            cache.invalidate(List.of(Instant.parse("2025-10-15T08:00:00Z")));
+            return loader().apply(loadFrom, loadTo);
+        });
+
+        assertThat(cache.stats().days()).isZero();
+    }
+
+    @Test
+    void getPreviews_whenWeightExceeded_shouldEvictLeastRecentlyUsedDays() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 10, TTL));
+
+        cache.getPreviews(Instant.parse("2025-10-01T00:00:00Z"), Instant.parse("2025-10-31T00:00:00Z"), loader());
+
+        assertThat(cache.stats().weight()).isLessThanOrEqualTo(10);
+        assertThat(cache.stats().evictions()).isGreaterThan(0);
+    }
+
+    @Test
+    void getPreviews_whenDaysExpired_shouldLoadAgain() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, Duration.ZERO));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+
+        cache.getPreviews(from, to, loader());
+        List<EventPreviewDto> second = cache.getPreviews(from, to, loader());
+
+        assertThat(second).extracting(EventPreviewDto::title).containsExactly("Morning Meeting", "Project Review");
+        assertThat(loads).hasSize(2);
+        assertThat(cache.stats().hits()).isZero();
+        // Reloaded days replace the expired ones instead of adding to the weight
+        assertThat(cache.stats().days()).isEqualTo(32);
+    }
+
+    @Test
+    void getPreviews_whenDisabled_shouldAlwaysCallLoaderWithExactRange() {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(false, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+
+        cache.getPreviews(from, to, loader());
+        cache.getPreviews(from, to, loader());
+
+        assertThat(loads).hasSize(2);
+        assertThat(loads.getFirst()[0]).isEqualTo(from);
+        assertThat(loads.getFirst()[1]).isEqualTo(to);
+    }
+
+    @Test
+    void getPreviews_whenIdenticalLoadIsRunning_shouldShareIt() throws Exception {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(false, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+        BiFunction<Instant, Instant, List<EventPreviewDto>> blockingLoader = (loadFrom, loadTo) -> {
+            queries.incrementAndGet();
+            started.countDown();
+            await(release);
+            return loader().apply(loadFrom, loadTo);
+        };
+
+        CompletableFuture<List<EventPreviewDto>> leader = CompletableFuture.supplyAsync(() -> cache.getPreviews(from, to, blockingLoader));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<EventPreviewDto>> follower = CompletableFuture.supplyAsync(() -> cache.getPreviews(from, to, blockingLoader));
+        awaitCoalesced(cache, 1);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void getPreviews_afterWriteDuringLoad_shouldStartFreshLoad() throws Exception {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(true, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<EventPreviewDto>> stale = CompletableFuture.supplyAsync(() -> cache.getPreviews(from, to, (loadFrom, loadTo) -> {
+            started.countDown();
+            await(release);
+            return List.of();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.invalidate(List.of(Instant.parse("2025-10-15T08:00:00Z")));
+        List<EventPreviewDto> fresh = cache.getPreviews(from, to, loader());
+        release.countDown();
+
+        assertThat(fresh).extracting(EventPreviewDto::title).containsExactly("Morning Meeting", "Project Review");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(cache.stats().coalescedLoads()).isZero();
+        assertThat(cache.stats().detachedLoads()).isEqualTo(1);
+        assertThat(cache.getPreviews(from, to, loader())).isEqualTo(fresh);
+    }
+
+    @Test
+    void getPreviews_whenSharedLoadFails_shouldFailEveryCaller() throws Exception {
+        EventPreviewCache cache = new EventPreviewCache(new EventPreviewCacheProperties(false, 1_000, TTL));
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BiFunction<Instant, Instant, List<EventPreviewDto>> failingLoader = (loadFrom, loadTo) -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("query failed");
+        };
+
+        CompletableFuture<List<EventPreviewDto>> leader = CompletableFuture.supplyAsync(() -> cache.getPreviews(from, to, failingLoader));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<EventPreviewDto>> follower = CompletableFuture.supplyAsync(() -> cache.getPreviews(from, to, failingLoader));
+        awaitCoalesced(cache, 1);
+        release.countDown();
+
+        assertThat(leader).failsWithin(5, TimeUnit.SECONDS).withThrowableThat().havingRootCause().withMessage("query failed");
+        assertThat(follower).failsWithin(5, TimeUnit.SECONDS).withThrowableThat().havingRootCause().withMessage("query failed");
+        assertThat(cache.getPreviews(from, to, loader())).hasSize(2);
+    }
+
+    private BiFunction<Instant, Instant, List<EventPreviewDto>> loader() {
+        return (from, to) -> {
+            loads.add(new Instant[]{from, to});
+            return events.stream()
+                    .filter(event -> !event.startAt().toInstant().isBefore(from) && !event.startAt().toInstant().isAfter(to))
+                    .toList();
+        };
+    }
+
+    private static EventPreviewDto preview(String title, String startAt) {
+        ZonedDateTime start = Instant.parse(startAt).atZone(ZoneOffset.UTC);
+        return new EventPreviewDto(UUID.randomUUID(), title, start, start.plusHours(1), null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCoalesced(EventPreviewCache cache, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.stats().coalescedLoads() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(cache.stats().coalescedLoads()).isEqualTo(expected);
+    }
+}
@@ -1,47 +1,122 @@
 package org.test.calendar.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.test.calendar.exception.BusinessLogicException;
+import org.test.calendar.exception.ChangeTokenExpiredException;
+import org.test.calendar.exception.EventConflictException;
+import org.test.calendar.exception.EventNotFoundException;
+import org.test.calendar.exception.StreamCapacityExceededException;
+import org.test.calendar.metrics.StatementsPerRequestInterceptor;
+import org.test.calendar.model.dto.EventBatchItemResult;
+import org.test.calendar.model.dto.EventBatchOperation;
+import org.test.calendar.model.dto.EventBatchResponse;
+import org.test.calendar.model.dto.EventChangeDto;
+import org.test.calendar.model.dto.EventChangesResponse;
+import org.test.calendar.model.dto.EventDayCountsResponse;
 import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventImportProgress;
+import org.test.calendar.model.dto.EventLayoutResponse;
+import org.test.calendar.model.dto.EventPatchDto;
 import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.dto.FreeBusyResponse;
+import org.test.calendar.model.dto.PaginatedResponse;
+import org.test.calendar.model.dto.PaginationRequest;
+import org.test.calendar.service.EventBatchService;
+import org.test.calendar.service.EventChangeService;
+import org.test.calendar.service.EventConflictService;
+import org.test.calendar.service.EventDayCountService;
+import org.test.calendar.service.EventExportService;
+import org.test.calendar.service.EventFeedService;
+import org.test.calendar.service.EventImportService;
+import org.test.calendar.service.EventLayoutService;
 import org.test.calendar.service.EventService;
-
+import org.test.calendar.service.FreeBusyService;
+import org.test.calendar.stream.EventStreamHub;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EventController.class)
+@Import(SimpleMeterRegistry.class)
 class EventControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private EventBatchService eventBatchService;
+
+    @MockitoBean
+    private FreeBusyService freeBusyService;
+
+    @MockitoBean
+    private EventConflictService eventConflictService;
+
+    @MockitoBean
+    private EventExportService eventExportService;
+
+    @MockitoBean
+    private EventImportService eventImportService;
+
+    @MockitoBean
+    private EventFeedService eventFeedService;
+
+    @MockitoBean
+    private EventChangeService eventChangeService;
+
+    @MockitoBean
+    private EventStreamHub eventStreamHub;
+
+    @MockitoBean
+    private EventDayCountService eventDayCountService;
+
+    @MockitoBean
+    private EventLayoutService eventLayoutService;
+
     @Test
     void createEvent_shouldReturnCreatedEvent() throws Exception {
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
         UUID eventId = UUID.randomUUID();
 
-        EventDto inputDto = new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
-        EventDto outputDto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
+        EventDto inputDto = new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
+        EventDto outputDto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
 
         when(eventService.createEvent(any(EventDto.class))).thenReturn(outputDto);
 
@@ -59,26 +134,67 @@ class EventControllerTest {
     }
 
     @Test
-    void deleteEvent_shouldCallServiceAndReturnOk() throws Exception {
+    void deleteEvent_shouldCallServiceAndReturnNoContent() throws Exception {
         UUID eventId = UUID.randomUUID();
 
         doNothing().when(eventService).deleteEvent(eventId);
 
         mockMvc.perform(delete("/events/{id}", eventId))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
 
         verify(eventService).deleteEvent(eventId);
     }
 
+    @Test
+    void deleteEvent_whenEventDoesNotExist_shouldReturnNotFound() throws Exception {
+        UUID eventId = UUID.randomUUID();
+
+        doThrow(new EventNotFoundException(eventId)).when(eventService).deleteEvent(eventId);
+
+        mockMvc.perform(delete("/events/{id}", eventId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Event not found with id: " + eventId));
+
+        verify(eventService).deleteEvent(eventId);
+    }
+
+    @Test
+    void deleteEvents_byIds_shouldReturnDeletedCount() throws Exception {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+
+        when(eventService.deleteEvents(List.of(id1, id2))).thenReturn(2);
+
+        mockMvc.perform(delete("/events")
+                        .param("ids", id1.toString(), id2.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        verify(eventService).deleteEvents(List.of(id1, id2));
+    }
+
+    @Test
+    void deleteEvents_inRange_shouldReturnDeletedCount() throws Exception {
+        when(eventService.deleteEventsInRange(any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(7);
+
+        mockMvc.perform(delete("/events")
+                        .param("from", "2025-10-20T00:00:00+03:00[Europe/Kyiv]")
+                        .param("to", "2025-10-27T00:00:00+02:00[Europe/Kyiv]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(7));
+
+        verify(eventService).deleteEventsInRange(any(ZonedDateTime.class), any(ZonedDateTime.class));
+    }
+
     @Test
     void getEventById_whenEventExists_shouldReturnEvent() throws Exception {
         UUID eventId = UUID.randomUUID();
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
 
-        EventDto eventDto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
+        EventDto eventDto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
 
-        when(eventService.getEventById(eventId)).thenReturn(eventDto);
+        when(eventService.getTaggedEventById(eventId)).thenReturn(new EventService.TaggedEvent(eventDto, "\"1\""));
 
         mockMvc.perform(get("/events/{id}", eventId))
                 .andExpect(status().isOk())
@@ -88,21 +204,51 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.description").value("Daily standup"))
                 .andExpect(jsonPath("$.location").value("Room A"));
 
-        verify(eventService).getEventById(eventId);
+        verify(eventService).getTaggedEventById(eventId);
+    }
+
+    @Test
+    void getEventById_whenETagMatches_shouldReturnNotModified() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        EventDto eventDto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, startAt.plusMinutes(30),
+                "Room A", null, null);
+
+        when(eventService.getTaggedEventById(eventId)).thenReturn(new EventService.TaggedEvent(eventDto, "\"3\""));
+
+        mockMvc.perform(get("/events/{id}", eventId).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEventById_whenETagIsStale_shouldReturnEventWithCurrentETag() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+
+        when(eventService.getTaggedEventById(eventId)).thenReturn(new EventService.TaggedEvent(
+                new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null), "\"4\""));
+
+        mockMvc.perform(get("/events/{id}", eventId).header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.title").value("Team Meeting"));
     }
 
     @Test
     void getEventById_whenEventDoesNotExist_shouldReturnError() throws Exception {
         UUID eventId = UUID.randomUUID();
 
-        when(eventService.getEventById(eventId))
+        when(eventService.getTaggedEventById(eventId))
                 .thenThrow(new BusinessLogicException("Event not found with id: " + eventId));
 
         mockMvc.perform(get("/events/{id}", eventId))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
 
-        verify(eventService).getEventById(eventId);
+        verify(eventService).getTaggedEventById(eventId);
     }
 
     @Test
@@ -111,8 +257,8 @@ class EventControllerTest {
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
 
-        EventDto inputDto = new EventDto(null, "Updated Meeting", "Updated description", startAt, finishAt, "Room B");
-        EventDto outputDto = new EventDto(eventId, "Updated Meeting", "Updated description", startAt, finishAt, "Room B");
+        EventDto inputDto = new EventDto(null, "Updated Meeting", "Updated description", startAt, finishAt, "Room B", null, null);
+        EventDto outputDto = new EventDto(eventId, "Updated Meeting", "Updated description", startAt, finishAt, "Room B", null, null);
 
         when(eventService.updateEvent(eq(eventId), any(EventDto.class))).thenReturn(outputDto);
 
@@ -135,7 +281,7 @@ class EventControllerTest {
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
 
-        EventDto inputDto = new EventDto(null, "Updated Meeting", "Updated description", startAt, finishAt, "Room B");
+        EventDto inputDto = new EventDto(null, "Updated Meeting", "Updated description", startAt, finishAt, "Room B", null, null);
 
         when(eventService.updateEvent(eq(eventId), any(EventDto.class)))
                 .thenThrow(new BusinessLogicException("Event not found with id: " + eventId));
@@ -149,6 +295,56 @@ class EventControllerTest {
         verify(eventService).updateEvent(eq(eventId), any(EventDto.class));
     }
 
+    @Test
+    void patchEvent_shouldReturnPatchedEvent() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+
+        EventDto outputDto = new EventDto(eventId, "Renamed", "Daily standup", startAt, finishAt, "Room A", null, null);
+
+        when(eventService.patchEvent(eq(eventId), any(EventPatchDto.class))).thenReturn(outputDto);
+
+        mockMvc.perform(patch("/events/{id}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(eventId.toString()))
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.description").value("Daily standup"));
+
+        verify(eventService).patchEvent(eventId, new EventPatchDto("Renamed", null, null, null, null));
+    }
+
+    @Test
+    void patchEvent_withInvalidTitle_shouldReturnBadRequest() throws Exception {
+        UUID eventId = UUID.randomUUID();
+
+        mockMvc.perform(patch("/events/{id}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Invalid #title\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("title"));
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void patchEvent_withInvalidTitle_shouldCountValidationFailureAndRecordStatements() throws Exception {
+        mockMvc.perform(patch("/events/{id}", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Invalid #title\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(meterRegistry.get("calendar.validation.failures").tag("reason", "body").counter().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(StatementsPerRequestInterceptor.METRIC_NAME)
+                .tag("method", "PATCH")
+                .tag("uri", "/events/{id}")
+                .summary()
+                .count()).isGreaterThanOrEqualTo(1);
+    }
+
     @Test
     void getEventPreviewsForMonth_shouldReturnEventPreviews() throws Exception {
         UUID id1 = UUID.randomUUID();
@@ -180,6 +376,19 @@ class EventControllerTest {
         verify(eventService).getEventPreviewsForMonth(any(ZonedDateTime.class));
     }
 
+    @Test
+    void getEventPreviewsForMonth_whenETagMatches_shouldReturnNotModifiedWithoutLoadingPreviews() throws Exception {
+        when(eventService.getEventPreviewsForMonthETag(any(ZonedDateTime.class))).thenReturn("\"2-0-68f0.0\"");
+
+        mockMvc.perform(get("/events/previews/month")
+                        .param("date", "2025-10-15T00:00:00+03:00[Europe/Kyiv]")
+                        .header("If-None-Match", "\"2-0-68f0.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-0-68f0.0\""));
+
+        verify(eventService, never()).getEventPreviewsForMonth(any(ZonedDateTime.class));
+    }
+
     @Test
     void getEventPreviewsForMonth_whenNoEventsExist_shouldReturnEmptyList() throws Exception {
         when(eventService.getEventPreviewsForMonth(any(ZonedDateTime.class))).thenReturn(List.of());
@@ -192,5 +401,321 @@ class EventControllerTest {
 
         verify(eventService).getEventPreviewsForMonth(any(ZonedDateTime.class));
     }
-}
 
+    @Test
+    void getEventPreviews_shouldReturnPageWithCursor() throws Exception {
+        UUID id = UUID.randomUUID();
+        EventPreviewDto preview = new EventPreviewDto(id, "Event 1",
+                ZonedDateTime.parse("2025-10-10T10:00:00+03:00[Europe/Kyiv]"),
+                ZonedDateTime.parse("2025-10-10T11:00:00+03:00[Europe/Kyiv]"), "Location 1");
+
+        when(eventService.getEventPreviews(any(ZonedDateTime.class), any(ZonedDateTime.class), any(PaginationRequest.class)))
+                .thenReturn(new PaginatedResponse<>(List.of(preview), 0, 1, null, null, true, false, "next"));
+
+        mockMvc.perform(get("/events")
+                        .param("from", "2025-10-01T00:00:00+03:00[Europe/Kyiv]")
+                        .param("to", "2025-11-01T00:00:00+02:00[Europe/Kyiv]")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(id.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(eventService).getEventPreviews(any(ZonedDateTime.class), any(ZonedDateTime.class),
+                eq(new PaginationRequest(0, 1, null, false)));
+    }
+
+    @Test
+    void getEventPreviews_whenSizeExceedsMaximum_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/events")
+                        .param("from", "2025-10-01T00:00:00+03:00[Europe/Kyiv]")
+                        .param("to", "2025-11-01T00:00:00+02:00[Europe/Kyiv]")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getFreeBusy_shouldReturnBusyIntervals() throws Exception {
+        ZonedDateTime from = ZonedDateTime.parse("2025-10-23T00:00:00+03:00[Europe/Kyiv]");
+        ZonedDateTime to = ZonedDateTime.parse("2025-10-24T00:00:00+03:00[Europe/Kyiv]");
+        FreeBusyResponse response = FreeBusyResponse.intervals(from, to, List.of(
+                new FreeBusyResponse.Interval(from.plusHours(9), from.plusHours(11))));
+
+        when(freeBusyService.getFreeBusy(any(ZonedDateTime.class), any(ZonedDateTime.class), isNull()))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/events/free-busy")
+                        .param("from", "2025-10-23T00:00:00+03:00[Europe/Kyiv]")
+                        .param("to", "2025-10-24T00:00:00+03:00[Europe/Kyiv]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.busy", hasSize(1)))
+                .andExpect(jsonPath("$.slots").doesNotExist());
+    }
+
+    @Test
+    void exportEvents_shouldStreamOneJsonObjectPerLine() throws Exception {
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T06:30:00Z");
+        EventDto first = new EventDto(UUID.randomUUID(), "Team Meeting", "Daily standup", startAt, startAt.plusMinutes(30), "Room A", null, null);
+        EventDto second = new EventDto(UUID.randomUUID(), "Planning", "Sprint planning", startAt.plusHours(2), startAt.plusHours(3), null, null, null);
+
+        when(eventExportService.exportEvents(any(ZonedDateTime.class), any(ZonedDateTime.class), any())).thenAnswer(invocation -> {
+            Consumer<EventDto> sink = invocation.getArgument(2);
+            sink.accept(first);
+            sink.accept(second);
+            return 2L;
+        });
+
+        String body = mockMvc.perform(get("/events/export")
+                        .param("from", "2025-01-01T00:00:00+02:00[Europe/Kyiv]")
+                        .param("to", "2026-01-01T00:00:00+02:00[Europe/Kyiv]"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        assertThat(body.lines().toList()).satisfiesExactly(
+                line -> assertThat(line).startsWith("{").contains(first.id().toString()),
+                line -> assertThat(line).startsWith("{").contains(second.id().toString()));
+    }
+
+    @Test
+    void exportEvents_whenRangeIsInvalid_shouldReturnBadRequestAsJson() throws Exception {
+        when(eventExportService.exportEvents(any(ZonedDateTime.class), any(ZonedDateTime.class), any()))
+                .thenThrow(new IllegalArgumentException("from must be before to"));
+
+        mockMvc.perform(get("/events/export")
+                        .param("from", "2026-01-01T00:00:00+02:00[Europe/Kyiv]")
+                        .param("to", "2025-01-01T00:00:00+02:00[Europe/Kyiv]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value("from must be before to"));
+    }
+
+    @Test
+    void getFeed_shouldWriteCalendarWithValidators() throws Exception {
+        EventFeedService.FeedWindow window = new EventFeedService.FeedWindow(LocalDate.parse("2025-10-01"), LocalDate.parse("2025-11-01"));
+        when(eventFeedService.getWindow(any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(window);
+        when(eventFeedService.getFeedStamp(window))
+                .thenReturn(new EventFeedService.FeedStamp("\"feed-1\"", Instant.parse("2025-10-20T12:00:00Z")));
+        doAnswer(invocation -> {
+            Writer out = invocation.getArgument(1);
+            out.write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+            return null;
+        }).when(eventFeedService).writeFeed(eq(window), any(Writer.class));
+
+        mockMvc.perform(get("/events/feed")
+                        .param("from", "2025-10-01T00:00:00Z")
+                        .param("to", "2025-11-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(header().string("ETag", "\"feed-1\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+
+    @Test
+    void getFeed_whenETagMatches_shouldReturnNotModifiedWithoutRendering() throws Exception {
+        EventFeedService.FeedWindow window = new EventFeedService.FeedWindow(LocalDate.parse("2025-10-01"), LocalDate.parse("2025-11-01"));
+        when(eventFeedService.getWindow(isNull(), isNull())).thenReturn(window);
+        when(eventFeedService.getFeedStamp(window)).thenReturn(new EventFeedService.FeedStamp("\"feed-1\"", null));
+
+        mockMvc.perform(get("/events/feed").header("If-None-Match", "\"feed-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(eventFeedService, never()).writeFeed(any(), any());
+    }
+
+    @Test
+    void getChanges_shouldReturnChangesAndNextToken() throws Exception {
+        UUID deletedId = UUID.randomUUID();
+        when(eventChangeService.getChanges("token-1", 50)).thenReturn(new EventChangesResponse(
+                List.of(EventChangeDto.deleted(deletedId)), "token-2", false));
+
+        mockMvc.perform(get("/events/changes")
+                        .param("since", "token-1")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].id").value(deletedId.toString()))
+                .andExpect(jsonPath("$.changes[0].type").value("DELETED"))
+                .andExpect(jsonPath("$.nextToken").value("token-2"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getChanges_whenTokenExpired_shouldReturnGone() throws Exception {
+        when(eventChangeService.getChanges(eq("token-1"), isNull())).thenThrow(new ChangeTokenExpiredException());
+
+        mockMvc.perform(get("/events/changes").param("since", "token-1"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
+    @Test
+    void getDayCounts_shouldReturnCountsOfDaysWithEvents() throws Exception {
+        LocalDate from = LocalDate.parse("2025-01-01");
+        LocalDate to = LocalDate.parse("2026-01-01");
+        ZoneId zone = ZoneId.of("Europe/Kyiv");
+        when(eventDayCountService.getDayCounts(from, to, zone, true)).thenReturn(new EventDayCountsResponse(from, to, zone,
+                List.of(new EventDayCountsResponse.DayCount(LocalDate.parse("2025-10-23"), 4, 150L))));
+
+        mockMvc.perform(get("/events/day-counts")
+                        .param("from", "2025-01-01")
+                        .param("to", "2026-01-01")
+                        .param("zone", "Europe/Kyiv")
+                        .param("minutes", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.zone").value("Europe/Kyiv"))
+                .andExpect(jsonPath("$.days", hasSize(1)))
+                .andExpect(jsonPath("$.days[0].date").value("2025-10-23"))
+                .andExpect(jsonPath("$.days[0].count").value(4))
+                .andExpect(jsonPath("$.days[0].minutes").value(150));
+    }
+
+    @Test
+    void getWeekView_shouldReturnLaidOutEventsOfSevenDays() throws Exception {
+        LocalDate from = LocalDate.parse("2025-10-20");
+        ZoneId zone = ZoneId.of("Europe/Kyiv");
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        UUID eventId = UUID.randomUUID();
+        EventPreviewDto preview = new EventPreviewDto(eventId, "Team Sync", startAt, startAt.plusMinutes(30), "Room A");
+        when(eventLayoutService.getLayout(from, EventLayoutService.WEEK_DAYS, zone)).thenReturn(new EventLayoutResponse(
+                from, from.plusDays(7), zone, List.of(new EventLayoutResponse.Day(LocalDate.parse("2025-10-23"), 2,
+                        List.of(new EventLayoutResponse.PositionedEvent(preview, 1, 2, 1))))));
+
+        mockMvc.perform(get("/events/week-view")
+                        .param("from", "2025-10-20")
+                        .param("zone", "Europe/Kyiv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.to").value("2025-10-27"))
+                .andExpect(jsonPath("$.days[0].columns").value(2))
+                .andExpect(jsonPath("$.days[0].events[0].event.id").value(eventId.toString()))
+                .andExpect(jsonPath("$.days[0].events[0].column").value(1))
+                .andExpect(jsonPath("$.days[0].events[0].columns").value(2))
+                .andExpect(jsonPath("$.days[0].events[0].span").value(1));
+    }
+
+    @Test
+    void streamChanges_shouldSendEventsPushedToEmitter() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        when(eventStreamHub.subscribe(any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/events/stream")
+                        .param("from", "2025-10-01T00:00:00+03:00[Europe/Kyiv]")
+                        .param("to", "2025-11-01T00:00:00+02:00[Europe/Kyiv]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("resync").data("{}"));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string("event:resync\ndata:{}\n\n"));
+    }
+
+    @Test
+    void streamChanges_whenStreamIsFull_shouldReturnServiceUnavailable() throws Exception {
+        when(eventStreamHub.subscribe(any(ZonedDateTime.class), any(ZonedDateTime.class))).thenThrow(new StreamCapacityExceededException(6000));
+
+        mockMvc.perform(get("/events/stream")
+                        .param("from", "2025-10-01T00:00:00Z")
+                        .param("to", "2025-11-01T00:00:00Z"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    @Test
+    void importEvents_shouldStreamErrorsProgressAndSummary() throws Exception {
+        when(eventImportService.importEvents(any(Reader.class), eq(ZoneId.of("Europe/Kyiv")), any())).thenAnswer(invocation -> {
+            Reader source = invocation.getArgument(0);
+            assertThat(source.read()).isEqualTo('B');
+            Consumer<EventImportProgress> listener = invocation.getArgument(2);
+            listener.accept(EventImportProgress.error(12, 2, "uid-1", "Recurring events are not supported", 2, 0, 0, 1));
+            listener.accept(EventImportProgress.progress(40, 3, 2, 0, 1));
+            return EventImportProgress.summary(41, 3, 2, 0, 1);
+        });
+
+        String body = mockMvc.perform(post("/events/import")
+                        .param("zone", "Europe/Kyiv")
+                        .contentType("text/calendar")
+                        .content("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).satisfiesExactly(
+                line -> assertThat(line).contains("\"type\":\"ERROR\"", "\"line\":12", "\"index\":2", "uid-1"),
+                line -> assertThat(line).contains("\"type\":\"PROGRESS\"", "\"imported\":2"),
+                line -> assertThat(line).contains("\"type\":\"SUMMARY\"", "\"events\":3", "\"failed\":1"));
+    }
+
+    @Test
+    void createEvent_whenConflictIsRejected_shouldReturnConflict() throws Exception {
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+        UUID conflictingId = UUID.randomUUID();
+
+        when(eventService.createEvent(any(EventDto.class)))
+                .thenThrow(new EventConflictException(List.of(conflictingId)));
+
+        mockMvc.perform(post("/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.fieldErrors[0].rejectedValue").value(conflictingId.toString()));
+    }
+
+    @Test
+    void getConflicts_shouldReturnOverlappingEvents() throws Exception {
+        UUID conflictingId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+
+        when(eventConflictService.findConflicts(eq("Room A"), any(ZonedDateTime.class), any(ZonedDateTime.class), isNull()))
+                .thenReturn(List.of(new EventPreviewDto(conflictingId, "Planning", startAt, startAt.plusHours(1), "Room A")));
+
+        mockMvc.perform(get("/events/conflicts")
+                        .param("location", "Room A")
+                        .param("startAt", "2025-10-23T09:00:00+03:00[Europe/Kyiv]")
+                        .param("finishAt", "2025-10-23T10:00:00+03:00[Europe/Kyiv]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(conflictingId.toString()));
+    }
+
+    @Test
+    void applyBatch_shouldReturnPerOperationResults() throws Exception {
+        UUID createdId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+
+        List<EventBatchOperation> operations = List.of(
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null,
+                        new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null)),
+                new EventBatchOperation(EventBatchOperation.Type.DELETE, missingId, null)
+        );
+
+        when(eventBatchService.applyOperations(anyList())).thenReturn(new EventBatchResponse(List.of(
+                EventBatchItemResult.success(0, EventBatchOperation.Type.CREATE, createdId, null),
+                EventBatchItemResult.failure(1, EventBatchOperation.Type.DELETE, missingId,
+                        EventBatchItemResult.Status.NOT_FOUND, "Event not found with id: " + missingId)
+        ), 1, 1));
+
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(createdId.toString()))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+
+        verify(eventBatchService).applyOperations(anyList());
+    }
+}
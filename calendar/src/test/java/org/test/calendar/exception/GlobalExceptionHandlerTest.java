@@ -1,5 +1,7 @@
 package org.test.calendar.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -9,18 +11,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.test.calendar.jdbc.JdbcGateTimeoutException;
 import org.test.calendar.model.dto.ValidationErrorResponse;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -35,6 +43,9 @@ class GlobalExceptionHandlerTest {
     @Mock
     private HttpServletRequest request;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private static final String REQUEST_URI = "/api/events";
 
     @BeforeEach
@@ -183,6 +194,17 @@ class GlobalExceptionHandlerTest {
         assertThat(body.fieldErrors()).isEmpty();
     }
 
+    @Test
+    void handleIllegalArgument_shouldCountValidationFailure() {
+        exceptionHandler.handleIllegalArgument(new IllegalArgumentException("from must be before to"), request);
+        exceptionHandler.handleIllegalArgument(new IllegalArgumentException("Invalid pagination cursor"), request);
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.VALIDATION_FAILURES_METRIC)
+                .tag("reason", "argument")
+                .counter()
+                .count()).isEqualTo(2);
+    }
+
     @Test
     void handleGenericException_shouldReturnInternalServerError() {
         Exception exception = new RuntimeException("Unexpected error occurred");
@@ -218,6 +240,56 @@ class GlobalExceptionHandlerTest {
         assertThat(body.fieldErrors()).isEmpty();
     }
 
+    @Test
+    void handleEventNotFound_shouldReturnNotFound() {
+        UUID eventId = UUID.randomUUID();
+
+        ResponseEntity<ValidationErrorResponse> response =
+                exceptionHandler.handleEventNotFound(new EventNotFoundException(eventId), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(404);
+        assertThat(response.getBody().message()).isEqualTo("Event not found with id: " + eventId);
+        assertThat(response.getBody().path()).isEqualTo(REQUEST_URI);
+    }
+
+    @Test
+    void handleEventConflict_shouldReturnConflictWithConflictingIds() {
+        UUID conflictingId = UUID.randomUUID();
+
+        ResponseEntity<ValidationErrorResponse> response =
+                exceptionHandler.handleEventConflict(new EventConflictException(List.of(conflictingId)), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().fieldErrors())
+                .extracting(ValidationErrorResponse.FieldError::rejectedValue)
+                .containsExactly(conflictingId);
+    }
+
+    @Test
+    void handleConnectionUnavailable_whenJdbcGateTimedOut_shouldReturnServiceUnavailableWithRetryAfter() {
+        ResponseEntity<ValidationErrorResponse> response = exceptionHandler.handleConnectionUnavailable(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new JdbcGateTimeoutException("JDBC gate - no permit available within 5000ms")), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().path()).isEqualTo(REQUEST_URI);
+    }
+
+    @Test
+    void handleConnectionUnavailable_whenOtherConnectionFailure_shouldReturnInternalServerError() {
+        ResponseEntity<ValidationErrorResponse> response = exceptionHandler.handleConnectionUnavailable(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new SQLTransientConnectionException("HikariPool-1 - Connection is not available")), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+
     private ConstraintViolation<?> mockConstraintViolation(String propertyPath, Object invalidValue, String message) {
         ConstraintViolation<?> violation = mock(ConstraintViolation.class);
         Path path = mock(Path.class);
@@ -230,4 +302,3 @@ class GlobalExceptionHandlerTest {
         return violation;
     }
 }
-
@@ -0,0 +1,52 @@
+package org.test.calendar.ical;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ICalendarFormatTest {
+
+    @Test
+    void appendText_shouldEscapeAndFoldAfter75Octets() throws IOException {
+        String value = "Planning; budget, \\ review\n\u010Cesk\u00E1 \u00FA\u010Detn\u00ED polo\u017Eka ".repeat(4) + "\uD83D\uDCC5";
+        StringBuilder out = new StringBuilder();
+        ICalendarFormat.appendProperty(out, "BEGIN", "VEVENT");
+        ICalendarFormat.appendText(out, "DESCRIPTION", value);
+        ICalendarFormat.appendProperty(out, "END", "VEVENT");
+
+        assertThat(out.toString().split("\r\n")).allSatisfy(line ->
+                assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+
+        ICalendarEvent event = new ICalendarReader(new StringReader(out.toString())).next();
+        assertThat(event.text("DESCRIPTION")).isEqualTo(value);
+    }
+
+    @Test
+    void appendDateTime_shouldWriteUtc() {
+        StringBuilder out = new StringBuilder();
+        ICalendarFormat.appendDateTime(out, "DTSTART", Instant.parse("2025-10-23T06:30:00.123Z"));
+
+        assertThat(out).hasToString("DTSTART:20251023T063000Z\r\n");
+    }
+
+    @Test
+    void appendDateTimes_shouldWriteLocalTimeOfZoneWithTzid() {
+        List<Instant> values = List.of(Instant.parse("2025-10-23T06:30:00Z"), Instant.parse("2025-10-30T07:30:00Z"));
+        StringBuilder out = new StringBuilder();
+        ICalendarFormat.appendDateTimes(out, "EXDATE", ZoneId.of("Europe/Kyiv"), values);
+        ICalendarFormat.appendDateTimes(out, "EXDATE", ZoneOffset.ofHours(3), values.subList(0, 1));
+        ICalendarFormat.appendDateTimes(out, "EXDATE", ZoneOffset.ofHoursMinutes(5, 30), values.subList(0, 1));
+
+        assertThat(out).hasToString("EXDATE;TZID=Europe/Kyiv:20251023T093000,20251030T093000\r\n"
+                + "EXDATE;TZID=Etc/GMT-3:20251023T093000\r\n"
+                + "EXDATE:20251023T063000Z\r\n");
+    }
+}
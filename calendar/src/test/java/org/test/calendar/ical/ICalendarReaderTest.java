@@ -0,0 +1,133 @@
+package org.test.calendar.ical;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ICalendarReaderTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+    @Test
+    void next_shouldUnfoldLinesAndSkipNestedComponents() throws IOException {
+        ICalendarReader reader = reader("""
+                BEGIN:VCALENDAR\r
+                BEGIN:VTIMEZONE\r
+                TZID:Europe/Kyiv\r
+                END:VTIMEZONE\r
+                BEGIN:VEVENT\r
+                UID:event-1\r
+                SUMMARY:Team\r
+                  Sync\r
+                DESCRIPTION:Line one\\nline two\\, with comma\r
+                DTSTART;TZID="Europe/Kyiv":20251023T093000\r
+                DTEND;TZID=Europe/Kyiv:20251023T100000\r
+                LOCATION:Room A\r
+                BEGIN:VALARM\r
+                DESCRIPTION:Reminder\r
+                END:VALARM\r
+                END:VEVENT\r
+                END:VCALENDAR\r
+                """);
+
+        ICalendarEvent event = reader.next();
+
+        assertThat(event.line()).isEqualTo(5);
+        assertThat(event.error()).isNull();
+        assertThat(event.uid()).isEqualTo("event-1");
+        assertThat(event.text("SUMMARY")).isEqualTo("Team Sync");
+        assertThat(event.text("DESCRIPTION")).isEqualTo("Line one\nline two, with comma");
+        assertThat(event.text("LOCATION")).isEqualTo("Room A");
+        assertThat(event.startAt(ZoneOffset.UTC)).isEqualTo(ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]"));
+        assertThat(event.finishAt(ZoneOffset.UTC)).isEqualTo(ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]"));
+        assertThat(reader.next()).isNull();
+        assertThat(reader.getLineNumber()).isEqualTo(17);
+    }
+
+    @Test
+    void next_shouldResolveUtcFloatingTimesAndDurations() throws IOException {
+        ICalendarReader reader = reader("""
+                BEGIN:VEVENT
+                DTSTART:20251023T063000Z
+                DURATION:PT45M
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20251023T093000
+                DURATION:P1W
+                END:VEVENT
+                """);
+
+        ICalendarEvent utc = reader.next();
+        assertThat(utc.startAt(KYIV)).isEqualTo(ZonedDateTime.parse("2025-10-23T06:30:00Z"));
+        assertThat(utc.finishAt(KYIV)).isEqualTo(ZonedDateTime.parse("2025-10-23T07:15:00Z"));
+
+        ICalendarEvent floating = reader.next();
+        assertThat(floating.startAt(KYIV)).isEqualTo(ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]"));
+        assertThat(floating.finishAt(KYIV)).isEqualTo(ZonedDateTime.parse("2025-10-30T09:30:00+02:00[Europe/Kyiv]"));
+    }
+
+    @Test
+    void startAt_whenAllDayOrUnknownZone_shouldFailWithLine() throws IOException {
+        ICalendarReader reader = reader("""
+                BEGIN:VEVENT
+                DTSTART;VALUE=DATE:20251023
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART;TZID=Pacific Standard Time:20251023T093000
+                END:VEVENT
+                """);
+
+        ICalendarEvent allDay = reader.next();
+        assertThatExceptionOfType(ICalendarException.class)
+                .isThrownBy(() -> allDay.startAt(KYIV))
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(2))
+                .withMessageContaining("All-day");
+
+        ICalendarEvent unknownZone = reader.next();
+        assertThatExceptionOfType(ICalendarException.class)
+                .isThrownBy(() -> unknownZone.startAt(KYIV))
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(5))
+                .withMessageContaining("Pacific Standard Time");
+    }
+
+    @Test
+    void next_whenEventIsMalformed_shouldAttachErrorAndContinue() throws IOException {
+        String overlong = "X".repeat(ICalendarReader.MAX_LINE_LENGTH + 1);
+        ICalendarReader reader = reader("""
+                BEGIN:VEVENT
+                SUMMARY without colon
+                END:VEVENT
+                BEGIN:VEVENT
+                DESCRIPTION:%s
+                END:VEVENT
+                BEGIN:VEVENT
+                UID:last
+                SUMMARY:Unclosed
+                """.formatted(overlong));
+
+        assertThat(reader.next().error())
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(2))
+                .hasMessageContaining("Malformed");
+        assertThat(reader.next().error())
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(5))
+                .hasMessageContaining("longer than");
+
+        ICalendarEvent unclosed = reader.next();
+        assertThat(unclosed.uid()).isEqualTo("last");
+        assertThat(unclosed.error())
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(7))
+                .hasMessageContaining("END:VEVENT");
+        assertThat(reader.next()).isNull();
+    }
+
+    private static ICalendarReader reader(String content) {
+        return new ICalendarReader(new StringReader(content));
+    }
+}
@@ -0,0 +1,78 @@
+package org.test.calendar.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DeadlockRetryAspectTest {
+
+    @Test
+    void retry_whenDeadlockVictim_shouldRunAgain() {
+        Writer writer = proxy(new Writer(2, deadlock()));
+
+        assertThat(writer.write()).isEqualTo("written");
+        assertThat(writer.attempts()).isEqualTo(3);
+    }
+
+    @Test
+    void retry_whenDeadlockPersists_shouldGiveUpAfterMaxAttempts() {
+        Writer writer = proxy(new Writer(Integer.MAX_VALUE, deadlock()));
+
+        assertThatExceptionOfType(CannotAcquireLockException.class).isThrownBy(writer::write);
+        assertThat(writer.attempts()).isEqualTo(DeadlockRetryAspect.MAX_ATTEMPTS);
+    }
+
+    @Test
+    void retry_whenLockWaitTimedOut_shouldNotRunAgain() {
+        // MySQL error 1205 is not a deadlock: the statement waited innodb_lock_wait_timeout already
+        Writer writer = proxy(new Writer(1, new PessimisticLockingFailureException("Lock wait timeout",
+                new SQLException("Lock wait timeout exceeded", "HY000", 1205))));
+
+        assertThatExceptionOfType(PessimisticLockingFailureException.class).isThrownBy(writer::write);
+        assertThat(writer.attempts()).isEqualTo(1);
+    }
+
+    private static CannotAcquireLockException deadlock() {
+        return new CannotAcquireLockException("Deadlock",
+                new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213));
+    }
+
+    private static Writer proxy(Writer target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new DeadlockRetryAspect());
+        return factory.getProxy();
+    }
+
+    static class Writer {
+
+        private final int failures;
+        private final RuntimeException failure;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Writer(int failures, RuntimeException failure) {
+            this.failures = failures;
+            this.failure = failure;
+        }
+
+        @RetryOnDeadlock
+        public String write() {
+            if (attempts.incrementAndGet() <= failures) {
+                throw failure;
+            }
+            return "written";
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.test.calendar.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GatedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Test
+    void getConnection_whenAllPermitsTaken_shouldTimeOutAndCount() throws SQLException {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        GatedDataSource dataSource = new GatedDataSource(pool, 1, Duration.ofMillis(10));
+
+        dataSource.getConnection();
+
+        assertThatExceptionOfType(JdbcGateTimeoutException.class)
+                .isThrownBy(dataSource::getConnection)
+                .withMessageContaining("1 permits");
+        assertThat(dataSource.getTimeouts()).isEqualTo(1);
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void close_shouldReturnPermitOnlyOnce() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+        GatedDataSource dataSource = new GatedDataSource(pool, 2, Duration.ofMillis(10));
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        verify(target, times(2)).close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void getConnection_whenPoolFails_shouldReturnPermit() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        GatedDataSource dataSource = new GatedDataSource(pool, 1, Duration.ofMillis(10));
+
+        assertThatExceptionOfType(SQLException.class).isThrownBy(dataSource::getConnection);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void gatedConnection_shouldDelegateOtherCalls() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(target.getAutoCommit()).thenReturn(true);
+        when(pool.getConnection()).thenReturn(target);
+        GatedDataSource dataSource = new GatedDataSource(pool, 1, Duration.ofMillis(10));
+
+        assertThat(dataSource.getConnection().getAutoCommit()).isTrue();
+        assertThat(dataSource.unwrap(GatedDataSource.class)).isSameAs(dataSource);
+    }
+}
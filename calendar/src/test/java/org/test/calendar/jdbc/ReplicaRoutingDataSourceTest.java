@@ -0,0 +1,166 @@
+package org.test.calendar.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-23T09:30:00Z");
+
+    private EmbeddedDatabase primaryDatabase;
+    private EmbeddedDatabase replicaDatabase;
+    private FlakyDataSource replica;
+    private ReplicaRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primaryDatabase = database("primary");
+        replicaDatabase = database("replica");
+        replica = new FlakyDataSource(replicaDatabase);
+        router = new ReplicaRouter(primaryDatabase, replica, Duration.ofSeconds(5));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDatabase);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(replica, primaryDatabase, router));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouter.unpin();
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    void getConnection_whenReplicaIsCurrent_shouldServeReadOnlyTransactionsFromReplica() {
+        recordChange(primaryDatabase, NOW);
+        recordChange(replicaDatabase, NOW);
+
+        router.checkReplica();
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> whoAmI())).isEqualTo("primary");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.REPLICA)).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_whenReplicaIsBehindOrNotChecked_shouldServeReadsFromPrimary() {
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.UNAVAILABLE)).isEqualTo(1);
+
+        recordChange(primaryDatabase, NOW);
+        recordChange(replicaDatabase, NOW.minusSeconds(30));
+        router.checkReplica();
+
+        assertThat(router.getLag()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.LAGGING)).isEqualTo(1);
+
+        recordChange(replicaDatabase, NOW);
+        router.checkReplica();
+
+        assertThat(router.getLag()).isZero();
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void getConnection_whenReplicaFails_shouldFallBackToPrimaryUntilNextCheck() {
+        router.checkReplica();
+        replica.down = true;
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+        assertThat(router.isAvailable()).isFalse();
+        router.checkReplica();
+        assertThat(router.isAvailable()).isFalse();
+
+        replica.down = false;
+        router.checkReplica();
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.UNAVAILABLE)).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_whenPinnedForReadYourWrites_shouldServeReadsFromPrimary() {
+        router.checkReplica();
+
+        ReplicaRouter.pinToPrimary();
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+        ReplicaRouter.unpin();
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.READ_YOUR_WRITES)).isEqualTo(1);
+    }
+
+    @Test
+    void onPrimary_insideReadOnlyTransaction_shouldServeItsReadsFromPrimary() {
+        router.checkReplica();
+
+        assertThat(readOnly.execute(status -> ReplicaRouter.onPrimary(this::whoAmI))).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.PRIMARY_ONLY)).isEqualTo(1);
+
+        ReplicaRouter.pinToPrimary();
+        assertThat(readOnly.execute(status -> ReplicaRouter.onPrimary(this::whoAmI))).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.READ_YOUR_WRITES)).isEqualTo(2);
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("select name from whoami", String.class);
+    }
+
+    private static void recordChange(EmbeddedDatabase database, Instant changedAt) {
+        new JdbcTemplate(database).update("insert into event_changes (changed_at) values (?)", Timestamp.from(changedAt));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table whoami (name varchar(16))");
+        template.execute("create table event_changes (seq bigint auto_increment primary key, changed_at timestamp(3))");
+        template.update("insert into whoami (name) values (?)", name);
+        return database;
+    }
+
+    private static final class FlakyDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private FlakyDataSource(EmbeddedDatabase target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLTransientConnectionException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
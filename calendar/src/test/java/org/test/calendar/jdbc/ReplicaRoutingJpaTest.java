@@ -0,0 +1,185 @@
+package org.test.calendar.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.dto.PaginationRequest;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.service.EventConflictService;
+import org.test.calendar.service.EventService;
+import org.test.calendar.stream.EventStreamHub;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Routing through the production stack: {@code JpaTransactionManager} and Hibernate over a
+ * {@link LazyConnectionDataSourceProxy}, driven by {@link EventService}. Both pools point at one database, so the
+ * replica is never behind; where a read went is told by the routes the {@link ReplicaRouter} counted.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EventService.class, EventConflictService.class, EventMapperImpl.class, EventPreviewCache.class,
+        SimpleMeterRegistry.class, ReplicaRoutingJpaTest.RoutingConfiguration.class})
+@EnableConfigurationProperties({EventPreviewCacheProperties.class, EventProperties.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "calendar.cache.previews.enabled=false"
+})
+class ReplicaRoutingJpaTest {
+
+    private static final ZonedDateTime START_AT = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ReplicaRouter router;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private EventStreamHub streamHub;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+        router.checkReplica();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((AbstractPlatformTransactionManager) transactionManager).setTransactionExecutionListeners(List.of());
+        RequestContextHolder.resetRequestAttributes();
+        ReplicaRouter.unpin();
+    }
+
+    @Test
+    void eventService_shouldServeReadOnlyCallsFromReplicaAndWritesFromPrimary() {
+        long routed = router.getRoutes(ReplicaRouter.Reason.REPLICA);
+
+        eventService.createEvent(event("Planning", START_AT, Duration.ofMinutes(30)));
+        assertThat(router.getRoutes(ReplicaRouter.Reason.REPLICA)).isEqualTo(routed);
+
+        assertThat(eventService.getEventPreviews(START_AT.minusDays(1), START_AT.plusDays(1),
+                new PaginationRequest(0, 10, null, false)).content())
+                .extracting(EventPreviewDto::title)
+                .containsExactly("Planning");
+        assertThat(router.getRoutes(ReplicaRouter.Reason.REPLICA)).isEqualTo(routed + 1);
+    }
+
+    @Test
+    void eventService_shouldFillSharedCachesFromPrimary() {
+        EventDto created = eventService.createEvent(event("Planning", START_AT, Duration.ofMinutes(30)));
+        long replicaRoutes = router.getRoutes(ReplicaRouter.Reason.REPLICA);
+        long primaryRoutes = router.getRoutes(ReplicaRouter.Reason.PRIMARY_ONLY);
+
+        assertThat(eventService.getEventById(created.id()).title()).isEqualTo("Planning");
+        assertThat(eventService.getEventPreviewsForMonth(START_AT))
+                .extracting(EventPreviewDto::title)
+                .containsExactly("Planning");
+        eventService.getEventPreviewsForMonthETag(START_AT);
+
+        assertThat(router.getRoutes(ReplicaRouter.Reason.PRIMARY_ONLY)).isEqualTo(primaryRoutes + 3);
+        assertThat(router.getRoutes(ReplicaRouter.Reason.REPLICA)).isEqualTo(replicaRoutes);
+    }
+
+    @Test
+    void eventService_whenPinnedToPrimary_shouldServeReadOnlyCallsFromPrimary() {
+        EventDto created = eventService.createEvent(event("Planning", START_AT, Duration.ofMinutes(30)));
+        long routed = router.getRoutes(ReplicaRouter.Reason.READ_YOUR_WRITES);
+
+        ReplicaRouter.pinToPrimary();
+        eventService.getEventById(created.id());
+
+        assertThat(router.getRoutes(ReplicaRouter.Reason.READ_YOUR_WRITES)).isEqualTo(routed + 1);
+    }
+
+    @Test
+    void readYourWritesInterceptor_shouldSetCookieOnlyAfterCommittedWrite() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(5), Clock.systemUTC());
+        ((AbstractPlatformTransactionManager) transactionManager).setTransactionExecutionListeners(List.of(interceptor));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("POST", "/events"), response));
+
+        assertThatThrownBy(() -> eventService.createEvent(event("Offsite", START_AT, Duration.ofHours(26))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).isEmpty();
+
+        EventDto created = eventService.createEvent(event("Planning", START_AT, Duration.ofMinutes(30)));
+        eventService.getEventById(created.id());
+        eventService.createEvent(event("Retro", START_AT.plusHours(2), Duration.ofMinutes(30)));
+
+        assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).singleElement()
+                .asString()
+                .startsWith(ReadYourWritesInterceptor.COOKIE_NAME + "=");
+    }
+
+    private static EventDto event(String title, ZonedDateTime startAt, Duration duration) {
+        return new EventDto(null, title, "Description", startAt, startAt.plus(duration), null, null, null);
+    }
+
+    @TestConfiguration
+    static class RoutingConfiguration {
+
+        @Bean(destroyMethod = "shutdown")
+        EmbeddedDatabase database() {
+            return new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+        }
+
+        @Bean
+        ReplicaRouter replicaRouter(EmbeddedDatabase database) {
+            return new ReplicaRouter(database, database, Duration.ofSeconds(5));
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(EmbeddedDatabase database, ReplicaRouter replicaRouter) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(database);
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(database, database, replicaRouter));
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.test.calendar.layout;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnLayoutTest {
+
+    private final ColumnLayout layout = new ColumnLayout();
+
+    @Test
+    void layout_shouldReuseColumnThatFreedUpAndStartNewClusterAfterGap() {
+        int columns = layout.layout(new long[]{0, 30, 60, 200}, new long[]{60, 90, 120, 260}, 4);
+
+        assertThat(columns).isEqualTo(2);
+        assertThat(placements(4)).containsExactly(
+                new int[]{0, 2, 1},
+                new int[]{1, 2, 1},
+                new int[]{0, 2, 1},
+                new int[]{0, 1, 1});
+    }
+
+    @Test
+    void layout_shouldSpanOverColumnsThatStayFree() {
+        int columns = layout.layout(new long[]{0, 0, 0, 60}, new long[]{120, 30, 30, 90}, 4);
+
+        assertThat(columns).isEqualTo(3);
+        // The last interval takes the leftmost freed column and spans the one to its right
+        assertThat(placements(4)).containsExactly(
+                new int[]{0, 3, 1},
+                new int[]{1, 3, 1},
+                new int[]{2, 3, 1},
+                new int[]{1, 3, 2});
+    }
+
+    @Test
+    void layout_withManyIntervals_shouldNeverShareOrSpanOverBusyColumn() {
+        Random random = new Random(42);
+        int count = 2000;
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = random.nextInt(24 * 60);
+        }
+        Arrays.sort(starts);
+        for (int i = 0; i < count; i++) {
+            ends[i] = starts[i] + 15 + random.nextInt(120);
+        }
+
+        int columns = layout.layout(starts, ends, count);
+
+        int maxDepth = 0;
+        for (int i = 0; i < count; i++) {
+            int depth = 1;
+            for (int j = i + 1; j < count && starts[j] < ends[i]; j++) {
+                int left = Math.min(layout.column(i), layout.column(j));
+                int right = Math.max(layout.column(i), layout.column(j));
+                int leftSpan = layout.column(i) < layout.column(j) ? layout.span(i) : layout.span(j);
+                assertThat(left).as("intervals %d and %d share a column", i, j).isNotEqualTo(right);
+                assertThat(left + leftSpan).as("interval spans over %s", j).isLessThanOrEqualTo(right);
+                assertThat(layout.columns(j)).isEqualTo(layout.columns(i));
+            }
+            for (int j = 0; j < i; j++) {
+                if (ends[j] > starts[i]) {
+                    depth++;
+                }
+            }
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        assertThat(columns).isEqualTo(maxDepth);
+    }
+
+    @Test
+    void layout_whenIntervalsAreInvalid_shouldThrowIllegalArgumentException() {
+        assertThat(layout.layout(new long[0], new long[0], 0)).isZero();
+        assertThatThrownBy(() -> layout.layout(new long[]{10, 0}, new long[]{20, 5}, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Intervals must be sorted by start");
+        assertThatThrownBy(() -> layout.layout(new long[]{10}, new long[]{5}, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Interval 0 ends before it starts");
+    }
+
+    private int[][] placements(int count) {
+        int[][] placements = new int[count][];
+        for (int i = 0; i < count; i++) {
+            placements[i] = new int[]{layout.column(i), layout.columns(i), layout.span(i)};
+        }
+        return placements;
+    }
+}
@@ -0,0 +1,64 @@
+package org.test.calendar.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcStatementCounterTest {
+
+    private final JdbcStatementCounter counter = new JdbcStatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void inspect_shouldCountOnlyForTheBoundRequest() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        JdbcStatementCounter.start(first);
+        JdbcStatementCounter.start(second);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(first));
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(second));
+        counter.inspect("select 3");
+
+        assertThat(JdbcStatementCounter.current(first)).isEqualTo(2);
+        assertThat(JdbcStatementCounter.current(second)).isEqualTo(1);
+    }
+
+    @Test
+    void start_whenAlreadyCounting_shouldKeepCount() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        JdbcStatementCounter.start(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        counter.inspect("select 1");
+
+        // An async dispatch of the same request runs the interceptor again
+        JdbcStatementCounter.start(request);
+        counter.inspect("select 2");
+
+        assertThat(JdbcStatementCounter.current(request)).isEqualTo(2);
+    }
+
+    @Test
+    void inspect_outsideRequest_shouldNotCount() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        JdbcStatementCounter.start(request);
+
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+        assertThat(JdbcStatementCounter.current(request)).isZero();
+
+        JdbcStatementCounter.clear(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        counter.inspect("select 2");
+        assertThat(JdbcStatementCounter.current(request)).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package org.test.calendar.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void parse_whenRuleUsesSupportedParts_shouldReadThemInAnyCase() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=monthly;interval=2;byday=2TU,-1fr;until=20261231T235959Z;wkst=MO");
+
+        assertThat(rule.frequency()).isEqualTo(RecurrenceRule.Frequency.MONTHLY);
+        assertThat(rule.interval()).isEqualTo(2);
+        assertThat(rule.count()).isZero();
+        assertThat(rule.until()).isEqualTo(Instant.parse("2026-12-31T23:59:59Z"));
+        assertThat(rule.byDay()).containsExactly(
+                new RecurrenceRule.WeekdayNum(2, DayOfWeek.TUESDAY),
+                new RecurrenceRule.WeekdayNum(-1, DayOfWeek.FRIDAY));
+    }
+
+    @Test
+    void toString_shouldRenderCanonicalRuleThatParsesBack() {
+        RecurrenceRule rule = RecurrenceRule.parse("BYDAY=MO,WE;COUNT=10;FREQ=WEEKLY;INTERVAL=1");
+
+        assertThat(rule).hasToString("FREQ=WEEKLY;COUNT=10;BYDAY=MO,WE");
+        assertThat(RecurrenceRule.parse(rule.toString())).isEqualTo(rule);
+    }
+
+    @Test
+    void parse_whenRuleIsOutsideSupportedSubset_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("FREQ must be");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=15"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported recurrence rule part: BYMONTHDAY");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=2TU"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("only supported with FREQ=MONTHLY");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20251231"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UNTIL must be a UTC date-time");
+    }
+
+    @Test
+    void parse_whenRuleIsMalformed_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Recurrence rule requires FREQ");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20251231T000000Z"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("COUNT and UNTIL must not be combined");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;FREQ=WEEKLY"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("repeated");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INTERVAL must be a positive number");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=" + (RecurrenceRule.MAX_INTERVAL + 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("INTERVAL must be between");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=0MO"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed BYDAY entry: 0MO");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed recurrence rule part");
+    }
+
+    @Test
+    void weekdayNum_shouldRenderOrdinalAndDayCode() {
+        assertThat(List.of(
+                new RecurrenceRule.WeekdayNum(0, DayOfWeek.SUNDAY),
+                new RecurrenceRule.WeekdayNum(-2, DayOfWeek.MONDAY)))
+                .extracting(RecurrenceRule.WeekdayNum::toString)
+                .containsExactly("SU", "-2MO");
+    }
+}
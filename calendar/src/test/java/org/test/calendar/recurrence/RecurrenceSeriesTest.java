@@ -0,0 +1,140 @@
+package org.test.calendar.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceSeriesTest {
+
+    private static final ZonedDateTime START_AT = ZonedDateTime.parse("2025-10-24T09:30:00+03:00[Europe/Kyiv]");
+    private static final ZonedDateTime FINISH_AT = ZonedDateTime.parse("2025-10-24T10:00:00+03:00[Europe/Kyiv]");
+
+    @Test
+    void iterator_withMonthlyOrdinalWeekdays_shouldFollowEachMonth() {
+        assertThat(days("FREQ=MONTHLY;BYDAY=2TU,-1FR", "2025-10-14", 6)).containsExactly(
+                "2025-10-14", "2025-10-31", "2025-11-11", "2025-11-28", "2025-12-09", "2025-12-26");
+    }
+
+    @Test
+    void iterator_withMonthlyDayMissingInSomeMonths_shouldSkipThoseMonths() {
+        assertThat(days("FREQ=MONTHLY", "2025-01-31", 4))
+                .containsExactly("2025-01-31", "2025-03-31", "2025-05-31", "2025-07-31");
+    }
+
+    @Test
+    void iterator_withWeeklyInterval_shouldRepeatWeekdaysEveryOtherWeek() {
+        assertThat(days("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR", "2025-10-20", 6)).containsExactly(
+                "2025-10-20", "2025-10-24", "2025-11-03", "2025-11-07", "2025-11-17", "2025-11-21");
+    }
+
+    @Test
+    void iterator_withDailyWeekdays_shouldSkipWeekends() {
+        assertThat(days("FREQ=DAILY;BYDAY=MO,TU,WE,TH,FR", "2025-10-23", 6)).containsExactly(
+                "2025-10-23", "2025-10-24", "2025-10-27", "2025-10-28", "2025-10-29", "2025-10-30");
+    }
+
+    @Test
+    void iterator_withCountAndException_shouldCountExceptionAsOccurrence() {
+        OccurrenceIterator iterator = OccurrenceIterator.of(RecurrenceRule.parse("FREQ=DAILY;COUNT=5"),
+                LocalDate.parse("2025-10-23"), OccurrenceIterator.MAX_DAY,
+                new long[]{LocalDate.parse("2025-10-25").toEpochDay()});
+
+        assertThat(collect(iterator, 10)).containsExactly("2025-10-23", "2025-10-24", "2025-10-26", "2025-10-27");
+    }
+
+    @Test
+    void skipTo_shouldMatchIteratingFromFirstOccurrence() {
+        String[] rules = {
+                "FREQ=DAILY;INTERVAL=3;COUNT=500",
+                "FREQ=WEEKLY;BYDAY=TU,TH;COUNT=300",
+                "FREQ=MONTHLY;INTERVAL=2;BYDAY=1MO,-1SU;COUNT=40",
+                "FREQ=MONTHLY;COUNT=60"
+        };
+        LocalDate firstDay = LocalDate.parse("2020-01-02");
+        long[] exceptions = {LocalDate.parse("2021-03-04").toEpochDay()};
+
+        for (String rule : rules) {
+            RecurrenceRule parsed = RecurrenceRule.parse(rule);
+            List<Long> all = new ArrayList<>();
+            OccurrenceIterator naive = OccurrenceIterator.of(parsed, firstDay, OccurrenceIterator.MAX_DAY, exceptions);
+            for (long day = naive.next(); day != OccurrenceIterator.DONE; day = naive.next()) {
+                all.add(day);
+            }
+
+            for (long target = firstDay.toEpochDay(); target <= all.getLast() + 40; target += 17) {
+                long expected = OccurrenceIterator.DONE;
+                for (long day : all) {
+                    if (day >= target) {
+                        expected = day;
+                        break;
+                    }
+                }
+                OccurrenceIterator skipping = OccurrenceIterator.of(parsed, firstDay, OccurrenceIterator.MAX_DAY, exceptions);
+                skipping.skipTo(target);
+                assertThat(skipping.next()).as("%s skipped to %s", rule, LocalDate.ofEpochDay(target)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void forEachOccurrence_acrossDaylightSavingChange_shouldKeepWallClockTime() {
+        RecurrenceSeries series = RecurrenceSeries.of("FREQ=DAILY;UNTIL=20251101T000000Z",
+                START_AT, FINISH_AT, List.of(LocalDate.parse("2025-10-28")));
+        List<String> occurrences = new ArrayList<>();
+
+        series.forEachOccurrence(Instant.parse("2025-10-20T00:00:00Z"), Instant.parse("2025-12-01T00:00:00Z"),
+                (startAt, finishAt) -> occurrences.add(startAt + "/" + finishAt));
+
+        // The first occurrence is the event row itself and is not visited
+        assertThat(occurrences).containsExactly(
+                "2025-10-25T06:30:00Z/2025-10-25T07:00:00Z",
+                "2025-10-26T07:30:00Z/2025-10-26T08:00:00Z",
+                "2025-10-27T07:30:00Z/2025-10-27T08:00:00Z",
+                "2025-10-29T07:30:00Z/2025-10-29T08:00:00Z",
+                "2025-10-30T07:30:00Z/2025-10-30T08:00:00Z",
+                "2025-10-31T07:30:00Z/2025-10-31T08:00:00Z");
+        assertThat(series.countOccurrences(Instant.parse("2025-10-26T00:00:00Z"), Instant.parse("2025-10-30T00:00:00Z")))
+                .isEqualTo(3);
+        assertThat(series.lastStartAt()).isEqualTo(Instant.parse("2025-11-01T00:00:00Z"));
+        assertThat(series.exceptions()).isEqualTo("2025-10-28");
+    }
+
+    @Test
+    void lastStartAt_shouldDependOnCountAndUntil() {
+        assertThat(RecurrenceSeries.of("FREQ=WEEKLY;COUNT=3", START_AT, FINISH_AT, null).lastStartAt())
+                .isEqualTo(Instant.parse("2025-11-07T07:30:00Z"));
+        assertThat(RecurrenceSeries.of("FREQ=WEEKLY", START_AT, FINISH_AT, null).lastStartAt())
+                .isEqualTo(RecurrenceSeries.UNBOUNDED_END);
+    }
+
+    @Test
+    void of_whenStartIsNotFirstOccurrence_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> RecurrenceSeries.of("FREQ=WEEKLY;BYDAY=MO", START_AT, FINISH_AT, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("startAt must be the first occurrence of the recurrence rule");
+        assertThatThrownBy(() -> RecurrenceSeries.of("FREQ=DAILY", START_AT, FINISH_AT,
+                List.of(LocalDate.parse("2025-10-24"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Exception dates must be after the first occurrence");
+    }
+
+    private static List<String> days(String rule, String firstDay, int limit) {
+        return collect(OccurrenceIterator.of(RecurrenceRule.parse(rule), LocalDate.parse(firstDay),
+                OccurrenceIterator.MAX_DAY, new long[0]), limit);
+    }
+
+    private static List<String> collect(OccurrenceIterator iterator, int limit) {
+        List<String> days = new ArrayList<>();
+        for (long day = iterator.next(); day != OccurrenceIterator.DONE && days.size() < limit; day = iterator.next()) {
+            days.add(LocalDate.ofEpochDay(day).toString());
+        }
+        return days;
+    }
+}
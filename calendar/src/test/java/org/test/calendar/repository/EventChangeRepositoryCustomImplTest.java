@@ -0,0 +1,80 @@
+package org.test.calendar.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.test.calendar.config.EventChangeProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeRepositoryCustomImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private ObjectProvider<EventChangeProperties> properties;
+
+    private EventChangeRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(properties.getIfAvailable()).thenReturn(new EventChangeProperties(
+                Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofDays(30), 100, 1000));
+        repository = new EventChangeRepositoryCustomImpl(entityManager, properties);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void recordChange_whenCommittingWithinTimeout_shouldFlushAndCommit() {
+        repository.recordChange(UUID.randomUUID(), false, Instant.now());
+
+        assertThatCode(this::beforeCommit).doesNotThrowAnyException();
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void recordChange_whenCommittingAfterTimeout_shouldFailTheCommit() {
+        repository.recordChanges(List.of(UUID.randomUUID()), true, Instant.now().minusSeconds(4));
+
+        assertThatThrownBy(this::beforeCommit)
+                .isInstanceOf(TransactionTimedOutException.class)
+                .hasMessageContaining("PT3S");
+        verify(entityManager).flush();
+    }
+
+    private void beforeCommit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+    }
+}
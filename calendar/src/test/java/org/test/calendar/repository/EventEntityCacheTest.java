@@ -0,0 +1,106 @@
+package org.test.calendar.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.test.calendar.config.EntityCacheConfiguration;
+import org.test.calendar.config.EntityCacheProperties;
+import org.test.calendar.model.entity.EventEntity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test-managed transaction: the read-write cache strategy only publishes an entry once the
+ * writing transaction has committed, and every repository call here commits on its own.
+ */
+@DataJpaTest
+@Import(EntityCacheConfiguration.class)
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class EventEntityCacheTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        id = eventRepository.save(new EventEntity(null, "Planning", "Sprint planning",
+                Instant.parse("2025-10-23T09:00:00Z"), Instant.parse("2025-10-23T10:00:00Z"), "Room A")).getId();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void findById_whenRepeated_shouldNotIssueSql() {
+        assertThat(eventRepository.findById(id)).isPresent();
+        assertThat(eventRepository.findById(id)).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findById_afterUpdate_shouldReturnNewStateFromCache() {
+        EventEntity stored = eventRepository.findById(id).orElseThrow();
+        eventRepository.save(stored.withTitle("Retro"));
+        statistics.clear();
+
+        EventEntity updated = eventRepository.findById(id).orElseThrow();
+
+        assertThat(updated.getTitle()).isEqualTo("Retro");
+        assertThat(updated.getVersion()).isEqualTo(stored.getVersion() + 1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findById_afterBulkPatch_shouldReloadFromDatabase() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventRepository.patchEvent(id, "Retro", null, null, null, null));
+        statistics.clear();
+
+        assertThat(eventRepository.findById(id)).get().extracting(EventEntity::getTitle).isEqualTo("Retro");
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_afterDelete_shouldReturnEmpty() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventRepository.deleteEventById(id));
+
+        assertThat(eventRepository.findById(id)).isEmpty();
+    }
+}
@@ -2,15 +2,28 @@ package org.test.calendar.repository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.TestPropertySource;
 import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventKeyProjection;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventRangeStamp;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.recurrence.RecurrenceSeries;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @TestPropertySource(properties = {
@@ -22,6 +35,9 @@ class EventRepositoryTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         eventRepository.deleteAll();
@@ -138,5 +154,216 @@ class EventRepositoryTest {
         assertThat(events).extracting(EventEntity::getTitle)
                 .containsExactlyInAnyOrder("Morning Meeting", "Lunch Break");
     }
-}
 
+    @Test
+    void findPreviewsByStartAtBetween_shouldReturnPreviewsInOctoberRange() {
+        Instant startOfOctober = Instant.parse("2025-10-01T00:00:00Z");
+        Instant endOfOctober = Instant.parse("2025-10-31T23:59:59Z");
+
+        List<EventPreviewProjection> previews = eventRepository.findPreviewsByStartAtBetween(startOfOctober, endOfOctober);
+
+        assertThat(previews).hasSize(3);
+        assertThat(previews).extracting(EventPreviewProjection::title)
+                .containsExactlyInAnyOrder("Morning Meeting", "Lunch Break", "Project Review");
+    }
+
+    @Test
+    void findPreviewsByStartAtBetween_shouldMapAllPreviewColumns() {
+        Instant startOfNovember = Instant.parse("2025-11-01T00:00:00Z");
+        Instant endOfNovember = Instant.parse("2025-11-30T23:59:59Z");
+
+        List<EventPreviewProjection> previews = eventRepository.findPreviewsByStartAtBetween(startOfNovember, endOfNovember);
+
+        assertThat(previews).hasSize(1);
+
+        EventPreviewProjection preview = previews.getFirst();
+        assertThat(preview.id()).isNotNull();
+        assertThat(preview.title()).isEqualTo("Training Session");
+        assertThat(preview.startAt()).isEqualTo(Instant.parse("2025-11-05T10:00:00Z"));
+        assertThat(preview.finishAt()).isEqualTo(Instant.parse("2025-11-05T12:00:00Z"));
+        assertThat(preview.location()).isEqualTo("Training Room");
+    }
+
+    @Test
+    void findPreviewPageAfter_shouldWalkAllEventsInStartAtOrderWithoutGapsOrDuplicates() {
+        Instant sameStart = Instant.parse("2025-10-15T08:00:00Z");
+        eventRepository.saveAll(List.of(
+                new EventEntity(null, "Parallel A", "Same start", sameStart, sameStart.plusSeconds(600), null),
+                new EventEntity(null, "Parallel B", "Same start", sameStart, sameStart.plusSeconds(600), null)
+        ));
+
+        Instant from = Instant.parse("2025-10-01T00:00:00Z");
+        Instant to = Instant.parse("2025-11-01T00:00:00Z");
+
+        List<EventPreviewProjection> walked = new ArrayList<>();
+        List<EventPreviewProjection> page = eventRepository.findPreviewPage(from, to, Limit.of(2));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            EventPreviewProjection last = page.getLast();
+            page = eventRepository.findPreviewPageAfter(from, to, last.startAt(), last.id(), Limit.of(2));
+        }
+
+        assertThat(walked).extracting(EventPreviewProjection::title)
+                .containsExactlyInAnyOrder("Morning Meeting", "Parallel A", "Parallel B", "Lunch Break", "Project Review");
+        assertThat(walked).extracting(EventPreviewProjection::startAt).isSorted();
+        assertThat(eventRepository.countByStartAtGreaterThanEqualAndStartAtLessThan(from, to)).isEqualTo(5);
+    }
+
+    @Test
+    void deleteEventsByStartAtInRange_shouldDeleteOnlyEventsStartingInRange() {
+        int deleted = eventRepository.deleteEventsByStartAtInRange(
+                Instant.parse("2025-10-15T00:00:00Z"),
+                Instant.parse("2025-10-20T14:00:00Z"));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("Project Review", "Training Session", "Team Building");
+    }
+
+    @Test
+    void deleteEventById_shouldReturnAffectedRowCount() {
+        EventEntity event = eventRepository.findAll().getFirst();
+
+        assertThat(eventRepository.deleteEventById(event.getId())).isEqualTo(1);
+        assertThat(eventRepository.deleteEventById(event.getId())).isZero();
+    }
+
+    @Test
+    void lockKeysByIdIn_shouldReturnOnlyExistingEvents() {
+        List<EventEntity> events = eventRepository.findAll().subList(0, 2);
+        UUID missingId = UUID.randomUUID();
+
+        List<EventKeyProjection> keys = eventRepository.lockKeysByIdIn(
+                List.of(events.get(0).getId(), missingId, events.get(1).getId()));
+
+        assertThat(keys).extracting(EventKeyProjection::id, EventKeyProjection::startAt)
+                .containsExactlyInAnyOrder(
+                        tuple(events.get(0).getId(), events.get(0).getStartAt()),
+                        tuple(events.get(1).getId(), events.get(1).getStartAt()));
+    }
+
+    @Test
+    void patchEvent_shouldUpdateOnlyProvidedColumns() {
+        EventEntity event = eventRepository.findAll().stream()
+                .filter(e -> e.getTitle().equals("Morning Meeting"))
+                .findFirst()
+                .orElseThrow();
+        Instant newFinishAt = Instant.parse("2025-10-15T09:30:00Z");
+
+        int updated = eventRepository.patchEvent(event.getId(), "Renamed Meeting", null, null, newFinishAt, null);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        EventEntity patched = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(patched.getTitle()).isEqualTo("Renamed Meeting");
+        assertThat(patched.getDescription()).isEqualTo("Daily standup meeting with the team");
+        assertThat(patched.getStartAt()).isEqualTo(Instant.parse("2025-10-15T08:00:00Z"));
+        assertThat(patched.getFinishAt()).isEqualTo(newFinishAt);
+        assertThat(patched.getLocation()).isEqualTo("Conference Room A");
+        assertThat(eventRepository.findTimesById(event.getId())).get()
+                .extracting(EventTimesProjection::finishAt)
+                .isEqualTo(newFinishAt);
+    }
+
+    @Test
+    void deleteEventByIdAndVersion_whenVersionIsStale_shouldKeepEvent() {
+        EventEntity event = eventRepository.findAll().getFirst();
+        long version = eventRepository.findKeyById(event.getId()).orElseThrow().version();
+        eventRepository.patchEvent(event.getId(), "Renamed", null, null, null, null);
+
+        assertThat(eventRepository.deleteEventByIdAndVersion(event.getId(), version)).isZero();
+        assertThat(eventRepository.deleteEventByIdAndVersion(event.getId(), version + 1)).isEqualTo(1);
+        assertThat(eventRepository.findKeyById(event.getId())).isEmpty();
+    }
+
+    @Test
+    void patchEvent_shouldBumpVersion() {
+        EventEntity event = eventRepository.findAll().getFirst();
+        long version = eventRepository.findKeyById(event.getId()).orElseThrow().version();
+
+        eventRepository.patchEvent(event.getId(), "Renamed", null, null, null, null);
+        entityManager.clear();
+
+        assertThat(eventRepository.findKeyById(event.getId()).orElseThrow().version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void findStampByStartAtBetween_shouldChangeOnlyWhenEventInRangeChanges() {
+        Instant startOfOctober = Instant.parse("2025-10-01T00:00:00Z");
+        Instant startOfNovember = Instant.parse("2025-11-01T00:00:00Z");
+        EventRangeStamp before = eventRepository.findStampByStartAtBetween(startOfOctober, startOfNovember);
+
+        EventEntity november = eventRepository.findAll().stream()
+                .filter(e -> e.getTitle().equals("Training Session"))
+                .findFirst()
+                .orElseThrow();
+        eventRepository.patchEvent(november.getId(), "Renamed Training", null, null, null, null);
+        entityManager.clear();
+
+        assertThat(eventRepository.findStampByStartAtBetween(startOfOctober, startOfNovember)).isEqualTo(before);
+        assertThat(before.count()).isEqualTo(3);
+
+        EventEntity october = eventRepository.findAll().stream()
+                .filter(e -> e.getTitle().equals("Lunch Break"))
+                .findFirst()
+                .orElseThrow();
+        eventRepository.patchEvent(october.getId(), "Long Lunch", null, null, null, null);
+        entityManager.clear();
+
+        assertThat(eventRepository.findStampByStartAtBetween(startOfOctober, startOfNovember)).isNotEqualTo(before);
+    }
+
+    @Test
+    void streamTimesOverlapping_shouldReturnOverlappingEventsInStartOrder() {
+        Instant from = Instant.parse("2025-10-15T08:30:00Z");
+        Instant to = Instant.parse("2025-10-20T15:00:00Z");
+
+        try (Stream<EventTimesProjection> rows =
+                     eventRepository.streamTimesOverlapping(from.minus(Duration.ofHours(25)), from, to)) {
+            assertThat(rows.map(EventTimesProjection::startAt).toList()).containsExactly(
+                    Instant.parse("2025-10-15T08:00:00Z"),
+                    Instant.parse("2025-10-15T12:00:00Z"),
+                    Instant.parse("2025-10-20T14:00:00Z")
+            );
+        }
+    }
+
+    @Test
+    void findStampByStartAtBetween_whenRangeIsEmpty_shouldReturnZeroStamp() {
+        EventRangeStamp stamp = eventRepository.findStampByStartAtBetween(
+                Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-02-01T00:00:00Z"));
+
+        assertThat(stamp.count()).isZero();
+        assertThat(stamp.versionSum()).isZero();
+        assertThat(stamp.lastUpdatedAt()).isNull();
+    }
+
+    @Test
+    void findSeriesOverlapping_shouldReturnOnlySeriesReachingIntoRange() {
+        eventRepository.saveAll(List.of(
+                series("Weekly Sync", "2025-09-01T09:00:00Z", "FREQ=WEEKLY", RecurrenceSeries.UNBOUNDED_END),
+                series("Ended Sync", "2025-08-01T09:00:00Z", "FREQ=DAILY;COUNT=3", Instant.parse("2025-08-03T09:00:00Z")),
+                series("Future Sync", "2025-11-03T09:00:00Z", "FREQ=WEEKLY", RecurrenceSeries.UNBOUNDED_END)
+        ));
+        entityManager.flush();
+        Instant startOfOctober = Instant.parse("2025-10-01T00:00:00Z");
+        Instant startOfNovember = Instant.parse("2025-11-01T00:00:00Z");
+
+        assertThat(eventRepository.findSeriesOverlapping(startOfOctober, startOfNovember))
+                .extracting(EventSeriesProjection::title, EventSeriesProjection::recurrenceRule)
+                .containsExactly(tuple("Weekly Sync", "FREQ=WEEKLY"));
+        assertThat(eventRepository.findSeriesStampBetween(startOfOctober, startOfNovember).count()).isEqualTo(1);
+        assertThat(eventRepository.existsSeriesStartingIn(startOfOctober, startOfNovember)).isFalse();
+        assertThat(eventRepository.existsSeriesStartingIn(startOfNovember, startOfNovember.plus(Duration.ofDays(30))))
+                .isTrue();
+    }
+
+    private static EventEntity series(String title, String startAt, String rule, Instant recurrenceEnd) {
+        Instant start = Instant.parse(startAt);
+        EventEntity event = new EventEntity(null, title, title, start, start.plus(Duration.ofHours(1)), null);
+        event.setRecurrenceRule(rule);
+        event.setRecurrenceZone("UTC");
+        event.setRecurrenceEnd(recurrenceEnd);
+        return event;
+    }
+}
@@ -0,0 +1,220 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventBatchProperties;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventBatchItemResult;
+import org.test.calendar.model.dto.EventBatchOperation;
+import org.test.calendar.model.dto.EventBatchResponse;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EventBatchService.class, EventConflictService.class, EventMapperImpl.class,
+        EventPreviewCache.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@EnableConfigurationProperties({EventBatchProperties.class, EventPreviewCacheProperties.class, EventProperties.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "calendar.batch.chunk-size=100"
+})
+class EventBatchServiceTest {
+
+    private static final ZonedDateTime START_AT = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+    private static final ZonedDateTime FINISH_AT = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+
+    @Autowired
+    private EventBatchService eventBatchService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EventStreamHub streamHub;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void applyOperations_shouldCreateUpdateAndDeleteWithPerItemResults() {
+        EventEntity toUpdate = eventRepository.save(new EventEntity(null, "Old Title", "Old Description",
+                START_AT.toInstant(), FINISH_AT.toInstant(), "Room A"));
+        EventEntity toDelete = eventRepository.save(new EventEntity(null, "Obsolete", "Obsolete event",
+                START_AT.toInstant(), FINISH_AT.toInstant(), "Room B"));
+        UUID missingId = UUID.randomUUID();
+
+        EventBatchResponse response = eventBatchService.applyOperations(List.of(
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("Created")),
+                new EventBatchOperation(EventBatchOperation.Type.UPDATE, toUpdate.getId(), event("Updated")),
+                new EventBatchOperation(EventBatchOperation.Type.DELETE, toDelete.getId(), null),
+                new EventBatchOperation(EventBatchOperation.Type.DELETE, missingId, null),
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("Invalid #title"))
+        ));
+
+        assertThat(response.succeeded()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results()).extracting(EventBatchItemResult::status).containsExactly(
+                EventBatchItemResult.Status.SUCCESS,
+                EventBatchItemResult.Status.SUCCESS,
+                EventBatchItemResult.Status.SUCCESS,
+                EventBatchItemResult.Status.NOT_FOUND,
+                EventBatchItemResult.Status.INVALID
+        );
+        assertThat(response.results().getFirst().id()).isNotNull();
+
+        assertThat(eventRepository.findById(toUpdate.getId())).get()
+                .extracting(EventEntity::getTitle)
+                .isEqualTo("Updated");
+        assertThat(eventRepository.existsById(toDelete.getId())).isFalse();
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("Created", "Updated");
+    }
+
+    @Test
+    void applyOperations_whenChunkFailsInDatabase_shouldOnlyFailOffendingOperation() {
+        EventEntity existing = eventRepository.save(new EventEntity(null, "Old Title", "Old Description",
+                START_AT.toInstant(), FINISH_AT.toInstant(), "Room A"));
+
+        // EventUpdating has no constraints, so a null title only fails on the NOT NULL column
+        EventBatchResponse response = eventBatchService.applyOperations(List.of(
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("First")),
+                new EventBatchOperation(EventBatchOperation.Type.UPDATE, existing.getId(),
+                        new EventDto(null, null, "Description", START_AT, FINISH_AT, null, null, null)),
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("Second"))
+        ));
+
+        assertThat(response.results()).extracting(EventBatchItemResult::status).containsExactly(
+                EventBatchItemResult.Status.SUCCESS,
+                EventBatchItemResult.Status.FAILED,
+                EventBatchItemResult.Status.SUCCESS
+        );
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("Old Title", "First", "Second");
+    }
+
+    @Test
+    void applyOperations_withRecurrenceRule_shouldStoreAndClearSeries() {
+        EventBatchResponse created = eventBatchService.applyOperations(List.of(
+                new EventBatchOperation(EventBatchOperation.Type.CREATE, null, new EventDto(null, "Standup",
+                        "Description", START_AT, FINISH_AT, "Room A", "RRULE:FREQ=WEEKLY;BYDAY=TH;COUNT=3",
+                        List.of(LocalDate.parse("2025-10-30"))))
+        ));
+        UUID id = created.results().getFirst().id();
+
+        EventEntity stored = eventRepository.findById(id).orElseThrow();
+        assertThat(stored.getRecurrenceRule()).isEqualTo("FREQ=WEEKLY;COUNT=3;BYDAY=TH");
+        assertThat(stored.getRecurrenceZone()).isEqualTo("Europe/Kyiv");
+        assertThat(stored.getRecurrenceExceptions()).isEqualTo("2025-10-30");
+        // The third occurrence keeps 09:30 in Kyiv after the switch to winter time
+        assertThat(stored.getRecurrenceEnd()).isEqualTo(Instant.parse("2025-11-06T07:30:00Z"));
+        assertThat(created.results().getFirst().event().startAt()).isEqualTo(START_AT);
+
+        eventBatchService.applyOperations(List.of(
+                new EventBatchOperation(EventBatchOperation.Type.UPDATE, id, event("Standup"))));
+
+        assertThat(eventRepository.findById(id)).get()
+                .extracting(EventEntity::getRecurrenceRule, EventEntity::getRecurrenceEnd)
+                .containsOnlyNulls();
+    }
+
+    @Test
+    void applyOperations_shouldSendEachChunkAsJdbcBatches() {
+        List<EventBatchOperation> operations = new ArrayList<>(200);
+        IntStream.range(0, 200).forEach(i ->
+                operations.add(new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("Batch " + i))));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventBatchResponse response = eventBatchService.applyOperations(operations);
+
+        assertThat(response.succeeded()).isEqualTo(200);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(200);
+        // Two chunks of 100, each one transaction with two INSERT batches of 50 and one change-log statement
+        assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    /**
+     * A context of its own, since the tests above write overlapping events with conflicts unchecked.
+     */
+    @Nested
+    @TestPropertySource(properties = "calendar.events.conflict-mode=reject")
+    class WithConflictsRejected {
+
+        @Test
+        void applyOperations_shouldRejectItemsOverlappingStoredOrEarlierItems() {
+            EventEntity stored = eventRepository.save(new EventEntity(null, "Planning", "Sprint planning",
+                    START_AT.toInstant(), FINISH_AT.toInstant(), "Room A"));
+            EventEntity movable = eventRepository.save(new EventEntity(null, "Retro", "Sprint retro",
+                    START_AT.plusHours(2).toInstant(), FINISH_AT.plusHours(2).toInstant(), "Room A"));
+
+            EventBatchResponse response = eventBatchService.applyOperations(List.of(
+                    new EventBatchOperation(EventBatchOperation.Type.CREATE, null,
+                            new EventDto(null, "Review", "Design review", START_AT.plusHours(1), FINISH_AT.plusHours(1),
+                                    "Room B", null, null)),
+                    new EventBatchOperation(EventBatchOperation.Type.CREATE, null, event("Clash")),
+                    new EventBatchOperation(EventBatchOperation.Type.UPDATE, movable.getId(),
+                            new EventDto(null, "Retro", "Sprint retro", START_AT.plusHours(1), FINISH_AT.plusHours(1),
+                                    "Room B", null, null))
+            ));
+
+            assertThat(response.results()).extracting(EventBatchItemResult::status).containsExactly(
+                    EventBatchItemResult.Status.SUCCESS,
+                    EventBatchItemResult.Status.CONFLICT,
+                    EventBatchItemResult.Status.CONFLICT
+            );
+            assertThat(response.results().get(1).message()).contains(stored.getId().toString());
+            assertThat(response.results().get(2).message()).contains(response.results().getFirst().id().toString());
+            assertThat(eventRepository.findById(movable.getId())).get()
+                    .extracting(EventEntity::getLocation)
+                    .isEqualTo("Room A");
+            assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                    .containsExactlyInAnyOrder("Planning", "Retro", "Review");
+        }
+    }
+
+    private EventDto event(String title) {
+        return new EventDto(null, title, "Description", START_AT, FINISH_AT, "Room A", null, null);
+    }
+}
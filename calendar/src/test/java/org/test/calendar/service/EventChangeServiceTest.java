@@ -0,0 +1,165 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventChangeProperties;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.ChangeTokenExpiredException;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventChangeDto;
+import org.test.calendar.model.dto.EventChangesResponse;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.entity.EventChangeEntity;
+import org.test.calendar.repository.EventChangeRepository;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+import org.test.calendar.util.EventChangeToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EventChangeService.class, EventService.class, EventConflictService.class, EventMapperImpl.class,
+        EventPreviewCache.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties({EventChangeProperties.class, EventPreviewCacheProperties.class, EventProperties.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "calendar.changes.settle-time=0s",
+        "calendar.changes.commit-timeout=0s"
+})
+class EventChangeServiceTest {
+
+    private static final ZonedDateTime START_AT = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+
+    @Autowired
+    private EventChangeService changeService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @MockitoBean
+    private EventStreamHub streamHub;
+
+    @Autowired
+    private EventChangeRepository changeRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Changes of earlier tests stay, like the changes before a token taken in production
+        eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getChanges_shouldReturnLatestStateOfEachChangedEventOnce() {
+        String token = changeService.getChanges(null, null).nextToken();
+
+        EventDto planning = eventService.createEvent(event("Planning", START_AT));
+        EventDto retro = eventService.createEvent(event("Retro", START_AT.plusHours(2)));
+        eventService.updateEvent(planning.id(), event("Replanning", START_AT));
+        eventService.deleteEvent(retro.id());
+
+        EventChangesResponse response = changeService.getChanges(token, 10);
+
+        assertThat(response.changes()).extracting(EventChangeDto::id, EventChangeDto::type).containsExactly(
+                tuple(planning.id(), EventChangeDto.Type.UPSERTED),
+                tuple(retro.id(), EventChangeDto.Type.DELETED));
+        assertThat(response.changes().getFirst().event().title()).isEqualTo("Replanning");
+        assertThat(response.changes().get(1).event()).isNull();
+        assertThat(response.hasMore()).isFalse();
+
+        EventChangesResponse next = changeService.getChanges(response.nextToken(), 10);
+        assertThat(next.changes()).isEmpty();
+        assertThat(EventChangeToken.decode(next.nextToken()).seq())
+                .isEqualTo(EventChangeToken.decode(response.nextToken()).seq());
+    }
+
+    @Test
+    void getChanges_withSmallPages_shouldContinueFromNextToken() {
+        String token = changeService.getChanges(null, null).nextToken();
+        List<EventDto> created = List.of(
+                eventService.createEvent(event("First", START_AT)),
+                eventService.createEvent(event("Second", START_AT.plusHours(1))),
+                eventService.createEvent(event("Third", START_AT.plusHours(2))));
+
+        EventChangesResponse first = changeService.getChanges(token, 2);
+        EventChangesResponse second = changeService.getChanges(first.nextToken(), 2);
+
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.hasMore()).isFalse();
+        assertThat(List.of(first.changes(), second.changes()).stream().flatMap(List::stream).map(EventChangeDto::id))
+                .containsExactlyElementsOf(created.stream().map(EventDto::id).toList());
+    }
+
+    @Test
+    void getChanges_afterRangeDelete_shouldReturnTombstones() {
+        EventDto inRange = eventService.createEvent(event("Inside", START_AT));
+        eventService.createEvent(event("Outside", START_AT.plusDays(3)));
+        String token = changeService.getChanges(null, null).nextToken();
+
+        eventService.deleteEventsInRange(START_AT.minusHours(1), START_AT.plusDays(1));
+
+        assertThat(changeService.getChanges(token, null).changes())
+                .containsExactly(EventChangeDto.deleted(inRange.id()));
+    }
+
+    @Test
+    void getChanges_whenChangesAfterTokenWerePurged_shouldThrowChangeTokenExpiredException() {
+        long tokenSeq = EventChangeToken.decode(changeService.getChanges(null, null).nextToken()).seq();
+        eventService.createEvent(event("First", START_AT));
+        eventService.createEvent(event("Second", START_AT.plusHours(1)));
+        EventDto third = eventService.createEvent(event("Third", START_AT.plusHours(2)));
+
+        // As the purge does: everything before the newest expired change, "Second", is deleted
+        long keptSeq = changeRepository.findLastSeqChangedBy(Instant.now()) - 1;
+        changeRepository.deleteAllByIdInBatch(changeRepository.findAll().stream()
+                .map(EventChangeEntity::getSeq)
+                .filter(seq -> seq < keptSeq)
+                .toList());
+
+        // Polling reissues the token with a new issue time but the same seq
+        String polled = new EventChangeToken(tokenSeq, Instant.now()).encode();
+        assertThatThrownBy(() -> changeService.getChanges(polled, null))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+
+        String retained = new EventChangeToken(keptSeq, Instant.now().minus(Duration.ofDays(31))).encode();
+        assertThat(changeService.getChanges(retained, null).changes())
+                .extracting(EventChangeDto::id)
+                .containsExactly(third.id());
+    }
+
+    @Test
+    void getChanges_withInvalidArguments_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> changeService.getChanges("not-a-token", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid change token");
+        assertThatThrownBy(() -> changeService.getChanges(null, 1001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be between 1 and 1000");
+    }
+
+    private static EventDto event(String title, ZonedDateTime startAt) {
+        return new EventDto(null, title, "Description", startAt, startAt.plusMinutes(30), "Room A", null, null);
+    }
+}
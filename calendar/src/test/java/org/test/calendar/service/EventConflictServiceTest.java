@@ -0,0 +1,131 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.exception.EventConflictException;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.util.LocationHash;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({EventConflictService.class, EventMapperImpl.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties(EventProperties.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "calendar.events.conflict-mode=reject"
+})
+class EventConflictServiceTest {
+
+    @Autowired
+    private EventConflictService conflictService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private EventEntity booked;
+
+    @BeforeEach
+    void setUp() {
+        booked = eventRepository.saveAndFlush(new EventEntity(null, "Planning", "Sprint planning",
+                Instant.parse("2025-10-23T09:00:00Z"), Instant.parse("2025-10-23T10:00:00Z"), "Room A"));
+    }
+
+    @Test
+    void save_shouldStoreLocationHash() {
+        assertThat(booked.getLocationHash()).isEqualTo(LocationHash.of("Room A")).hasSize(64);
+    }
+
+    @Test
+    void checkWrite_whenOverlappingSameLocation_shouldRejectAndCount() {
+        assertThatExceptionOfType(EventConflictException.class)
+                .isThrownBy(() -> conflictService.checkWrite(null, "Room A",
+                        Instant.parse("2025-10-23T09:30:00Z"), Instant.parse("2025-10-23T10:30:00Z")))
+                .satisfies(ex -> assertThat(ex.getConflictingIds()).containsExactly(booked.getId()));
+
+        assertThat(meterRegistry.get("calendar.event.conflicts").tag("mode", "reject").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void checkWrite_whenTouchingOrAtAnotherLocation_shouldAccept() {
+        assertThatCode(() -> conflictService.checkWrite(null, "Room A",
+                Instant.parse("2025-10-23T10:00:00Z"), Instant.parse("2025-10-23T11:00:00Z")))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> conflictService.checkWrite(null, "Room B",
+                Instant.parse("2025-10-23T09:30:00Z"), Instant.parse("2025-10-23T10:30:00Z")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkWrite_forTheEventItself_shouldAccept() {
+        assertThatCode(() -> conflictService.checkWrite(booked.getId(), "Room A",
+                Instant.parse("2025-10-23T09:15:00Z"), Instant.parse("2025-10-23T10:15:00Z")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkWrite_whenOverlappingLaterOccurrenceOfStoredSeries_shouldReject() {
+        EventEntity standup = new EventEntity(null, "Standup", "Daily standup",
+                Instant.parse("2025-10-01T09:30:00Z"), Instant.parse("2025-10-01T09:45:00Z"), "Room B");
+        standup.setRecurrenceRule("FREQ=DAILY");
+        standup.setRecurrenceZone("UTC");
+        standup.setRecurrenceEnd(RecurrenceSeries.UNBOUNDED_END);
+        eventRepository.saveAndFlush(standup);
+
+        assertThatExceptionOfType(EventConflictException.class)
+                .isThrownBy(() -> conflictService.checkWrite(null, "Room B",
+                        Instant.parse("2025-10-23T09:40:00Z"), Instant.parse("2025-10-23T10:00:00Z")))
+                .satisfies(ex -> assertThat(ex.getConflictingIds()).containsExactly(standup.getId()));
+        assertThat(conflictService.findConflicts("Room B",
+                ZonedDateTime.parse("2025-10-23T09:40:00Z"), ZonedDateTime.parse("2025-10-23T10:00:00Z"), null))
+                .extracting(EventPreviewDto::title, EventPreviewDto::startAt)
+                .containsExactly(tuple("Standup", ZonedDateTime.parse("2025-10-23T09:30:00Z")));
+    }
+
+    @Test
+    void checkWrite_forSeriesOverlappingStoredEventInLaterOccurrence_shouldReject() {
+        RecurrenceSeries weekly = RecurrenceSeries.of("FREQ=WEEKLY",
+                ZonedDateTime.parse("2025-10-09T09:30:00Z"), ZonedDateTime.parse("2025-10-09T10:30:00Z"), null);
+
+        assertThatExceptionOfType(EventConflictException.class)
+                .isThrownBy(() -> conflictService.checkWrite(null, "Room A",
+                        Instant.parse("2025-10-09T09:30:00Z"), Instant.parse("2025-10-09T10:30:00Z"), weekly))
+                .satisfies(ex -> assertThat(ex.getConflictingIds()).containsExactly(booked.getId()));
+    }
+
+    @Test
+    void findConflicts_shouldReturnOverlappingEventsAtLocation() {
+        eventRepository.saveAndFlush(new EventEntity(null, "Retro", "Sprint retro",
+                Instant.parse("2025-10-22T15:00:00Z"), Instant.parse("2025-10-22T16:00:00Z"), "Room A"));
+
+        assertThat(conflictService.findConflicts("Room A",
+                ZonedDateTime.parse("2025-10-23T11:00:00+03:00[Europe/Kyiv]"),
+                ZonedDateTime.parse("2025-10-23T14:00:00+03:00[Europe/Kyiv]"),
+                null))
+                .extracting(EventPreviewDto::title)
+                .containsExactly("Planning");
+    }
+}
@@ -0,0 +1,107 @@
+package org.test.calendar.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.test.calendar.config.EventDayCountProperties;
+import org.test.calendar.model.dto.EventDayCountsResponse;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.test.calendar.service.EventFixtures.event;
+
+@DataJpaTest
+@Import(EventDayCountService.class)
+@EnableConfigurationProperties(EventDayCountProperties.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class EventDayCountServiceTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+    @Autowired
+    private EventDayCountService dayCountService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+
+        // Kyiv leaves summer time at 2025-10-26T01:00:00Z, from +03:00 to +02:00
+        EventEntity series = event("Daily Sync", Instant.parse("2025-10-20T09:00:00Z"), Duration.ofMinutes(60));
+        series.setRecurrenceRule("FREQ=DAILY;COUNT=7");
+        series.setRecurrenceZone("UTC");
+        series.setRecurrenceEnd(Instant.parse("2025-10-26T09:00:00Z"));
+
+        eventRepository.saveAll(List.of(
+                event("Late Call", kyiv("2025-10-25T23:30:00+03:00"), Duration.ofMinutes(30)),
+                event("Night Deploy", kyiv("2025-10-26T00:30:00+03:00"), Duration.ofMinutes(60)),
+                event("Late Review", kyiv("2025-10-26T23:30:00+02:00"), Duration.ofMinutes(30)),
+                event("Midnight Check", kyiv("2025-10-27T00:00:00+02:00"), Duration.ofMinutes(30)),
+                event("Next Week", kyiv("2025-10-28T00:00:00+02:00"), Duration.ofMinutes(30)),
+                series
+        ));
+    }
+
+    @Test
+    void getDayCounts_acrossOffsetChange_shouldCountEventsAndOccurrencesPerLocalDay() {
+        EventDayCountsResponse response = dayCountService.getDayCounts(
+                LocalDate.parse("2025-10-25"), LocalDate.parse("2025-10-28"), KYIV, true);
+
+        assertThat(response.days())
+                .extracting(EventDayCountsResponse.DayCount::date, EventDayCountsResponse.DayCount::count,
+                        EventDayCountsResponse.DayCount::minutes)
+                .containsExactly(
+                        tuple(LocalDate.parse("2025-10-25"), 2L, 90L),
+                        tuple(LocalDate.parse("2025-10-26"), 3L, 150L),
+                        tuple(LocalDate.parse("2025-10-27"), 1L, 30L));
+    }
+
+    @Test
+    void getDayCounts_inUtc_shouldGroupByUtcDays() {
+        EventDayCountsResponse response = dayCountService.getDayCounts(
+                LocalDate.parse("2025-10-25"), LocalDate.parse("2025-10-28"), ZoneId.of("UTC"), false);
+
+        assertThat(response.days())
+                .extracting(EventDayCountsResponse.DayCount::date, EventDayCountsResponse.DayCount::count,
+                        EventDayCountsResponse.DayCount::minutes)
+                .containsExactly(
+                        tuple(LocalDate.parse("2025-10-25"), 3L, null),
+                        tuple(LocalDate.parse("2025-10-26"), 3L, null),
+                        tuple(LocalDate.parse("2025-10-27"), 1L, null));
+    }
+
+    @Test
+    void getDayCounts_whenRangeIsInvalid_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> dayCountService.getDayCounts(
+                LocalDate.parse("2025-10-28"), LocalDate.parse("2025-10-25"), KYIV, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from must be before to");
+        assertThatThrownBy(() -> dayCountService.getDayCounts(
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2026-03-01"), KYIV, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Range must not be longer than 400 days");
+    }
+
+    private static Instant kyiv(String offsetDateTime) {
+        return ZonedDateTime.parse(offsetDateTime + "[Europe/Kyiv]").toInstant();
+    }
+}
@@ -0,0 +1,118 @@
+package org.test.calendar.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.test.calendar.service.EventFixtures.event;
+
+@DataJpaTest
+@Import({EventExportService.class, EventMapperImpl.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class EventExportServiceTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Autowired
+    private EventExportService exportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        eventRepository.saveAllAndFlush(List.of(
+                event("New Year", "2025-01-01T10:00:00Z", HOUR),
+                event("Retro", "2025-06-20T15:00:00Z", HOUR).withDescription("Sprint 42").withLocation("Room B"),
+                event("Planning", "2025-03-10T09:00:00Z", HOUR),
+                event("Next Year", "2026-01-01T10:00:00Z", HOUR)
+        ));
+        entityManager.clear();
+    }
+
+    @Test
+    void exportEvents_shouldPassEventsInRangeInStartOrder() {
+        List<EventDto> exported = new ArrayList<>();
+
+        long count = exportService.exportEvents(
+                ZonedDateTime.parse("2025-01-01T00:00:00Z"), ZonedDateTime.parse("2026-01-01T00:00:00Z"), exported::add);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).extracting(EventDto::title).containsExactly("New Year", "Planning", "Retro");
+        assertThat(exported.getLast().description()).isEqualTo("Sprint 42");
+        assertThat(exported.getLast().location()).isEqualTo("Room B");
+        assertThat(exported.getFirst().description()).isNull();
+    }
+
+    @Test
+    void exportEvents_shouldPassSeriesStartedBeforeRangeFirstWithItsRule() {
+        EventEntity standup = event("Standup", "2024-12-02T08:00:00Z", HOUR);
+        standup.setRecurrenceRule("FREQ=WEEKLY;BYDAY=MO");
+        standup.setRecurrenceZone("UTC");
+        standup.setRecurrenceExceptions("2025-01-06");
+        standup.setRecurrenceEnd(RecurrenceSeries.UNBOUNDED_END);
+        EventEntity ended = event("Ended", "2024-11-04T08:00:00Z", HOUR);
+        ended.setRecurrenceRule("FREQ=WEEKLY;COUNT=2");
+        ended.setRecurrenceZone("UTC");
+        ended.setRecurrenceEnd(Instant.parse("2024-11-11T08:00:00Z"));
+        eventRepository.saveAllAndFlush(List.of(standup, ended));
+        List<EventDto> exported = new ArrayList<>();
+
+        long count = exportService.exportEvents(
+                ZonedDateTime.parse("2025-01-01T00:00:00Z"), ZonedDateTime.parse("2026-01-01T00:00:00Z"), exported::add);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(exported).extracting(EventDto::title).containsExactly("Standup", "New Year", "Planning", "Retro");
+        assertThat(exported.getFirst().recurrenceRule()).isEqualTo("FREQ=WEEKLY;BYDAY=MO");
+        assertThat(exported.getFirst().exceptionDates()).containsExactly(LocalDate.parse("2025-01-06"));
+    }
+
+    @Test
+    void exportEvents_shouldDetachEachEntityAfterMappingIt() {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        List<Integer> managedPerRow = new ArrayList<>();
+
+        exportService.exportEvents(
+                ZonedDateTime.parse("2025-01-01T00:00:00Z"), ZonedDateTime.parse("2026-01-01T00:00:00Z"),
+                event -> managedPerRow.add(session.getPersistenceContext().getNumberOfManagedEntities()));
+
+        assertThat(managedPerRow).containsExactly(1, 1, 1);
+        assertThat(session.getPersistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    void exportEvents_whenFromIsNotBeforeTo_shouldThrowBeforeCallingSink() {
+        List<EventDto> exported = new ArrayList<>();
+
+        assertThatThrownBy(() -> exportService.exportEvents(
+                ZonedDateTime.parse("2026-01-01T00:00:00Z"), ZonedDateTime.parse("2025-01-01T00:00:00Z"), exported::add))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(exported).isEmpty();
+    }
+}
@@ -0,0 +1,173 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.cache.EventFeedCache;
+import org.test.calendar.config.EventFeedProperties;
+import org.test.calendar.ical.ICalendarEvent;
+import org.test.calendar.ical.ICalendarReader;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.recurrence.RecurrenceSeries;
+import org.test.calendar.repository.EventRepository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.test.calendar.service.EventFixtures.event;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EventFeedService.class, EventFeedCache.class})
+@EnableConfigurationProperties(EventFeedProperties.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class EventFeedServiceTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final ZonedDateTime FROM = ZonedDateTime.parse("2025-10-01T00:00:00Z");
+    private static final ZonedDateTime TO = ZonedDateTime.parse("2025-11-01T00:00:00Z");
+
+    @Autowired
+    private EventFeedService feedService;
+
+    @Autowired
+    private EventFeedCache feedCache;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+        feedCache.bindTo(meterRegistry);
+    }
+
+    @Test
+    void writeFeed_shouldRenderEventsInStartOrder() throws IOException {
+        eventRepository.saveAllAndFlush(List.of(
+                event("Retro", "2025-10-24T15:00:00Z", HOUR).withLocation("Room B"),
+                event("Planning", "2025-10-23T09:00:00Z", HOUR),
+                event("Outside", "2025-11-01T09:00:00Z", HOUR)
+        ));
+
+        List<ICalendarEvent> events = parse(writeFeed());
+
+        assertThat(events).extracting(event -> event.text("SUMMARY")).containsExactly("Planning", "Retro");
+        assertThat(events.getFirst().properties()).doesNotContainKey("LOCATION");
+        assertThat(events.get(1).text("LOCATION")).isEqualTo("Room B");
+        assertThat(events.get(1).startAt(null)).isEqualTo(ZonedDateTime.parse("2025-10-24T15:00:00Z"));
+        assertThat(events.get(1).properties().get("SEQUENCE").value()).isEqualTo("0");
+    }
+
+    @Test
+    void writeFeed_shouldWriteSeriesStartedBeforeWindowWithRuleInItsZone() throws IOException {
+        EventEntity standup = event("Standup", "2025-09-04T06:30:00Z", HOUR).withLocation("Room A");
+        standup.setRecurrenceRule("FREQ=WEEKLY;BYDAY=TH");
+        standup.setRecurrenceZone("Europe/Kyiv");
+        standup.setRecurrenceExceptions("2025-10-30");
+        standup.setRecurrenceEnd(RecurrenceSeries.UNBOUNDED_END);
+        eventRepository.saveAndFlush(standup);
+
+        String feed = writeFeed();
+
+        assertThat(feed).contains(
+                "DTSTART;TZID=Europe/Kyiv:20250904T093000\r\n",
+                "DTEND;TZID=Europe/Kyiv:20250904T103000\r\n",
+                "RRULE:FREQ=WEEKLY;BYDAY=TH\r\n",
+                "EXDATE;TZID=Europe/Kyiv:20251030T093000\r\n");
+    }
+
+    @Test
+    void writeFeed_afterOneEventChanged_shouldRenderOnlyItsDay() throws IOException {
+        EventEntity planning = eventRepository.save(event("Planning", "2025-10-23T09:00:00Z", HOUR));
+        eventRepository.saveAndFlush(event("Retro", "2025-10-24T15:00:00Z", HOUR));
+
+        // The cache outlives the test, so only its counter increments are compared
+        double hits = gets("hit");
+        double misses = gets("miss");
+
+        writeFeed();
+        assertThat(gets("miss") - misses).isEqualTo(2);
+
+        writeFeed();
+        assertThat(gets("hit") - hits).isEqualTo(2);
+
+        planning.setTitle("Replanning");
+        eventRepository.saveAndFlush(planning);
+        String feed = writeFeed();
+
+        assertThat(gets("hit") - hits).isEqualTo(3);
+        assertThat(gets("miss") - misses).isEqualTo(3);
+        assertThat(parse(feed)).extracting(event -> event.text("SUMMARY")).containsExactly("Replanning", "Retro");
+    }
+
+    @Test
+    void getFeedStamp_shouldChangeWithWritesAndWindow() {
+        EventEntity planning = eventRepository.saveAndFlush(event("Planning", "2025-10-23T09:00:00Z", HOUR));
+        EventFeedService.FeedWindow window = feedService.getWindow(FROM, TO);
+
+        EventFeedService.FeedStamp before = feedService.getFeedStamp(window);
+        assertThat(feedService.getFeedStamp(window)).isEqualTo(before);
+
+        eventRepository.delete(planning);
+        assertThat(feedService.getFeedStamp(window).etag()).isNotEqualTo(before.etag());
+        assertThat(feedService.getFeedStamp(feedService.getWindow(FROM, TO.plusDays(1))).etag())
+                .isNotEqualTo(feedService.getFeedStamp(window).etag());
+    }
+
+    @Test
+    void getWindow_shouldCoverWholeUtcDaysAndRejectInvalidRanges() {
+        EventFeedService.FeedWindow window = feedService.getWindow(
+                ZonedDateTime.parse("2025-10-23T01:00:00+03:00[Europe/Kyiv]"),
+                ZonedDateTime.parse("2025-10-24T12:00:00+03:00[Europe/Kyiv]"));
+
+        assertThat(window.firstDay()).isEqualTo(LocalDate.parse("2025-10-22"));
+        assertThat(window.endDay()).isEqualTo(LocalDate.parse("2025-10-25"));
+        assertThatIllegalArgumentException().isThrownBy(() -> feedService.getWindow(FROM, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> feedService.getWindow(TO, FROM));
+        assertThatIllegalArgumentException().isThrownBy(() -> feedService.getWindow(FROM, FROM.plusYears(2)));
+    }
+
+    private String writeFeed() throws IOException {
+        StringWriter out = new StringWriter();
+        feedService.writeFeed(feedService.getWindow(FROM, TO), out);
+        return out.toString();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "eventFeedDays").tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static List<ICalendarEvent> parse(String feed) throws IOException {
+        assertThat(feed).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        List<ICalendarEvent> events = new ArrayList<>();
+        ICalendarReader reader = new ICalendarReader(new StringReader(feed));
+        ICalendarEvent event;
+        while ((event = reader.next()) != null) {
+            assertThat(event.error()).isNull();
+            events.add(event);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,24 @@
+package org.test.calendar.service;
+
+import org.test.calendar.model.entity.EventEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Unsaved events for the repository-backed service tests. Description and location are left empty so that a
+ * test which depends on them has to set them itself, e.g. {@code event(...).withLocation("Room B")}.
+ */
+final class EventFixtures {
+
+    private EventFixtures() {
+    }
+
+    static EventEntity event(String title, Instant startAt, Duration duration) {
+        return new EventEntity(null, title, null, startAt, startAt.plus(duration), null);
+    }
+
+    static EventEntity event(String title, String startAt, Duration duration) {
+        return event(title, Instant.parse(startAt), duration);
+    }
+}
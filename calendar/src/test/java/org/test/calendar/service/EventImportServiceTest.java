@@ -0,0 +1,178 @@
+package org.test.calendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventBatchProperties;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.mapper.EventMapperImpl;
+import org.test.calendar.model.dto.EventImportProgress;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EventImportService.class, EventConflictService.class, EventMapperImpl.class, EventPreviewCache.class,
+        SimpleMeterRegistry.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@EnableConfigurationProperties({EventBatchProperties.class, EventPreviewCacheProperties.class, EventProperties.class})
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "calendar.batch.chunk-size=100",
+        "calendar.events.conflict-mode=reject"
+})
+class EventImportServiceTest {
+
+    @Autowired
+    private EventImportService importService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @MockitoBean
+    private EventStreamHub streamHub;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void importEvents_shouldStoreValidEventsInChunksAndReportRejectedOnes() throws IOException {
+        StringBuilder ics = new StringBuilder("BEGIN:VCALENDAR\r\n");
+        for (int i = 0; i < 250; i++) {
+            ics.append(vevent("Event " + i, "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z"));
+        }
+        ics.append(vevent("Bad #title", "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z"));
+        ics.append(vevent("Overnight", "DTSTART:20251023T230000Z", "DTEND:20251024T010000Z"));
+        ics.append(vevent("Weekly", "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z", "RRULE:FREQ=WEEKLY"));
+        ics.append("END:VCALENDAR\r\n");
+
+        List<EventImportProgress> records = new ArrayList<>();
+        EventImportProgress summary = importService.importEvents(new StringReader(ics.toString()), ZoneOffset.UTC, records::add);
+
+        assertThat(summary.type()).isEqualTo(EventImportProgress.Type.SUMMARY);
+        assertThat(summary.events()).isEqualTo(253);
+        assertThat(summary.imported()).isEqualTo(250);
+        assertThat(summary.failed()).isEqualTo(3);
+        // Six lines per event, one more for the RRULE, plus BEGIN and END of the calendar
+        assertThat(summary.line()).isEqualTo(253 * 6 + 3);
+
+        assertThat(records).filteredOn(record -> record.type() == EventImportProgress.Type.PROGRESS)
+                .extracting(EventImportProgress::imported)
+                .containsExactly(100L, 200L, 250L);
+        assertThat(records).filteredOn(record -> record.type() == EventImportProgress.Type.ERROR)
+                .satisfiesExactly(
+                        error -> assertThat(error.message()).contains("Title must contain only"),
+                        error -> assertThat(error.message()).contains("same day"),
+                        error -> assertThat(error.message()).isEqualTo("Recurring events are not supported"))
+                .extracting(EventImportProgress::line)
+                .containsExactly(250 * 6 + 2L, 251 * 6 + 2L, 252 * 6 + 2L);
+
+        assertThat(eventRepository.count()).isEqualTo(250);
+        assertThat(eventRepository.findAll()).allSatisfy(event -> {
+            assertThat(event.getStartAt()).isEqualTo(Instant.parse("2025-10-23T09:00:00Z"));
+            assertThat(event.getDescription()).isNull();
+        });
+    }
+
+    @Test
+    void importEvents_whenChunkFailsInDatabase_shouldOnlyRejectOffendingEvent() throws IOException {
+        // Passes the pattern rules but exceeds the VARCHAR(255) title column
+        String tooLong = "A".repeat(300);
+        String ics = vevent("First", "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z")
+                + vevent(tooLong, "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z")
+                + vevent("Second", "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z");
+
+        List<EventImportProgress> records = new ArrayList<>();
+        EventImportProgress summary = importService.importEvents(new StringReader(ics), ZoneOffset.UTC, records::add);
+
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(records).filteredOn(record -> record.type() == EventImportProgress.Type.ERROR)
+                .singleElement()
+                .satisfies(error -> {
+                    assertThat(error.line()).isEqualTo(7);
+                    assertThat(error.index()).isEqualTo(2);
+                    assertThat(error.uid()).isEqualTo(tooLong + "@example.com");
+                    assertThat(error.message()).startsWith("Event could not be stored: ").containsIgnoringCase("too long");
+                });
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("First", "Second");
+    }
+
+    @Test
+    void importEvents_whenEventOverlapsAtSameLocation_shouldRejectItWithTheConflict() throws IOException {
+        String ics = vevent("Planning", "DTSTART:20251023T090000Z", "DTEND:20251023T100000Z", "LOCATION:Room A")
+                + vevent("Review", "DTSTART:20251023T093000Z", "DTEND:20251023T103000Z", "LOCATION:Room A")
+                + vevent("Retro", "DTSTART:20251023T100000Z", "DTEND:20251023T110000Z", "LOCATION:Room A");
+
+        List<EventImportProgress> records = new ArrayList<>();
+        EventImportProgress summary = importService.importEvents(new StringReader(ics), ZoneOffset.UTC, records::add);
+
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(records).filteredOn(record -> record.type() == EventImportProgress.Type.ERROR)
+                .singleElement()
+                .satisfies(error -> {
+                    assertThat(error.index()).isEqualTo(2);
+                    assertThat(error.message()).startsWith("Event could not be stored: Event overlaps 1 event(s)");
+                });
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("Planning", "Retro");
+    }
+
+    @Test
+    void importEvents_whenImportedAgain_shouldSkipEventsWhoseUidIsStored() throws IOException {
+        String ics = vevent("First", "DTSTART:20251023T090000Z", "DTEND:20251023T093000Z")
+                + vevent("Second", "DTSTART:20251023T100000Z", "DTEND:20251023T103000Z");
+        importService.importEvents(new StringReader(ics), ZoneOffset.UTC, record -> {
+        });
+
+        EventImportProgress summary = importService.importEvents(
+                new StringReader(ics + vevent("Third", "DTSTART:20251023T110000Z", "DTEND:20251023T113000Z")
+                        + vevent("Third", "DTSTART:20251023T110000Z", "DTEND:20251023T113000Z")),
+                ZoneOffset.UTC, record -> {
+                });
+
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(summary.skipped()).isEqualTo(3);
+        assertThat(summary.failed()).isZero();
+        assertThat(eventRepository.findAll()).extracting(EventEntity::getTitle, EventEntity::getImportUid)
+                .containsExactlyInAnyOrder(
+                        tuple("First", "First@example.com"),
+                        tuple("Second", "Second@example.com"),
+                        tuple("Third", "Third@example.com"));
+    }
+
+    private static String vevent(String title, String... properties) {
+        return "BEGIN:VEVENT\r\nUID:" + title + "@example.com\r\nSUMMARY:" + title + "\r\n"
+                + String.join("\r\n", properties) + "\r\nEND:VEVENT\r\n";
+    }
+}
@@ -0,0 +1,105 @@
+package org.test.calendar.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.model.dto.EventLayoutResponse;
+import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.test.calendar.service.EventFixtures.event;
+
+@DataJpaTest
+@Import(EventLayoutService.class)
+@EnableConfigurationProperties(EventProperties.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class EventLayoutServiceTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+    @Autowired
+    private EventLayoutService layoutService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+
+        EventEntity series = event("Daily Sync", kyiv("2025-10-20T08:00:00+03:00"), Duration.ofMinutes(30));
+        series.setRecurrenceRule("FREQ=DAILY;COUNT=7");
+        series.setRecurrenceZone("Europe/Kyiv");
+        series.setRecurrenceEnd(Instant.parse("2025-10-26T06:00:00Z"));
+
+        eventRepository.saveAll(List.of(
+                event("Night Deploy", kyiv("2025-10-22T23:00:00+03:00"), Duration.ofMinutes(120)),
+                event("Planning", kyiv("2025-10-23T09:00:00+03:00"), Duration.ofMinutes(60)),
+                event("Review", kyiv("2025-10-23T09:30:00+03:00"), Duration.ofMinutes(90)),
+                event("Retro", kyiv("2025-10-23T10:00:00+03:00"), Duration.ofMinutes(30)),
+                event("Next Week", kyiv("2025-10-28T09:00:00+02:00"), Duration.ofMinutes(30)),
+                series
+        ));
+    }
+
+    @Test
+    void getLayout_shouldPlaceOverlappingEventsSideBySidePerDay() {
+        EventLayoutResponse response = layoutService.getLayout(LocalDate.parse("2025-10-22"), 2, KYIV);
+
+        assertThat(response.to()).isEqualTo(LocalDate.parse("2025-10-24"));
+        assertThat(response.days())
+                .extracting(EventLayoutResponse.Day::date, EventLayoutResponse.Day::columns)
+                .containsExactly(
+                        tuple(LocalDate.parse("2025-10-22"), 1),
+                        tuple(LocalDate.parse("2025-10-23"), 2));
+        assertThat(response.days().getFirst().events())
+                .extracting(event -> event.event().title(), EventLayoutResponse.PositionedEvent::column,
+                        EventLayoutResponse.PositionedEvent::columns, EventLayoutResponse.PositionedEvent::span)
+                .containsExactly(
+                        tuple("Daily Sync", 0, 1, 1),
+                        tuple("Night Deploy", 0, 1, 1));
+        assertThat(response.days().get(1).events())
+                .extracting(event -> event.event().title(), EventLayoutResponse.PositionedEvent::column,
+                        EventLayoutResponse.PositionedEvent::columns, EventLayoutResponse.PositionedEvent::span)
+                .containsExactly(
+                        tuple("Night Deploy", 0, 1, 1),
+                        tuple("Daily Sync", 0, 1, 1),
+                        tuple("Planning", 0, 2, 1),
+                        tuple("Review", 1, 2, 1),
+                        tuple("Retro", 0, 2, 1));
+        assertThat(response.days().get(1).events().getFirst().event().startAt())
+                .isEqualTo(ZonedDateTime.parse("2025-10-22T23:00:00+03:00[Europe/Kyiv]"));
+    }
+
+    @Test
+    void getLayout_whenDaysAreOutOfRange_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> layoutService.getLayout(LocalDate.parse("2025-10-22"), 0, KYIV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("days must be between 1 and 7");
+        assertThatThrownBy(() -> layoutService.getLayout(LocalDate.parse("2025-10-22"), 8, KYIV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("days must be between 1 and 7");
+    }
+
+    private static Instant kyiv(String offsetDateTime) {
+        return ZonedDateTime.parse(offsetDateTime + "[Europe/Kyiv]").toInstant();
+    }
+}
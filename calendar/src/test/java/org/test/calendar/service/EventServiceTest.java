@@ -4,14 +4,36 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.test.calendar.cache.EventPreviewCache;
+import org.test.calendar.config.EventPreviewCacheProperties;
+import org.test.calendar.config.EventProperties;
 import org.test.calendar.exception.BusinessLogicException;
+import org.test.calendar.exception.EventConflictException;
+import org.test.calendar.exception.EventNotFoundException;
 import org.test.calendar.mapper.EventMapper;
+import org.test.calendar.model.dto.EventChangeDto;
 import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPatchDto;
 import org.test.calendar.model.dto.EventPreviewDto;
+import org.test.calendar.model.dto.PaginatedResponse;
+import org.test.calendar.model.dto.PaginationRequest;
 import org.test.calendar.model.entity.EventEntity;
+import org.test.calendar.model.projection.EventKeyProjection;
+import org.test.calendar.model.projection.EventPreviewProjection;
+import org.test.calendar.model.projection.EventRangeStamp;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.repository.EventChangeRepository;
 import org.test.calendar.repository.EventRepository;
+import org.test.calendar.stream.EventStreamHub;
+import org.test.calendar.util.EventCursor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -22,6 +44,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +56,25 @@ class EventServiceTest {
     @Mock
     private EventMapper eventMapper;
 
+    @Spy
+    private EventPreviewCache previewCache =
+            new EventPreviewCache(new EventPreviewCacheProperties(false, 100, Duration.ofMinutes(10)));
+
+    @Mock
+    private EventConflictService conflictService;
+
+    @Mock
+    private EventChangeRepository changeRepository;
+
+    @Mock
+    private EventStreamHub streamHub;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private EventProperties eventProperties = new EventProperties(Duration.ofHours(25), EventProperties.ConflictMode.NONE);
+
     @InjectMocks
     private EventService eventService;
 
@@ -42,10 +84,10 @@ class EventServiceTest {
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
         UUID generatedId = UUID.randomUUID();
 
-        EventDto inputDto = new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
+        EventDto inputDto = new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
         EventEntity entity = new EventEntity(null, "Team Meeting", "Daily standup", 
                 startAt.toInstant(), finishAt.toInstant(), "Room A");
-        EventDto outputDto = new EventDto(generatedId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
+        EventDto outputDto = new EventDto(generatedId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
 
         when(eventMapper.toEventEntity(inputDto)).thenReturn(entity);
         when(eventRepository.save(any(EventEntity.class))).thenReturn(
@@ -62,17 +104,154 @@ class EventServiceTest {
         assertThat(result.description()).isEqualTo("Daily standup");
         
         verify(eventMapper).toEventEntity(inputDto);
+        verify(conflictService).checkWrite(null, "Room A", startAt.toInstant(), finishAt.toInstant(), null);
         verify(eventRepository).save(any(EventEntity.class));
         verify(eventMapper).toEventDto(any(EventEntity.class));
+        verify(streamHub).publish(EventChangeDto.upserted(outputDto), false, startAt.toInstant());
+    }
+
+    @Test
+    void createEvent_whenConflictIsRejected_shouldNotSave() {
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+        EventDto inputDto = new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
+        UUID conflictingId = UUID.randomUUID();
+
+        when(eventMapper.toEventEntity(inputDto)).thenReturn(new EventEntity(null, "Team Meeting", "Daily standup",
+                startAt.toInstant(), finishAt.toInstant(), "Room A"));
+        doThrow(new EventConflictException(List.of(conflictingId)))
+                .when(conflictService).checkWrite(null, "Room A", startAt.toInstant(), finishAt.toInstant(), null);
+
+        assertThatThrownBy(() -> eventService.createEvent(inputDto))
+                .isInstanceOf(EventConflictException.class)
+                .hasMessageContaining(conflictingId.toString());
+
+        verify(eventRepository, never()).save(any());
     }
 
     @Test
     void deleteEvent_shouldCallRepositoryDelete() {
         UUID eventId = UUID.randomUUID();
 
+        when(eventRepository.deleteEventById(eventId)).thenReturn(1);
+
         eventService.deleteEvent(eventId);
 
-        verify(eventRepository).deleteById(eventId);
+        verify(eventRepository).deleteEventById(eventId);
+        verify(eventRepository, never()).findById(any());
+        verify(changeRepository).recordChange(eq(eventId), eq(true), any(Instant.class));
+        verify(streamHub).publish(EventChangeDto.deleted(eventId), false, (Instant) null);
+    }
+
+    @Test
+    void deleteEvent_whenStreamHasSubscribers_shouldPublishToDayOfEvent() {
+        UUID eventId = UUID.randomUUID();
+        Instant startAt = Instant.parse("2025-10-23T06:30:00Z");
+
+        when(streamHub.hasSubscribers()).thenReturn(true);
+        when(eventRepository.findKeyById(eventId)).thenReturn(Optional.of(
+                new EventKeyProjection(eventId, startAt, null, 3L)));
+        when(eventRepository.deleteEventByIdAndVersion(eventId, 3L)).thenReturn(1);
+
+        eventService.deleteEvent(eventId);
+
+        verify(streamHub).publish(EventChangeDto.deleted(eventId), false, startAt);
+        verify(eventRepository, never()).deleteEventById(any());
+    }
+
+    @Test
+    void deleteEvent_whenEventChangedSinceRead_shouldDeleteLockedRowAndPublishToItsDay() {
+        UUID eventId = UUID.randomUUID();
+        Instant readStartAt = Instant.parse("2025-10-23T06:30:00Z");
+        Instant movedStartAt = Instant.parse("2025-10-24T06:30:00Z");
+
+        when(streamHub.hasSubscribers()).thenReturn(true);
+        when(eventRepository.findKeyById(eventId)).thenReturn(Optional.of(
+                new EventKeyProjection(eventId, readStartAt, null, 3L)));
+        when(eventRepository.deleteEventByIdAndVersion(eventId, 3L)).thenReturn(0);
+        when(eventRepository.lockKeyById(eventId)).thenReturn(Optional.of(
+                new EventKeyProjection(eventId, movedStartAt, null, 4L)));
+        when(eventRepository.deleteEventById(eventId)).thenReturn(1);
+
+        eventService.deleteEvent(eventId);
+
+        verify(streamHub).publish(EventChangeDto.deleted(eventId), false, movedStartAt);
+    }
+
+    @Test
+    void deleteEvent_whenEventDeletedSinceRead_shouldThrowEventNotFoundException() {
+        UUID eventId = UUID.randomUUID();
+
+        when(streamHub.hasSubscribers()).thenReturn(true);
+        when(eventRepository.findKeyById(eventId)).thenReturn(Optional.of(
+                new EventKeyProjection(eventId, Instant.parse("2025-10-23T06:30:00Z"), null, 3L)));
+        when(eventRepository.deleteEventByIdAndVersion(eventId, 3L)).thenReturn(0);
+        when(eventRepository.lockKeyById(eventId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.deleteEvent(eventId))
+                .isInstanceOf(EventNotFoundException.class);
+
+        verify(changeRepository, never()).recordChange(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void deleteEvent_whenEventDoesNotExist_shouldThrowEventNotFoundException() {
+        UUID eventId = UUID.randomUUID();
+
+        when(eventRepository.deleteEventById(eventId)).thenReturn(0);
+
+        assertThatThrownBy(() -> eventService.deleteEvent(eventId))
+                .isInstanceOf(EventNotFoundException.class)
+                .hasMessageContaining("Event not found with id: " + eventId);
+
+        verify(changeRepository, never()).recordChange(any(), anyBoolean(), any());
+        verify(streamHub, never()).publish(any(), anyBoolean(), any(Instant[].class));
+    }
+
+    @Test
+    void deleteEvents_shouldDeleteExistingIdsInOneStatement() {
+        UUID existingId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        List<UUID> ids = List.of(existingId, UUID.randomUUID(), otherId);
+        Instant startAt = Instant.parse("2025-10-23T06:30:00Z");
+
+        when(eventRepository.lockKeysByIdIn(ids)).thenReturn(List.of(
+                new EventKeyProjection(existingId, startAt, null, 0L),
+                new EventKeyProjection(otherId, startAt.plusSeconds(86400), null, 2L)));
+        when(eventRepository.deleteEventsByIdIn(List.of(existingId, otherId))).thenReturn(2);
+
+        int deleted = eventService.deleteEvents(ids);
+
+        assertThat(deleted).isEqualTo(2);
+        verify(eventRepository).deleteEventsByIdIn(List.of(existingId, otherId));
+        verify(changeRepository).recordChanges(eq(List.of(existingId, otherId)), eq(true), any(Instant.class));
+        verify(previewCache).invalidate(List.of(startAt, startAt.plusSeconds(86400)));
+        verify(streamHub).publishResync();
+    }
+
+    @Test
+    void deleteEvents_whenNoIdExists_shouldRecordAndPublishNothing() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(eventRepository.lockKeysByIdIn(ids)).thenReturn(List.of());
+
+        assertThat(eventService.deleteEvents(ids)).isZero();
+
+        verify(eventRepository, never()).deleteEventsByIdIn(any());
+        verify(changeRepository, never()).recordChanges(any(), anyBoolean(), any());
+        verify(streamHub, never()).publishResync();
+    }
+
+    @Test
+    void deleteEventsInRange_shouldDeleteByStartAtRange() {
+        ZonedDateTime from = ZonedDateTime.parse("2025-10-20T00:00:00+03:00[Europe/Kyiv]");
+        ZonedDateTime to = ZonedDateTime.parse("2025-10-27T00:00:00+02:00[Europe/Kyiv]");
+
+        when(eventRepository.deleteEventsByStartAtInRange(from.toInstant(), to.toInstant())).thenReturn(5);
+
+        int deleted = eventService.deleteEventsInRange(from, to);
+
+        assertThat(deleted).isEqualTo(5);
+        verify(eventRepository).deleteEventsByStartAtInRange(from.toInstant(), to.toInstant());
     }
 
     @Test
@@ -83,7 +262,7 @@ class EventServiceTest {
 
         EventEntity entity = new EventEntity(eventId, "Team Meeting", "Daily standup", 
                 startAt.toInstant(), finishAt.toInstant(), "Room A");
-        EventDto dto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A");
+        EventDto dto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room A", null, null);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(entity));
         when(eventMapper.toEventDto(entity)).thenReturn(dto);
@@ -118,12 +297,12 @@ class EventServiceTest {
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
 
-        EventDto updateDto = new EventDto(null, "Updated Title", "Updated Description", startAt, finishAt, "Room B");
+        EventDto updateDto = new EventDto(null, "Updated Title", "Updated Description", startAt, finishAt, "Room B", null, null);
         EventEntity existingEntity = new EventEntity(eventId, "Old Title", "Old Description", 
                 startAt.toInstant(), finishAt.toInstant(), "Room A");
         EventEntity updatedEntity = new EventEntity(eventId, "Updated Title", "Updated Description", 
                 startAt.toInstant(), finishAt.toInstant(), "Room B");
-        EventDto resultDto = new EventDto(eventId, "Updated Title", "Updated Description", startAt, finishAt, "Room B");
+        EventDto resultDto = new EventDto(eventId, "Updated Title", "Updated Description", startAt, finishAt, "Room B", null, null);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(existingEntity));
         when(eventRepository.save(any(EventEntity.class))).thenReturn(updatedEntity);
@@ -142,13 +321,32 @@ class EventServiceTest {
         verify(eventMapper).toEventDto(updatedEntity);
     }
 
+    @Test
+    void updateEvent_whenLongerThanMaxDuration_shouldRejectWithoutSaving() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = startAt.plusHours(26);
+
+        EventDto updateDto = new EventDto(null, "Offsite", "Two day offsite", startAt, finishAt, "Room B", null, null);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(new EventEntity(eventId, "Planning",
+                "Sprint planning", startAt.toInstant(), startAt.plusHours(1).toInstant(), "Room A")));
+
+        assertThatThrownBy(() -> eventService.updateEvent(eventId, updateDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not last longer than");
+
+        verify(conflictService, never()).checkWrite(any(), any(), any(), any(), any());
+        verify(eventRepository, never()).save(any());
+        verify(changeRepository, never()).recordChange(any(), anyBoolean(), any());
+    }
+
     @Test
     void updateEvent_whenEventDoesNotExist_shouldThrowBusinessLogicException() {
         UUID eventId = UUID.randomUUID();
         ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
         ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
 
-        EventDto updateDto = new EventDto(null, "Updated Title", "Updated Description", startAt, finishAt, "Room B");
+        EventDto updateDto = new EventDto(null, "Updated Title", "Updated Description", startAt, finishAt, "Room B", null, null);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
 
@@ -161,6 +359,109 @@ class EventServiceTest {
         verify(eventMapper, never()).toEventDto(any());
     }
 
+    @Test
+    void patchEvent_withTitleOnly_shouldUpdateWithoutFetchingTimes() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T10:00:00+03:00[Europe/Kyiv]");
+
+        EventEntity patchedEntity = new EventEntity(eventId, "New Title", "Daily standup",
+                startAt.toInstant(), finishAt.toInstant(), "Room A");
+        EventDto resultDto = new EventDto(eventId, "New Title", "Daily standup", startAt, finishAt, "Room A", null, null);
+
+        when(eventRepository.patchEvent(eventId, "New Title", null, null, null, null)).thenReturn(1);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(patchedEntity));
+        when(eventMapper.toEventDto(patchedEntity)).thenReturn(resultDto);
+
+        EventDto result = eventService.patchEvent(eventId, new EventPatchDto("New Title", null, null, null, null));
+
+        assertThat(result).isEqualTo(resultDto);
+
+        verify(eventRepository, never()).findTimesById(any());
+        verify(eventRepository, never()).save(any());
+        verify(eventRepository).patchEvent(eventId, "New Title", null, null, null, null);
+    }
+
+    @Test
+    void patchEvent_withLocation_whenConflictCheckEnabled_shouldCheckStoredTimesAtNewLocation() {
+        UUID eventId = UUID.randomUUID();
+        Instant startAt = Instant.parse("2025-10-23T06:30:00Z");
+        Instant finishAt = Instant.parse("2025-10-23T07:00:00Z");
+        EventEntity patchedEntity = new EventEntity(eventId, "Team Meeting", "Daily standup", startAt, finishAt, "Room B");
+
+        when(conflictService.isEnabled()).thenReturn(true);
+        when(eventRepository.findSeriesById(eventId)).thenReturn(Optional.of(
+                new EventSeriesProjection(eventId, "Team Meeting", startAt, finishAt, "Room A", null, null, null)));
+        when(eventRepository.patchEvent(eventId, null, null, null, null, "Room B")).thenReturn(1);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(patchedEntity));
+
+        eventService.patchEvent(eventId, new EventPatchDto(null, null, null, null, "Room B"));
+
+        verify(conflictService).checkWrite(eventId, "Room B", startAt, finishAt, null);
+    }
+
+    @Test
+    void patchEvent_withFinishOnSameDay_shouldCheckAgainstStoredStart() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-23T12:00:00+03:00[Europe/Kyiv]");
+
+        when(eventRepository.findTimesById(eventId)).thenReturn(Optional.of(new EventTimesProjection(
+                Instant.parse("2025-10-23T06:30:00Z"), Instant.parse("2025-10-23T07:00:00Z"))));
+        when(eventRepository.patchEvent(eq(eventId), isNull(), isNull(), isNull(), eq(finishAt.toInstant()), isNull()))
+                .thenReturn(1);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(new EventEntity()));
+
+        eventService.patchEvent(eventId, new EventPatchDto(null, null, null, finishAt, null));
+
+        verify(eventRepository).findTimesById(eventId);
+        verify(eventRepository).patchEvent(eq(eventId), isNull(), isNull(), isNull(), eq(finishAt.toInstant()), isNull());
+    }
+
+    @Test
+    void patchEvent_withFinishOnNextDay_shouldThrowIllegalArgumentException() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime finishAt = ZonedDateTime.parse("2025-10-24T10:00:00+03:00[Europe/Kyiv]");
+
+        when(eventRepository.findTimesById(eventId)).thenReturn(Optional.of(new EventTimesProjection(
+                Instant.parse("2025-10-23T06:30:00Z"), Instant.parse("2025-10-23T07:00:00Z"))));
+
+        assertThatThrownBy(() -> eventService.patchEvent(eventId, new EventPatchDto(null, null, null, finishAt, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("same day");
+
+        verify(eventRepository, never()).patchEvent(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void patchEvent_withTimesOfRecurringEvent_shouldThrowIllegalArgumentException() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T10:30:00+03:00[Europe/Kyiv]");
+
+        when(eventRepository.findTimesById(eventId)).thenReturn(Optional.of(new EventTimesProjection(
+                Instant.parse("2025-10-23T06:30:00Z"), Instant.parse("2025-10-23T07:00:00Z"),
+                Instant.parse("2025-12-31T23:59:59Z"))));
+
+        assertThatThrownBy(() -> eventService.patchEvent(eventId,
+                new EventPatchDto(null, null, startAt, startAt.plusMinutes(30), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("recurring event");
+
+        verify(eventRepository, never()).patchEvent(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void patchEvent_whenEventDoesNotExist_shouldThrowEventNotFoundException() {
+        UUID eventId = UUID.randomUUID();
+
+        when(eventRepository.patchEvent(eventId, "New Title", null, null, null, null)).thenReturn(0);
+
+        assertThatThrownBy(() -> eventService.patchEvent(eventId, new EventPatchDto("New Title", null, null, null, null)))
+                .isInstanceOf(EventNotFoundException.class)
+                .hasMessageContaining("Event not found with id: " + eventId);
+
+        verify(eventRepository, never()).findById(any());
+    }
+
     @Test
     void getEventPreviewsForMonth_shouldReturnEventPreviewsForSpecifiedMonth() {
         ZonedDateTime date = ZonedDateTime.of(2025, 10, 15, 0, 0, 0, 0, ZoneId.of("UTC"));
@@ -171,11 +472,11 @@ class EventServiceTest {
         UUID id1 = UUID.randomUUID();
         UUID id2 = UUID.randomUUID();
         
-        List<EventEntity> entities = List.of(
-                new EventEntity(id1, "Event 1", "Description 1",
+        List<EventPreviewProjection> projections = List.of(
+                new EventPreviewProjection(id1, "Event 1",
                         Instant.parse("2025-10-10T10:00:00Z"),
                         Instant.parse("2025-10-10T11:00:00Z"), "Location 1"),
-                new EventEntity(id2, "Event 2", "Description 2",
+                new EventPreviewProjection(id2, "Event 2",
                         Instant.parse("2025-10-20T14:00:00Z"),
                         Instant.parse("2025-10-20T15:00:00Z"), "Location 2")
         );
@@ -187,17 +488,21 @@ class EventServiceTest {
                 ZonedDateTime.parse("2025-10-20T14:00:00Z"),
                 ZonedDateTime.parse("2025-10-20T15:00:00Z"), "Location 2");
 
-        when(eventRepository.findByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(entities);
-        when(eventMapper.toEventPreviewDto(entities.get(0))).thenReturn(preview1);
-        when(eventMapper.toEventPreviewDto(entities.get(1))).thenReturn(preview2);
+        when(eventRepository.findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(projections);
+        when(eventMapper.toEventPreviewDto(projections.get(0))).thenReturn(preview1);
+        when(eventMapper.toEventPreviewDto(projections.get(1))).thenReturn(preview2);
 
         List<EventPreviewDto> result = eventService.getEventPreviewsForMonth(date);
 
         assertThat(result).hasSize(2);
         assertThat(result).containsExactly(preview1, preview2);
         
-        verify(eventRepository).findByStartAtBetween(startOfMonth, startOfNextMonth);
-        verify(eventMapper, times(2)).toEventPreviewDto(any(EventEntity.class));
+        verify(eventRepository).findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth);
+        verify(eventRepository, never()).findByStartAtBetween(any(), any());
+        verify(eventMapper, times(2)).toEventPreviewDto(any(EventPreviewProjection.class));
+        // Both queries run in one read-only transaction
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
     }
 
     @Test
@@ -207,14 +512,14 @@ class EventServiceTest {
         Instant startOfMonth = Instant.parse("2025-12-01T00:00:00Z");
         Instant startOfNextMonth = Instant.parse("2026-01-01T00:00:00Z");
 
-        when(eventRepository.findByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(List.of());
+        when(eventRepository.findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(List.of());
 
         List<EventPreviewDto> result = eventService.getEventPreviewsForMonth(date);
 
         assertThat(result).isEmpty();
         
-        verify(eventRepository).findByStartAtBetween(startOfMonth, startOfNextMonth);
-        verify(eventMapper, never()).toEventPreviewDto(any());
+        verify(eventRepository).findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth);
+        verify(eventMapper, never()).toEventPreviewDto(any(EventPreviewProjection.class));
     }
 
     @Test
@@ -224,13 +529,207 @@ class EventServiceTest {
         Instant startOfMonth = ZonedDateTime.of(2025, 10, 1, 0, 0, 0, 0, ZoneId.of("Europe/Kyiv")).toInstant();
         Instant startOfNextMonth = ZonedDateTime.of(2025, 11, 1, 0, 0, 0, 0, ZoneId.of("Europe/Kyiv")).toInstant();
 
-        when(eventRepository.findByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(List.of());
+        when(eventRepository.findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth)).thenReturn(List.of());
 
         List<EventPreviewDto> result = eventService.getEventPreviewsForMonth(date);
 
         assertThat(result).isEmpty();
         
-        verify(eventRepository).findByStartAtBetween(startOfMonth, startOfNextMonth);
+        verify(eventRepository).findPreviewsByStartAtBetween(startOfMonth, startOfNextMonth);
+    }
+
+    @Test
+    void getTaggedEventById_shouldTagEventWithVersionOfReturnedEntity() {
+        UUID eventId = UUID.randomUUID();
+        ZonedDateTime startAt = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+        EventEntity entity = new EventEntity(eventId, "Team Meeting", "Daily standup",
+                startAt.toInstant(), startAt.plusMinutes(30).toInstant(), "Room A");
+        entity.setVersion(7L);
+        EventDto dto = new EventDto(eventId, "Team Meeting", "Daily standup", startAt, startAt.plusMinutes(30),
+                "Room A", null, null);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(entity));
+        when(eventMapper.toEventDto(entity)).thenReturn(dto);
+
+        EventService.TaggedEvent tagged = eventService.getTaggedEventById(eventId);
+
+        assertThat(tagged.event()).isSameAs(dto);
+        assertThat(tagged.etag()).isEqualTo("\"7\"");
+    }
+
+    @Test
+    void getTaggedEventById_whenEventDoesNotExist_shouldThrowEventNotFoundException() {
+        UUID eventId = UUID.randomUUID();
+        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.getTaggedEventById(eventId))
+                .isInstanceOf(EventNotFoundException.class);
     }
-}
 
+    @Test
+    void getEventPreviewsForMonthETag_shouldUseStampOfMonthRange() {
+        ZonedDateTime date = ZonedDateTime.of(2025, 10, 15, 0, 0, 0, 0, ZoneId.of("Europe/Kyiv"));
+        Instant startOfMonth = ZonedDateTime.of(2025, 10, 1, 0, 0, 0, 0, ZoneId.of("Europe/Kyiv")).toInstant();
+        Instant startOfNextMonth = ZonedDateTime.of(2025, 11, 1, 0, 0, 0, 0, ZoneId.of("Europe/Kyiv")).toInstant();
+        Instant lastUpdatedAt = Instant.ofEpochSecond(0x68f0, 500);
+
+        when(eventRepository.findStampByStartAtBetween(startOfMonth, startOfNextMonth))
+                .thenReturn(new EventRangeStamp(3L, 10L, lastUpdatedAt));
+        when(eventRepository.findSeriesStampBetween(startOfMonth, startOfNextMonth))
+                .thenReturn(new EventRangeStamp(0L, 0L, null));
+
+        assertThat(eventService.getEventPreviewsForMonthETag(date)).isEqualTo("\"3-a-68f0.1f4\"");
+        verify(eventRepository, never()).findPreviewsByStartAtBetween(any(), any());
+    }
+
+    @Test
+    void getEventPreviewsForMonthETag_shouldIncludeSeriesStartedBeforeMonth() {
+        ZonedDateTime date = ZonedDateTime.parse("2025-10-15T00:00:00Z");
+        Instant startOfMonth = Instant.parse("2025-10-01T00:00:00Z");
+        Instant startOfNextMonth = Instant.parse("2025-11-01T00:00:00Z");
+
+        when(eventRepository.findStampByStartAtBetween(startOfMonth, startOfNextMonth))
+                .thenReturn(new EventRangeStamp(3L, 10L, Instant.ofEpochSecond(0x68f0, 500)));
+        when(eventRepository.findSeriesStampBetween(startOfMonth, startOfNextMonth))
+                .thenReturn(new EventRangeStamp(1L, 2L, Instant.ofEpochSecond(0x6900)));
+
+        assertThat(eventService.getEventPreviewsForMonthETag(date)).isEqualTo("\"4-c-6900.0\"");
+    }
+
+    @Test
+    void getEventPreviewsForMonth_withSeries_shouldExpandOccurrencesWithinMonthOnly() {
+        UUID seriesId = UUID.randomUUID();
+        // Weekly since September; its first occurrence is the row itself and not in this month
+        EventSeriesProjection series = new EventSeriesProjection(seriesId, "Standup",
+                Instant.parse("2025-09-04T06:30:00Z"), Instant.parse("2025-09-04T07:00:00Z"), null,
+                "FREQ=WEEKLY;BYDAY=TH", "Europe/Kyiv", "2025-10-16");
+
+        when(eventRepository.findSeriesOverlapping(any(), any())).thenReturn(List.of(series));
+        when(eventMapper.toEventPreviewDto(any(EventSeriesProjection.class), any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> new EventPreviewDto(seriesId, "Standup",
+                        invocation.<Instant>getArgument(1).atZone(ZoneId.of("UTC")),
+                        invocation.<Instant>getArgument(2).atZone(ZoneId.of("UTC")), null));
+
+        List<EventPreviewDto> result = eventService.getEventPreviewsForMonth(ZonedDateTime.parse("2025-10-15T00:00:00Z"));
+
+        // 09:30 in Kyiv is 06:30 UTC until the switch to winter time on October 26
+        assertThat(result).extracting(preview -> preview.startAt().toInstant()).containsExactly(
+                Instant.parse("2025-10-02T06:30:00Z"),
+                Instant.parse("2025-10-09T06:30:00Z"),
+                Instant.parse("2025-10-23T06:30:00Z"),
+                Instant.parse("2025-10-30T07:30:00Z"));
+        assertThat(result.getLast().finishAt().toInstant()).isEqualTo(Instant.parse("2025-10-30T08:00:00Z"));
+    }
+
+    @Test
+    void getEventPreviews_whenMoreRowsThanPageSize_shouldReturnPageWithNextCursor() {
+        ZonedDateTime from = ZonedDateTime.parse("2025-10-01T00:00:00Z");
+        ZonedDateTime to = ZonedDateTime.parse("2025-11-01T00:00:00Z");
+
+        EventPreviewProjection first = new EventPreviewProjection(UUID.randomUUID(), "Event 1",
+                Instant.parse("2025-10-10T10:00:00Z"), Instant.parse("2025-10-10T11:00:00Z"), "Location 1");
+        EventPreviewProjection second = new EventPreviewProjection(UUID.randomUUID(), "Event 2",
+                Instant.parse("2025-10-11T10:00:00Z"), Instant.parse("2025-10-11T11:00:00Z"), "Location 2");
+        EventPreviewProjection third = new EventPreviewProjection(UUID.randomUUID(), "Event 3",
+                Instant.parse("2025-10-12T10:00:00Z"), Instant.parse("2025-10-12T11:00:00Z"), "Location 3");
+
+        when(eventRepository.findPreviewPage(from.toInstant(), to.toInstant(), Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(eventMapper.toEventPreviewDto(any(EventPreviewProjection.class)))
+                .thenReturn(mock(EventPreviewDto.class));
+
+        PaginatedResponse<EventPreviewDto> result = eventService.getEventPreviews(from, to,
+                new PaginationRequest(0, 2, null, false));
+
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.first()).isTrue();
+        assertThat(result.last()).isFalse();
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.totalPages()).isNull();
+        assertThat(EventCursor.decode(result.nextCursor()))
+                .isEqualTo(new EventCursor(second.startAt(), second.id()));
+
+        verify(eventMapper, times(2)).toEventPreviewDto(any(EventPreviewProjection.class));
+        verify(eventRepository, never()).countByStartAtGreaterThanEqualAndStartAtLessThan(any(), any());
+    }
+
+    @Test
+    void getEventPreviews_withCursor_shouldSeekAfterCursorAndReturnLastPage() {
+        ZonedDateTime from = ZonedDateTime.parse("2025-10-01T00:00:00Z");
+        ZonedDateTime to = ZonedDateTime.parse("2025-11-01T00:00:00Z");
+        EventCursor cursor = new EventCursor(Instant.parse("2025-10-11T10:00:00Z"), UUID.randomUUID());
+
+        EventPreviewProjection row = new EventPreviewProjection(UUID.randomUUID(), "Event 3",
+                Instant.parse("2025-10-12T10:00:00Z"), Instant.parse("2025-10-12T11:00:00Z"), "Location 3");
+
+        when(eventRepository.findPreviewPageAfter(from.toInstant(), to.toInstant(),
+                cursor.startAt(), cursor.id(), Limit.of(3)))
+                .thenReturn(List.of(row));
+        when(eventRepository.countByStartAtGreaterThanEqualAndStartAtLessThan(from.toInstant(), to.toInstant()))
+                .thenReturn(3L);
+
+        PaginatedResponse<EventPreviewDto> result = eventService.getEventPreviews(from, to,
+                new PaginationRequest(1, 2, cursor.encode(), true));
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.page()).isEqualTo(1);
+        assertThat(result.first()).isFalse();
+        assertThat(result.last()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalElements()).isEqualTo(3L);
+        assertThat(result.totalPages()).isEqualTo(2);
+
+        verify(eventRepository, never()).findPreviewPage(any(), any(), any());
+    }
+
+    @Test
+    void getEventPreviews_withSeries_shouldMergeOccurrencesAfterCursorInPageOrder() {
+        ZonedDateTime from = ZonedDateTime.parse("2025-10-01T00:00:00Z");
+        ZonedDateTime to = ZonedDateTime.parse("2025-11-01T00:00:00Z");
+        UUID seriesId = UUID.randomUUID();
+        EventCursor cursor = new EventCursor(Instant.parse("2025-10-02T09:00:00Z"), seriesId);
+
+        EventPreviewProjection row = new EventPreviewProjection(UUID.randomUUID(), "Review",
+                Instant.parse("2025-10-03T12:00:00Z"), Instant.parse("2025-10-03T13:00:00Z"), null);
+        EventSeriesProjection series = new EventSeriesProjection(seriesId, "Standup",
+                Instant.parse("2025-10-01T09:00:00Z"), Instant.parse("2025-10-01T09:15:00Z"), null,
+                "FREQ=DAILY;COUNT=10", "UTC", null);
+
+        when(eventRepository.findPreviewPageAfter(from.toInstant(), to.toInstant(),
+                cursor.startAt(), cursor.id(), Limit.of(4)))
+                .thenReturn(List.of(row));
+        when(eventRepository.findSeriesOverlapping(from.toInstant(), to.toInstant())).thenReturn(List.of(series));
+        when(eventRepository.countByStartAtGreaterThanEqualAndStartAtLessThan(from.toInstant(), to.toInstant()))
+                .thenReturn(2L);
+        when(eventMapper.toEventPreviewDto(any(EventPreviewProjection.class)))
+                .thenAnswer(invocation -> {
+                    EventPreviewProjection preview = invocation.getArgument(0);
+                    return new EventPreviewDto(preview.id(), preview.title(),
+                            preview.startAt().atZone(ZoneId.of("UTC")), preview.finishAt().atZone(ZoneId.of("UTC")), null);
+                });
+
+        PaginatedResponse<EventPreviewDto> result = eventService.getEventPreviews(from, to,
+                new PaginationRequest(1, 3, cursor.encode(), true));
+
+        assertThat(result.content()).extracting(EventPreviewDto::title)
+                .containsExactly("Standup", "Review", "Standup");
+        assertThat(result.content()).extracting(preview -> preview.startAt().toInstant()).containsExactly(
+                Instant.parse("2025-10-03T09:00:00Z"),
+                Instant.parse("2025-10-03T12:00:00Z"),
+                Instant.parse("2025-10-04T09:00:00Z"));
+        assertThat(EventCursor.decode(result.nextCursor()))
+                .isEqualTo(new EventCursor(Instant.parse("2025-10-04T09:00:00Z"), seriesId));
+        // Two rows plus the nine occurrences after the first one
+        assertThat(result.totalElements()).isEqualTo(11L);
+    }
+
+    @Test
+    void getEventPreviews_whenRangeIsEmpty_shouldThrowIllegalArgumentException() {
+        ZonedDateTime date = ZonedDateTime.parse("2025-10-01T00:00:00Z");
+
+        assertThatThrownBy(() -> eventService.getEventPreviews(date, date, new PaginationRequest(0, 10, null, false)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from must be before to");
+
+        verifyNoInteractions(eventRepository);
+    }
+}
@@ -0,0 +1,140 @@
+package org.test.calendar.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.test.calendar.config.EventProperties;
+import org.test.calendar.config.FreeBusyProperties;
+import org.test.calendar.model.dto.FreeBusyResponse;
+import org.test.calendar.model.projection.EventSeriesProjection;
+import org.test.calendar.model.projection.EventTimesProjection;
+import org.test.calendar.repository.EventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FreeBusyServiceTest {
+
+    private static final ZonedDateTime FROM = ZonedDateTime.parse("2025-10-23T00:00:00+03:00[Europe/Kyiv]");
+    private static final ZonedDateTime TO = ZonedDateTime.parse("2025-10-24T00:00:00+03:00[Europe/Kyiv]");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private FreeBusyProperties properties = new FreeBusyProperties(Duration.ofDays(62));
+
+    @Spy
+    private EventProperties eventProperties = new EventProperties(Duration.ofHours(25), EventProperties.ConflictMode.NONE);
+
+    @InjectMocks
+    private FreeBusyService freeBusyService;
+
+    @Test
+    void getFreeBusy_shouldMergeOverlappingAndTouchingEventsIntoBlocks() {
+        when(eventRepository.streamTimesOverlapping(
+                FROM.toInstant().minus(Duration.ofHours(25)), FROM.toInstant(), TO.toInstant()))
+                .thenReturn(Stream.of(
+                        times("2025-10-23T09:00:00+03:00", "2025-10-23T10:00:00+03:00"),
+                        times("2025-10-23T09:30:00+03:00", "2025-10-23T11:00:00+03:00"),
+                        times("2025-10-23T09:45:00+03:00", "2025-10-23T10:15:00+03:00"),
+                        times("2025-10-23T11:00:00+03:00", "2025-10-23T11:30:00+03:00"),
+                        times("2025-10-23T14:00:00+03:00", "2025-10-23T15:00:00+03:00")
+                ));
+
+        FreeBusyResponse response = freeBusyService.getFreeBusy(FROM, TO, null);
+
+        assertThat(response.slots()).isNull();
+        assertThat(response.busy()).containsExactly(
+                interval("2025-10-23T09:00:00+03:00", "2025-10-23T11:30:00+03:00"),
+                interval("2025-10-23T14:00:00+03:00", "2025-10-23T15:00:00+03:00")
+        );
+    }
+
+    @Test
+    void getFreeBusy_shouldClipEventsToRange() {
+        when(eventRepository.streamTimesOverlapping(any(), any(), any())).thenReturn(Stream.of(
+                times("2025-10-22T23:00:00+03:00", "2025-10-23T01:00:00+03:00"),
+                times("2025-10-23T23:30:00+03:00", "2025-10-24T00:30:00+03:00")
+        ));
+
+        FreeBusyResponse response = freeBusyService.getFreeBusy(FROM, TO, null);
+
+        assertThat(response.busy()).containsExactly(
+                interval("2025-10-23T00:00:00+03:00", "2025-10-23T01:00:00+03:00"),
+                interval("2025-10-23T23:30:00+03:00", "2025-10-24T00:00:00+03:00")
+        );
+    }
+
+    @Test
+    void getFreeBusy_shouldInterleaveOccurrencesOfSeriesStartedBeforeRange() {
+        when(eventRepository.findSeriesOverlapping(FROM.toInstant().minus(Duration.ofHours(25)), TO.toInstant()))
+                .thenReturn(List.of(new EventSeriesProjection(UUID.randomUUID(), "Standup",
+                        Instant.parse("2025-10-01T07:00:00Z"), Instant.parse("2025-10-01T07:15:00Z"), "Room A",
+                        "FREQ=DAILY", "Europe/Kyiv", null)));
+        when(eventRepository.streamTimesOverlapping(any(), any(), any())).thenReturn(Stream.of(
+                times("2025-10-23T09:00:00+03:00", "2025-10-23T09:45:00+03:00")
+        ));
+
+        FreeBusyResponse response = freeBusyService.getFreeBusy(FROM, TO, null);
+
+        assertThat(response.busy()).containsExactly(
+                interval("2025-10-23T09:00:00+03:00", "2025-10-23T09:45:00+03:00"),
+                interval("2025-10-23T10:00:00+03:00", "2025-10-23T10:15:00+03:00")
+        );
+    }
+
+    @Test
+    void getFreeBusy_withSlotMinutes_shouldMarkEverySlotTouchedByABusyBlock() {
+        when(eventRepository.streamTimesOverlapping(any(), any(), any())).thenReturn(Stream.of(
+                times("2025-10-23T09:00:00+03:00", "2025-10-23T09:20:00+03:00"),
+                times("2025-10-23T10:05:00+03:00", "2025-10-23T10:10:00+03:00")
+        ));
+
+        FreeBusyResponse response = freeBusyService.getFreeBusy(FROM, TO, 15);
+
+        assertThat(response.busy()).isNull();
+        assertThat(response.slotMinutes()).isEqualTo(15);
+        assertThat(response.slotCount()).isEqualTo(96);
+        BitSet slots = BitSet.valueOf(Base64.getDecoder().decode(response.slots()));
+        assertThat(slots.stream().toArray()).containsExactly(36, 37, 40);
+    }
+
+    @Test
+    void getFreeBusy_whenRangeIsTooLong_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> freeBusyService.getFreeBusy(FROM, FROM.plusDays(63), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getFreeBusy_withInvalidSlotMinutes_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> freeBusyService.getFreeBusy(FROM, TO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EventTimesProjection times(String startAt, String finishAt) {
+        return new EventTimesProjection(Instant.from(ZonedDateTime.parse(startAt)), Instant.from(ZonedDateTime.parse(finishAt)));
+    }
+
+    private static FreeBusyResponse.Interval interval(String startAt, String finishAt) {
+        return new FreeBusyResponse.Interval(
+                ZonedDateTime.parse(startAt).withZoneSameInstant(FROM.getZone()),
+                ZonedDateTime.parse(finishAt).withZoneSameInstant(FROM.getZone()));
+    }
+}
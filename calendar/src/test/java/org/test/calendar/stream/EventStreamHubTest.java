@@ -0,0 +1,183 @@
+package org.test.calendar.stream;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.test.calendar.config.EventStreamProperties;
+import org.test.calendar.exception.StreamCapacityExceededException;
+import org.test.calendar.model.dto.EventChangeDto;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventStreamHubTest {
+
+    private static final Instant OCTOBER = Instant.parse("2025-10-01T00:00:00Z");
+    private static final Instant NOVEMBER = Instant.parse("2025-11-01T00:00:00Z");
+    private static final Instant DECEMBER = Instant.parse("2025-12-01T00:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private EventStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new EventStreamHub(new EventStreamProperties(2, 2, 100, Duration.ofMinutes(1), Duration.ofMinutes(30),
+                Duration.ofDays(62)), JsonMapper.builder().findAndAddModules().build());
+        hub.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void publish_shouldPushChangeToSubscribersWhoseWindowContainsStart() throws Exception {
+        RecordingEmitter october = subscribe(OCTOBER, NOVEMBER, null);
+        RecordingEmitter november = subscribe(NOVEMBER, DECEMBER, null);
+        UUID octoberId = UUID.randomUUID();
+        UUID novemberId = UUID.randomUUID();
+        UUID seriesId = UUID.randomUUID();
+
+        hub.publish(EventChangeDto.deleted(octoberId), false, Instant.parse("2025-10-31T23:59:00Z"));
+        hub.publish(EventChangeDto.deleted(novemberId), false, NOVEMBER);
+        hub.publish(EventChangeDto.deleted(seriesId), true, Instant.parse("2025-01-06T09:00:00Z"));
+
+        assertThat(october.nextEvent()).startsWith("event:change\ndata:").contains(octoberId.toString());
+        assertThat(october.nextEvent()).contains(seriesId.toString());
+        assertThat(november.nextEvent()).contains(novemberId.toString());
+        assertThat(november.nextEvent()).contains(seriesId.toString());
+    }
+
+    @Test
+    void publish_whenTransactionRollsBack_shouldNotPush() throws Exception {
+        RecordingEmitter emitter = subscribe(OCTOBER, NOVEMBER, null);
+        UUID rolledBackId = UUID.randomUUID();
+        UUID committedId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hub.publish(EventChangeDto.deleted(rolledBackId), false, OCTOBER);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        hub.publish(EventChangeDto.deleted(committedId), false, OCTOBER);
+
+        assertThat(emitter.nextEvent()).contains(committedId.toString());
+    }
+
+    @Test
+    void publish_whenSubscriberIsSlow_shouldReplaceItsBacklogWithResync() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(OCTOBER, NOVEMBER, release);
+
+        for (int i = 0; i < 5; i++) {
+            hub.publish(EventChangeDto.deleted(UUID.randomUUID()), false, OCTOBER);
+        }
+        // With two slots, the third and the fifth change overflow the queue
+        await(() -> registry.get("calendar.stream.resyncs").tag("cause", "slow-subscriber")
+                .functionCounter().count() == 2);
+        release.countDown();
+        UUID laterId = UUID.randomUUID();
+        hub.publish(EventChangeDto.deleted(laterId), false, OCTOBER);
+
+        assertThat(slow.nextEvent()).isEqualTo("event:resync\ndata:{}\n\n");
+        assertThat(slow.nextEvent()).contains(laterId.toString());
+    }
+
+    @Test
+    void subscribe_whenSendFails_shouldUnsubscribe() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        emitter.failing = true;
+
+        hub.subscribe(OCTOBER, NOVEMBER, emitter);
+
+        await(() -> !hub.hasSubscribers());
+        assertThat(registry.get("calendar.stream.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    void subscribe_whenRangeOrCapacityIsExceeded_shouldThrow() {
+        assertThatThrownBy(() -> subscribe(NOVEMBER, OCTOBER, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from must be before to");
+        assertThatThrownBy(() -> subscribe(OCTOBER, Instant.parse("2026-01-01T00:00:00Z"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Range must not be longer than 62 days");
+
+        subscribe(OCTOBER, NOVEMBER, null);
+        subscribe(OCTOBER, NOVEMBER, null);
+        assertThatThrownBy(() -> subscribe(OCTOBER, NOVEMBER, null))
+                .isInstanceOf(StreamCapacityExceededException.class);
+    }
+
+    private RecordingEmitter subscribe(Instant from, Instant to, CountDownLatch release) {
+        RecordingEmitter emitter = new RecordingEmitter(release);
+        hub.subscribe(from, to, emitter);
+        return emitter;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 5 seconds").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+        private volatile boolean failing;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                if (release != null) {
+                    release.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData()));
+            sent.add(text.toString());
+        }
+
+        // The next event that is not a comment
+        private String nextEvent() throws InterruptedException {
+            for (String text = sent.poll(5, TimeUnit.SECONDS); text != null; text = sent.poll(5, TimeUnit.SECONDS)) {
+                if (!text.startsWith(":")) {
+                    return text;
+                }
+            }
+            throw new AssertionError("No event sent within 5 seconds");
+        }
+    }
+}
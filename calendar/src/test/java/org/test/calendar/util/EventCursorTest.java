@@ -0,0 +1,28 @@
+package org.test.calendar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCursorTest {
+
+    @Test
+    void decode_whenCursorWasEncoded_shouldReturnSamePosition() {
+        EventCursor cursor = new EventCursor(Instant.parse("2025-10-15T08:00:00.123Z"), UUID.randomUUID());
+
+        EventCursor result = EventCursor.decode(cursor.encode());
+
+        assertThat(result).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_whenCursorIsMalformed_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> EventCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,73 @@
+package org.test.calendar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void randomUuid_shouldHaveVersion7AndRfcVariant() {
+        UUID uuid = UuidV7.randomUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void randomUuid_shouldEmbedClockMillis() {
+        Instant now = Instant.parse("2030-01-01T00:00:00Z");
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+        // A generator of its own: the default one would keep running ahead of the wall clock after this test
+        UUID uuid = new UuidV7(clock).next();
+
+        assertThat(UuidV7.timestampMillis(uuid)).isGreaterThanOrEqualTo(now.toEpochMilli());
+    }
+
+    @Test
+    void randomUuid_afterGeneratorWithFutureClock_shouldStillEmbedWallClock() {
+        new UuidV7(Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC)).next();
+
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void randomUuid_withinSameMillisecond_shouldBeStrictlyIncreasingInByteOrder() {
+        UuidV7 generator = new UuidV7(Clock.fixed(Instant.parse("2031-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        byte[] previous = toBytes(generator.next());
+        for (int i = 0; i < 10_000; i++) {
+            byte[] next = toBytes(generator.next());
+            assertThat(Arrays.compareUnsigned(previous, next)).isNegative();
+            previous = next;
+        }
+    }
+
+    @Test
+    void timestampMillis_whenUuidIsNotVersion7_shouldThrowIllegalArgumentException() {
+        UUID uuid = UUID.randomUUID();
+
+        assertThatThrownBy(() -> UuidV7.timestampMillis(uuid))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a version 7 UUID");
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
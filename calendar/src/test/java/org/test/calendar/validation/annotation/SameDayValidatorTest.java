@@ -0,0 +1,88 @@
+package org.test.calendar.validation.annotation;
+
+import org.junit.jupiter.api.Test;
+import org.test.calendar.model.dto.EventDto;
+import org.test.calendar.model.dto.EventPatchDto;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SameDayValidatorTest {
+
+    private static final ZonedDateTime START_AT = ZonedDateTime.parse("2025-10-23T09:30:00+03:00[Europe/Kyiv]");
+
+    @Test
+    void isValid_whenSameDayAndStartBeforeFinish_shouldReturnTrue() {
+        SameDayValidator validator = validatorFor(EventDto.class);
+
+        assertThat(validator.isValid(event(START_AT, START_AT.plusMinutes(30)), null)).isTrue();
+    }
+
+    @Test
+    void isValid_whenFinishIsOnNextDay_shouldReturnFalse() {
+        SameDayValidator validator = validatorFor(EventDto.class);
+
+        assertThat(validator.isValid(event(START_AT, START_AT.plusDays(1)), null)).isFalse();
+    }
+
+    @Test
+    void isValid_whenFinishIsBeforeStart_shouldReturnFalse() {
+        SameDayValidator validator = validatorFor(EventDto.class);
+
+        assertThat(validator.isValid(event(START_AT, START_AT.minusMinutes(1)), null)).isFalse();
+    }
+
+    @Test
+    void isValid_whenTimestampIsMissing_shouldReturnTrue() {
+        SameDayValidator validator = validatorFor(EventPatchDto.class);
+
+        assertThat(validator.isValid(new EventPatchDto(null, null, START_AT, null, null), null)).isTrue();
+        assertThat(validator.isValid(null, null)).isTrue();
+    }
+
+    @Test
+    void isValid_forSameDayInDifferentMonthsAndYears_shouldReturnFalse() {
+        assertThat(SameDayValidator.isSameDayAndOrdered(START_AT, START_AT.plusMonths(1))).isFalse();
+        assertThat(SameDayValidator.isSameDayAndOrdered(START_AT, START_AT.plusYears(1))).isFalse();
+    }
+
+    @Test
+    void isValid_whenFinishIsInAnotherZone_shouldCompareEachDateInItsOwnZone() {
+        SameDayValidator validator = validatorFor(EventDto.class);
+        ZonedDateTime earlyStartAt = ZonedDateTime.parse("2025-10-23T01:00:00+03:00[Europe/Kyiv]");
+
+        assertThat(validator.isValid(event(START_AT, START_AT.plusMinutes(30).withZoneSameInstant(ZoneOffset.UTC)), null))
+                .isTrue();
+        // 2025-10-22T22:30Z: the same day in Kyiv, but the day before in UTC
+        assertThat(validator.isValid(event(earlyStartAt, earlyStartAt.plusMinutes(30).withZoneSameInstant(ZoneOffset.UTC)), null))
+                .isFalse();
+        assertThat(validator.isValid(event(
+                ZonedDateTime.parse("2025-10-23T00:30:00+14:00[Pacific/Kiritimati]"),
+                ZonedDateTime.parse("2025-10-23T23:30:00-10:00[Pacific/Honolulu]")), null))
+                .isTrue();
+    }
+
+    @Test
+    void isValid_whenFieldDoesNotExist_shouldReturnFalse() {
+        SameDayValidator validator = new SameDayValidator();
+        validator.initialize(MissingField.class.getAnnotation(SameDay.class));
+
+        assertThat(validator.isValid(new MissingField(START_AT), null)).isFalse();
+    }
+
+    private static SameDayValidator validatorFor(Class<?> type) {
+        SameDayValidator validator = new SameDayValidator();
+        validator.initialize(type.getAnnotation(SameDay.class));
+        return validator;
+    }
+
+    private static EventDto event(ZonedDateTime startAt, ZonedDateTime finishAt) {
+        return new EventDto(null, "Team Meeting", "Daily standup", startAt, finishAt, null, null, null);
+    }
+
+    @SameDay(fromField = "startAt", toField = "endAt")
+    private record MissingField(ZonedDateTime startAt) {
+    }
+}